@@ -0,0 +1,52 @@
+package com.mapbox.maps.pigeons.benchmark;
+
+import com.mapbox.maps.pigeons.FLTMapInterfaces;
+import io.flutter.plugin.common.MessageCodec;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** `_CameraManager.setCamera` requests and `getCameraState` replies. */
+@State(Scope.Benchmark)
+public class CameraManagerCodecBenchmark {
+  private final MessageCodec<Object> codec = FLTMapInterfaces._CameraManager.getCodec();
+
+  private ArrayList<Object> setCameraRequest;
+  private ByteBuffer encodedSetCameraRequest;
+  private ArrayList<Object> cameraStateReply;
+  private ByteBuffer encodedCameraStateReply;
+
+  @Setup
+  public void setup() {
+    setCameraRequest = new ArrayList<>(Collections.singletonList(Payloads.cameraOptions()));
+    encodedSetCameraRequest = Payloads.encoded(codec, setCameraRequest);
+    cameraStateReply = new ArrayList<>(Collections.singletonList(Payloads.cameraState()));
+    encodedCameraStateReply = Payloads.encoded(codec, cameraStateReply);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeCameraOptions() {
+    return codec.encodeMessage(setCameraRequest);
+  }
+
+  @Benchmark
+  public Object decodeCameraOptions() {
+    encodedSetCameraRequest.rewind();
+    return codec.decodeMessage(encodedSetCameraRequest);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeCameraState() {
+    return codec.encodeMessage(cameraStateReply);
+  }
+
+  @Benchmark
+  public Object decodeCameraState() {
+    encodedCameraStateReply.rewind();
+    return codec.decodeMessage(encodedCameraStateReply);
+  }
+}
@@ -0,0 +1,41 @@
+package com.mapbox.maps.pigeons.benchmark;
+
+import com.mapbox.maps.pigeons.FLTMapInterfaces;
+import io.flutter.plugin.common.MessageCodec;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** `_MapInterface.queryRenderedFeatures` replies. */
+@State(Scope.Benchmark)
+public class MapInterfaceCodecBenchmark {
+  private final MessageCodec<Object> codec = FLTMapInterfaces._MapInterface.getCodec();
+
+  @Param({"10", "1000"})
+  public int featureCount;
+
+  private ArrayList<Object> queryReply;
+  private ByteBuffer encodedQueryReply;
+
+  @Setup
+  public void setup() {
+    queryReply = new ArrayList<>(Collections.singletonList(Payloads.queriedRenderedFeatures(featureCount)));
+    encodedQueryReply = Payloads.encoded(codec, queryReply);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeQueriedRenderedFeatures() {
+    return codec.encodeMessage(queryReply);
+  }
+
+  @Benchmark
+  public Object decodeQueriedRenderedFeatures() {
+    encodedQueryReply.rewind();
+    return codec.decodeMessage(encodedQueryReply);
+  }
+}
@@ -0,0 +1,170 @@
+package com.mapbox.maps.pigeons.benchmark;
+
+import com.mapbox.maps.pigeons.FLTMapInterfaces;
+import com.mapbox.maps.pigeons.FLTPointAnnotationMessager;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/** Payloads shaped like the messages the plugin exchanges with Flutter. */
+final class Payloads {
+
+  private Payloads() {}
+
+  static Map<String, Object> point(double longitude, double latitude) {
+    Map<String, Object> point = new HashMap<>();
+    point.put("type", "Point");
+    point.put("coordinates", Arrays.asList(longitude, latitude));
+    return point;
+  }
+
+  static FLTMapInterfaces.MbxEdgeInsets edgeInsets() {
+    return new FLTMapInterfaces.MbxEdgeInsets.Builder()
+        .setTop(10.0)
+        .setLeft(20.0)
+        .setBottom(30.0)
+        .setRight(40.0)
+        .build();
+  }
+
+  static FLTMapInterfaces.CameraOptions cameraOptions() {
+    return new FLTMapInterfaces.CameraOptions.Builder()
+        .setCenter(point(24.9384, 60.1699))
+        .setPadding(edgeInsets())
+        .setAnchor(new FLTMapInterfaces.ScreenCoordinate.Builder().setX(120.0).setY(240.0).build())
+        .setZoom(14.5)
+        .setBearing(42.0)
+        .setPitch(60.0)
+        .build();
+  }
+
+  static FLTMapInterfaces.CameraState cameraState() {
+    return new FLTMapInterfaces.CameraState.Builder()
+        .setCenter(point(24.9384, 60.1699))
+        .setPadding(edgeInsets())
+        .setZoom(14.5)
+        .setBearing(42.0)
+        .setPitch(60.0)
+        .build();
+  }
+
+  static List<FLTMapInterfaces.QueriedRenderedFeature> queriedRenderedFeatures(int count) {
+    Random random = new Random(42);
+    List<FLTMapInterfaces.QueriedRenderedFeature> features = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Map<String, Object> properties = new HashMap<>();
+      properties.put("name", "Feature " + i);
+      properties.put("class", "poi");
+      properties.put("rank", (long) i % 10);
+      Map<String, Object> feature = new HashMap<>();
+      feature.put("type", "Feature");
+      feature.put("id", (long) i);
+      feature.put("geometry", point(random.nextDouble() * 360 - 180, random.nextDouble() * 170 - 85));
+      feature.put("properties", properties);
+      FLTMapInterfaces.QueriedFeature queriedFeature = new FLTMapInterfaces.QueriedFeature.Builder()
+          .setFeature(feature)
+          .setSource("composite")
+          .setSourceLayer("poi_label")
+          .setState("{}")
+          .build();
+      features.add(new FLTMapInterfaces.QueriedRenderedFeature.Builder()
+          .setQueriedFeature(queriedFeature)
+          .setLayers(Collections.singletonList("poi-label"))
+          .build());
+    }
+    return features;
+  }
+
+  static byte[] pixels(int width, int height) {
+    byte[] pixels = new byte[width * height * 4];
+    new Random(42).nextBytes(pixels);
+    return pixels;
+  }
+
+  static FLTMapInterfaces.MbxImage image(int size) {
+    return new FLTMapInterfaces.MbxImage.Builder()
+        .setWidth((long) size)
+        .setHeight((long) size)
+        .setData(pixels(size, size))
+        .build();
+  }
+
+  static FLTMapInterfaces.MbxRawImage rawImage(int size) {
+    ByteBuffer data = ByteBuffer.allocateDirect(size * size * 4);
+    data.put(pixels(size, size));
+    data.flip();
+    return new FLTMapInterfaces.MbxRawImage.Builder()
+        .setWidth((long) size)
+        .setHeight((long) size)
+        .setData(data)
+        .build();
+  }
+
+  static List<FLTPointAnnotationMessager.PointAnnotationOptions> pointAnnotationOptions(int count) {
+    Random random = new Random(42);
+    List<FLTPointAnnotationMessager.PointAnnotationOptions> options = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      options.add(new FLTPointAnnotationMessager.PointAnnotationOptions.Builder()
+          .setGeometry(point(random.nextDouble() * 360 - 180, random.nextDouble() * 170 - 85))
+          .setIconImage("marker-" + (i % 4))
+          .setIconSize(1.5)
+          .setIconAnchor(FLTPointAnnotationMessager.IconAnchor.BOTTOM)
+          .setTextField("Annotation " + (i % 100))
+          .setTextOffset(Arrays.asList(0.0, 1.5))
+          .setTextColor(0xFF202020L)
+          .build());
+    }
+    return options;
+  }
+
+  /** The same annotations as {@link #pointAnnotationOptions}, packed into columns. */
+  static FLTPointAnnotationMessager.PointAnnotationOptionsBatch pointAnnotationOptionsBatch(int count) {
+    Random random = new Random(42);
+    FLTPointAnnotationMessager.PointAnnotationOptionsBatch batch =
+        new FLTPointAnnotationMessager.PointAnnotationOptionsBatch();
+    batch.count = count;
+    batch.coordinates = new double[count * 2];
+    batch.iconImageDictionary = new String[] {"marker-0", "marker-1", "marker-2", "marker-3"};
+    batch.iconImage = new int[count];
+    batch.iconSize = new double[count];
+    batch.iconAnchor = new byte[count];
+    batch.textFieldDictionary = new String[100];
+    for (int i = 0; i < batch.textFieldDictionary.length; i++) {
+      batch.textFieldDictionary[i] = "Annotation " + i;
+    }
+    batch.textField = new int[count];
+    batch.textOffset = new double[count * 2];
+    batch.textColor = new double[count];
+    for (int i = 0; i < count; i++) {
+      batch.coordinates[i * 2] = random.nextDouble() * 360 - 180;
+      batch.coordinates[i * 2 + 1] = random.nextDouble() * 170 - 85;
+      batch.iconImage[i] = i % 4;
+      batch.iconSize[i] = 1.5;
+      batch.iconAnchor[i] = (byte) FLTPointAnnotationMessager.IconAnchor.BOTTOM.ordinal();
+      batch.textField[i] = i % 100;
+      batch.textOffset[i * 2] = 0.0;
+      batch.textOffset[i * 2 + 1] = 1.5;
+      batch.textColor[i] = 0xFF202020L;
+    }
+    return batch;
+  }
+
+  /**
+   * Encodes {@code value} the way it arrives in a handler, ready to be decoded.
+   *
+   * The encoded message is copied, the codecs reuse their output buffers.
+   */
+  static ByteBuffer encoded(io.flutter.plugin.common.MessageCodec<Object> codec, Object value) {
+    ByteBuffer encoded = codec.encodeMessage(value);
+    encoded.flip();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.remaining());
+    buffer.put(encoded);
+    buffer.flip();
+    return buffer;
+  }
+}
@@ -0,0 +1,58 @@
+package com.mapbox.maps.pigeons.benchmark;
+
+import com.mapbox.maps.pigeons.FLTPointAnnotationMessager;
+import io.flutter.plugin.common.MessageCodec;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** `_PointAnnotationMessager.createMulti` and `createMultiPacked` requests. */
+@State(Scope.Benchmark)
+public class PointAnnotationMessagerCodecBenchmark {
+  private final MessageCodec<Object> codec = FLTPointAnnotationMessager._PointAnnotationMessager.getCodec();
+
+  @Param({"10000"})
+  public int annotationCount;
+
+  private ArrayList<Object> createMultiRequest;
+  private ByteBuffer encodedCreateMultiRequest;
+  private ArrayList<Object> createMultiPackedRequest;
+  private ByteBuffer encodedCreateMultiPackedRequest;
+
+  @Setup
+  public void setup() {
+    createMultiRequest = new ArrayList<>(Arrays.asList(
+        "manager", Payloads.pointAnnotationOptions(annotationCount)));
+    encodedCreateMultiRequest = Payloads.encoded(codec, createMultiRequest);
+    createMultiPackedRequest = new ArrayList<>(Arrays.asList(
+        "manager", Payloads.pointAnnotationOptionsBatch(annotationCount)));
+    encodedCreateMultiPackedRequest = Payloads.encoded(codec, createMultiPackedRequest);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeCreateMulti() {
+    return codec.encodeMessage(createMultiRequest);
+  }
+
+  @Benchmark
+  public Object decodeCreateMulti() {
+    encodedCreateMultiRequest.rewind();
+    return codec.decodeMessage(encodedCreateMultiRequest);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeCreateMultiPacked() {
+    return codec.encodeMessage(createMultiPackedRequest);
+  }
+
+  @Benchmark
+  public Object decodeCreateMultiPacked() {
+    encodedCreateMultiPackedRequest.rewind();
+    return codec.decodeMessage(encodedCreateMultiPackedRequest);
+  }
+}
@@ -0,0 +1,62 @@
+package com.mapbox.maps.pigeons.benchmark;
+
+import com.mapbox.maps.pigeons.FLTMapInterfaces;
+import io.flutter.plugin.common.MessageCodec;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** `StyleManager.addStyleImage` and `addStyleRawImage` requests. */
+@State(Scope.Benchmark)
+public class StyleManagerCodecBenchmark {
+  private final MessageCodec<Object> codec = FLTMapInterfaces.StyleManager.getCodec();
+
+  @Param({"64", "512"})
+  public int imageSize;
+
+  private ArrayList<Object> addImageRequest;
+  private ByteBuffer encodedAddImageRequest;
+  private ArrayList<Object> addRawImageRequest;
+  private ByteBuffer encodedAddRawImageRequest;
+
+  @Setup
+  public void setup() {
+    addImageRequest = addImageRequest(Payloads.image(imageSize));
+    encodedAddImageRequest = Payloads.encoded(codec, addImageRequest);
+    addRawImageRequest = addImageRequest(Payloads.rawImage(imageSize));
+    encodedAddRawImageRequest = Payloads.encoded(codec, addRawImageRequest);
+  }
+
+  private static ArrayList<Object> addImageRequest(Object image) {
+    return new ArrayList<>(Arrays.asList(
+        "icon", 2.0, image, false, Collections.emptyList(), Collections.emptyList(), null));
+  }
+
+  @Benchmark
+  public ByteBuffer encodeImage() {
+    return codec.encodeMessage(addImageRequest);
+  }
+
+  @Benchmark
+  public Object decodeImage() {
+    encodedAddImageRequest.rewind();
+    return codec.decodeMessage(encodedAddImageRequest);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeRawImage() {
+    return codec.encodeMessage(addRawImageRequest);
+  }
+
+  @Benchmark
+  public Object decodeRawImage() {
+    encodedAddRawImageRequest.rewind();
+    return codec.decodeMessage(encodedAddRawImageRequest);
+  }
+}
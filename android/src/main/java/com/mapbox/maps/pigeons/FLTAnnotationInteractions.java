@@ -0,0 +1,74 @@
+// Autogenerated from Pigeon (v11.0.1), do not edit directly.
+// See also: https://pub.dev/packages/pigeon
+
+package com.mapbox.maps.pigeons;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Generated class from Pigeon. */
+@SuppressWarnings({"unused", "unchecked", "CodeBlock2Expr", "RedundantSuppression", "serial"})
+public class FLTAnnotationInteractions {
+
+  private static class _AnnotationInteractionListenerCodec extends PooledMessageCodec {
+    public static final _AnnotationInteractionListenerCodec INSTANCE = new _AnnotationInteractionListenerCodec();
+
+    private _AnnotationInteractionListenerCodec() {}
+  }
+
+  /**
+   * Receives the taps on annotations as ids, without the annotation properties.
+   *
+   * Generated class from Pigeon that represents Flutter messages that can be called from Java.
+   */
+  public static class _AnnotationInteractionListener {
+    private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onAnnotationTapChannel;
+    private final @NonNull BasicMessageChannel<Object> onAnnotationLongTapChannel;
+
+    public _AnnotationInteractionListener(@NonNull BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+      this.onAnnotationTapChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap", getCodec());
+      this.onAnnotationLongTapChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap", getCodec());
+    }
+
+    /** Public interface for sending reply. */ 
+    @SuppressWarnings("UnknownNullness")
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by _AnnotationInteractionListener. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return _AnnotationInteractionListenerCodec.INSTANCE;
+    }
+    /** Called when an annotation of a manager listening for taps was tapped. */
+    public void onAnnotationTap(@NonNull String managerIdArg, @NonNull String annotationIdArg, @NonNull Double longitudeArg, @NonNull Double latitudeArg, @NonNull Reply<Void> callback) {
+      onAnnotationTapChannel.send(
+          new ArrayList<Object>(Arrays.asList(managerIdArg, annotationIdArg, longitudeArg, latitudeArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** Called when an annotation of a manager listening for long taps was held. */
+    public void onAnnotationLongTap(@NonNull String managerIdArg, @NonNull String annotationIdArg, @NonNull Double longitudeArg, @NonNull Double latitudeArg, @NonNull Reply<Void> callback) {
+      onAnnotationLongTapChannel.send(
+          new ArrayList<Object>(Arrays.asList(managerIdArg, annotationIdArg, longitudeArg, latitudeArg)),
+          channelReply -> callback.reply(null));
+    }
+  }
+}
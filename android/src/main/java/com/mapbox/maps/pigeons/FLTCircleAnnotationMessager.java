@@ -574,7 +574,7 @@ public class FLTCircleAnnotationMessager {
     void error(@NonNull Throwable error);
   }
 
-  private static class OnCircleAnnotationClickListenerCodec extends StandardMessageCodec {
+  private static class OnCircleAnnotationClickListenerCodec extends PooledMessageCodec {
     public static final OnCircleAnnotationClickListenerCodec INSTANCE = new OnCircleAnnotationClickListenerCodec();
 
     private OnCircleAnnotationClickListenerCodec() {}
@@ -603,9 +603,13 @@ public class FLTCircleAnnotationMessager {
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class OnCircleAnnotationClickListener {
     private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onCircleAnnotationClickChannel;
 
     public OnCircleAnnotationClickListener(@NonNull BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
+      this.onCircleAnnotationClickChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnCircleAnnotationClickListener.onCircleAnnotationClick", getCodec());
     }
 
     /** Public interface for sending reply. */ 
@@ -618,16 +622,13 @@ public class FLTCircleAnnotationMessager {
       return OnCircleAnnotationClickListenerCodec.INSTANCE;
     }
     public void onCircleAnnotationClick(@NonNull CircleAnnotation annotationArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnCircleAnnotationClickListener.onCircleAnnotationClick", getCodec());
-      channel.send(
+      onCircleAnnotationClickChannel.send(
           new ArrayList<Object>(Collections.singletonList(annotationArg)),
           channelReply -> callback.reply(null));
     }
   }
 
-  private static class _CircleAnnotationMessagerCodec extends StandardMessageCodec {
+  private static class _CircleAnnotationMessagerCodec extends PooledMessageCodec {
     public static final _CircleAnnotationMessagerCodec INSTANCE = new _CircleAnnotationMessagerCodec();
 
     private _CircleAnnotationMessagerCodec() {}
@@ -669,8 +670,20 @@ public class FLTCircleAnnotationMessager {
 
     void delete(@NonNull String managerId, @NonNull CircleAnnotation annotation, @NonNull Result<Void> result);
 
+    void updateMulti(@NonNull String managerId, @NonNull List<CircleAnnotation> annotations, @NonNull Result<Void> result);
+
+    void deleteMulti(@NonNull String managerId, @NonNull List<CircleAnnotation> annotations, @NonNull Result<Void> result);
+
+    void updateGeometries(@NonNull String managerId, @NonNull List<String> ids, @NonNull double[] coordinates, @NonNull Result<Void> result);
+
+    void animateGeometries(@NonNull String managerId, @NonNull List<String> ids, @NonNull double[] coordinates, @NonNull Long durationMillis, @NonNull Result<Void> result);
+
     void deleteAll(@NonNull String managerId, @NonNull Result<Void> result);
 
+    void setProperties(@NonNull String managerId, @NonNull Map<String, Object> properties, @NonNull Result<Void> result);
+
+    void getProperties(@NonNull String managerId, @NonNull Result<Map<String, Object>> result);
+
     void setCircleEmissiveStrength(@NonNull String managerId, @NonNull Double circleEmissiveStrength, @NonNull Result<Void> result);
 
     void getCircleEmissiveStrength(@NonNull String managerId, @NonNull Result<Double> result);
@@ -697,13 +710,14 @@ public class FLTCircleAnnotationMessager {
     }
     /**Sets up an instance of `_CircleAnnotationMessager` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _CircleAnnotationMessager api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.create", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -722,7 +736,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.create(managerIdArg, annotationOptionArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -730,7 +744,7 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.createMulti", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.createMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -760,10 +774,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.update", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.update", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -782,7 +796,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.update(managerIdArg, annotationArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -790,10 +804,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.delete", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.delete", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -812,6 +826,36 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.delete(managerIdArg, annotationArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.updateMulti", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<CircleAnnotation> annotationsArg = (List<CircleAnnotation>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.updateMulti(managerIdArg, annotationsArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -820,13 +864,14 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.deleteAll", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.deleteMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
+                List<CircleAnnotation> annotationsArg = (List<CircleAnnotation>) args.get(1);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -840,7 +885,7 @@ public class FLTCircleAnnotationMessager {
                       }
                     };
 
-                api.deleteAll(managerIdArg, resultCallback);
+                api.deleteMulti(managerIdArg, annotationsArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -849,14 +894,15 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCircleEmissiveStrength", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.updateGeometries", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
-                Double circleEmissiveStrengthArg = (Double) args.get(1);
+                List<String> idsArg = (List<String>) args.get(1);
+                double[] coordinatesArg = (double[]) args.get(2);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -870,7 +916,7 @@ public class FLTCircleAnnotationMessager {
                       }
                     };
 
-                api.setCircleEmissiveStrength(managerIdArg, circleEmissiveStrengthArg, resultCallback);
+                api.updateGeometries(managerIdArg, idsArg, coordinatesArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -879,10 +925,160 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCircleEmissiveStrength", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.animateGeometries", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<String> idsArg = (List<String>) args.get(1);
+                double[] coordinatesArg = (double[]) args.get(2);
+                Number durationMillisArg = (Number) args.get(3);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.animateGeometries(managerIdArg, idsArg, coordinatesArg, (durationMillisArg == null) ? null : durationMillisArg.longValue(), resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.deleteAll", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.deleteAll(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Map<String, Object> propertiesArg = (Map<String, Object>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setProperties(managerIdArg, propertiesArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getProperties(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCircleEmissiveStrength", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Double circleEmissiveStrengthArg = (Double) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setCircleEmissiveStrength(managerIdArg, circleEmissiveStrengthArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCircleEmissiveStrength", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -900,7 +1096,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.getCircleEmissiveStrength(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -908,10 +1104,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCirclePitchAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCirclePitchAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -930,7 +1126,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.setCirclePitchAlignment(managerIdArg, circlePitchAlignmentArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -938,10 +1134,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCirclePitchAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCirclePitchAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -959,7 +1155,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.getCirclePitchAlignment(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -967,10 +1163,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCirclePitchScale", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCirclePitchScale", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -989,7 +1185,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.setCirclePitchScale(managerIdArg, circlePitchScaleArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -997,10 +1193,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCirclePitchScale", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCirclePitchScale", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1018,7 +1214,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.getCirclePitchScale(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1026,10 +1222,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCircleTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCircleTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1048,7 +1244,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.setCircleTranslate(managerIdArg, circleTranslateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1056,10 +1252,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCircleTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCircleTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1077,7 +1273,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.getCircleTranslate(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1085,10 +1281,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCircleTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.setCircleTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1107,7 +1303,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.setCircleTranslateAnchor(managerIdArg, circleTranslateAnchorArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1115,10 +1311,10 @@ public class FLTCircleAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCircleTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._CircleAnnotationMessager.getCircleTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1136,7 +1332,7 @@ public class FLTCircleAnnotationMessager {
                     };
 
                 api.getCircleTranslateAnchor(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
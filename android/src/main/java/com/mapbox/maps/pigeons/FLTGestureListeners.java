@@ -137,7 +137,7 @@ public class FLTGestureListeners {
     }
   }
 
-  private static class GestureListenerCodec extends StandardMessageCodec {
+  private static class GestureListenerCodec extends PooledMessageCodec {
     public static final GestureListenerCodec INSTANCE = new GestureListenerCodec();
 
     private GestureListenerCodec() {}
@@ -166,9 +166,21 @@ public class FLTGestureListeners {
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class GestureListener {
     private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onTapChannel;
+    private final @NonNull BasicMessageChannel<Object> onLongTapChannel;
+    private final @NonNull BasicMessageChannel<Object> onScrollChannel;
 
     public GestureListener(@NonNull BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
+      this.onTapChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.GestureListener.onTap", getCodec());
+      this.onLongTapChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.GestureListener.onLongTap", getCodec());
+      this.onScrollChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.GestureListener.onScroll", getCodec());
     }
 
     /** Public interface for sending reply. */ 
@@ -181,26 +193,17 @@ public class FLTGestureListeners {
       return GestureListenerCodec.INSTANCE;
     }
     public void onTap(@NonNull ScreenCoordinate coordinateArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.GestureListener.onTap", getCodec());
-      channel.send(
+      onTapChannel.send(
           new ArrayList<Object>(Collections.singletonList(coordinateArg)),
           channelReply -> callback.reply(null));
     }
     public void onLongTap(@NonNull ScreenCoordinate coordinateArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.GestureListener.onLongTap", getCodec());
-      channel.send(
+      onLongTapChannel.send(
           new ArrayList<Object>(Collections.singletonList(coordinateArg)),
           channelReply -> callback.reply(null));
     }
     public void onScroll(@NonNull ScreenCoordinate coordinateArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.GestureListener.onScroll", getCodec());
-      channel.send(
+      onScrollChannel.send(
           new ArrayList<Object>(Collections.singletonList(coordinateArg)),
           channelReply -> callback.reply(null));
     }
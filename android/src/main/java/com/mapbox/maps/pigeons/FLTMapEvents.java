@@ -0,0 +1,196 @@
+// Autogenerated from Pigeon (v11.0.1), do not edit directly.
+// See also: https://pub.dev/packages/pigeon
+
+package com.mapbox.maps.pigeons;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Generated class from Pigeon. */
+@SuppressWarnings({"unused", "unchecked", "CodeBlock2Expr", "RedundantSuppression", "serial"})
+public class FLTMapEvents {
+
+  private static class _MapEventsCodec extends PooledMessageCodec {
+    public static final _MapEventsCodec INSTANCE = new _MapEventsCodec();
+
+    private _MapEventsCodec() {}
+  }
+
+  /**
+   * Map events with their fields sent as primitive values.
+   *
+   * Timestamps are in microseconds since the epoch, enums are sent as their index.
+   *
+   * Generated class from Pigeon that represents Flutter messages that can be called from Java.
+   */
+  public static class _MapEvents {
+    private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onMapLoadedChannel;
+    private final @NonNull BasicMessageChannel<Object> onMapLoadingErrorChannel;
+    private final @NonNull BasicMessageChannel<Object> onStyleLoadedChannel;
+    private final @NonNull BasicMessageChannel<Object> onStyleDataLoadedChannel;
+    private final @NonNull BasicMessageChannel<Object> onCameraChangedChannel;
+    private final @NonNull BasicMessageChannel<Object> onMapIdleChannel;
+    private final @NonNull BasicMessageChannel<Object> onSourceAddedChannel;
+    private final @NonNull BasicMessageChannel<Object> onSourceRemovedChannel;
+    private final @NonNull BasicMessageChannel<Object> onSourceDataLoadedChannel;
+    private final @NonNull BasicMessageChannel<Object> onStyleImageMissingChannel;
+    private final @NonNull BasicMessageChannel<Object> onStyleImageRemoveUnusedChannel;
+    private final @NonNull BasicMessageChannel<Object> onRenderFrameStartedChannel;
+    private final @NonNull BasicMessageChannel<Object> onRenderFrameFinishedChannel;
+    private final @NonNull BasicMessageChannel<Object> onResourceRequestChannel;
+
+    public _MapEvents(@NonNull BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+      this.onMapLoadedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoaded", getCodec());
+      this.onMapLoadingErrorChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoadingError", getCodec());
+      this.onStyleLoadedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleLoaded", getCodec());
+      this.onStyleDataLoadedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleDataLoaded", getCodec());
+      this.onCameraChangedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onCameraChanged", getCodec());
+      this.onMapIdleChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapIdle", getCodec());
+      this.onSourceAddedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceAdded", getCodec());
+      this.onSourceRemovedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceRemoved", getCodec());
+      this.onSourceDataLoadedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded", getCodec());
+      this.onStyleImageMissingChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageMissing", getCodec());
+      this.onStyleImageRemoveUnusedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageRemoveUnused", getCodec());
+      this.onRenderFrameStartedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameStarted", getCodec());
+      this.onRenderFrameFinishedChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished", getCodec());
+      this.onResourceRequestChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest", getCodec());
+    }
+
+    /** Public interface for sending reply. */ 
+    @SuppressWarnings("UnknownNullness")
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by _MapEvents. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return _MapEventsCodec.INSTANCE;
+    }
+    /** The map has rendered all the visible tiles after a style was set. */
+    public void onMapLoaded(@NonNull Long beginArg, @NonNull Long endArg, @NonNull Reply<Void> callback) {
+      onMapLoadedChannel.send(
+          new ArrayList<Object>(Arrays.asList(beginArg, endArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** A resource needed by the map could not be loaded. */
+    public void onMapLoadingError(@NonNull Long typeArg, @NonNull String messageArg, @Nullable String sourceIdArg, @Nullable Long tileZArg, @Nullable Long tileXArg, @Nullable Long tileYArg, @NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onMapLoadingErrorChannel.send(
+          new ArrayList<Object>(Arrays.asList(typeArg, messageArg, sourceIdArg, tileZArg, tileXArg, tileYArg, timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The style has been fully loaded. */
+    public void onStyleLoaded(@NonNull Long beginArg, @NonNull Long endArg, @NonNull Reply<Void> callback) {
+      onStyleLoadedChannel.send(
+          new ArrayList<Object>(Arrays.asList(beginArg, endArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** A part of the style has been loaded. */
+    public void onStyleDataLoaded(@NonNull Long typeArg, @NonNull Long beginArg, @NonNull Long endArg, @NonNull Reply<Void> callback) {
+      onStyleDataLoadedChannel.send(
+          new ArrayList<Object>(Arrays.asList(typeArg, beginArg, endArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The camera has changed. */
+    public void onCameraChanged(@NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onCameraChangedChannel.send(
+          new ArrayList<Object>(Collections.singletonList(timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The map has entered the idle state. */
+    public void onMapIdle(@NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onMapIdleChannel.send(
+          new ArrayList<Object>(Collections.singletonList(timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** A source has been added to the style. */
+    public void onSourceAdded(@NonNull String sourceIdArg, @NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onSourceAddedChannel.send(
+          new ArrayList<Object>(Arrays.asList(sourceIdArg, timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** A source has been removed from the style. */
+    public void onSourceRemoved(@NonNull String sourceIdArg, @NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onSourceRemovedChannel.send(
+          new ArrayList<Object>(Arrays.asList(sourceIdArg, timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The metadata or a tile of a source has been loaded. */
+    public void onSourceDataLoaded(@NonNull String sourceIdArg, @NonNull Long typeArg, @Nullable Boolean loadedArg, @Nullable Long tileZArg, @Nullable Long tileXArg, @Nullable Long tileYArg, @Nullable String dataIdArg, @NonNull Long beginArg, @NonNull Long endArg, @NonNull Reply<Void> callback) {
+      onSourceDataLoadedChannel.send(
+          new ArrayList<Object>(Arrays.asList(sourceIdArg, typeArg, loadedArg, tileZArg, tileXArg, tileYArg, dataIdArg, beginArg, endArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The style needs an image that is not in the sprite sheet. */
+    public void onStyleImageMissing(@NonNull String imageIdArg, @NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onStyleImageMissingChannel.send(
+          new ArrayList<Object>(Arrays.asList(imageIdArg, timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** An image added to the style is no longer needed. */
+    public void onStyleImageRemoveUnused(@NonNull String imageIdArg, @NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onStyleImageRemoveUnusedChannel.send(
+          new ArrayList<Object>(Arrays.asList(imageIdArg, timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The map started rendering a frame. */
+    public void onRenderFrameStarted(@NonNull Long timestampArg, @NonNull Reply<Void> callback) {
+      onRenderFrameStartedChannel.send(
+          new ArrayList<Object>(Collections.singletonList(timestampArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** The map finished rendering a frame. */
+    public void onRenderFrameFinished(@NonNull Long renderModeArg, @NonNull Boolean needsRepaintArg, @NonNull Boolean placementChangedArg, @NonNull Long beginArg, @NonNull Long endArg, @NonNull Reply<Void> callback) {
+      onRenderFrameFinishedChannel.send(
+          new ArrayList<Object>(Arrays.asList(renderModeArg, needsRepaintArg, placementChangedArg, beginArg, endArg)),
+          channelReply -> callback.reply(null));
+    }
+    /** A resource request has completed or was cancelled. The response fields are null when there is no response. */
+    public void onResourceRequest(@NonNull Long dataSourceArg, @NonNull String urlArg, @NonNull Long kindArg, @NonNull Long priorityArg, @NonNull List<Long> loadingMethodArg, @NonNull Boolean cancelledArg, @Nullable Long responseSourceArg, @Nullable String eTagArg, @Nullable Boolean mustRevalidateArg, @Nullable Boolean noContentArg, @Nullable String modifiedArg, @Nullable Boolean notModifiedArg, @Nullable String expiresArg, @Nullable Long sizeArg, @Nullable Long errorReasonArg, @Nullable String errorMessageArg, @NonNull Long beginArg, @NonNull Long endArg, @NonNull Reply<Void> callback) {
+      onResourceRequestChannel.send(
+          new ArrayList<Object>(Arrays.asList(dataSourceArg, urlArg, kindArg, priorityArg, loadingMethodArg, cancelledArg, responseSourceArg, eTagArg, mustRevalidateArg, noContentArg, modifiedArg, notModifiedArg, expiresArg, sizeArg, errorReasonArg, errorMessageArg, beginArg, endArg)),
+          channelReply -> callback.reply(null));
+    }
+  }
+}
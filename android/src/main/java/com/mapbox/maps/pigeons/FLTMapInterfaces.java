@@ -4283,6 +4283,95 @@ public class FLTMapInterfaces {
     }
   }
 
+  /**
+   * Image type whose pixels are transferred without any encoding.
+   *
+   * The pixels are read straight from the platform message, `data` is a view into the
+   * incoming message and is only valid until the handler that received it returns.
+   */
+  public static final class MbxRawImage {
+    /** The width of the image, in screen pixels. */
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    /** The height of the image, in screen pixels. */
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    /**
+     * 32-bit premultiplied RGBA image data.
+     *
+     * This buffer should contain exactly `4 * width * height` bytes, from its position to its limit.
+     */
+    private @NonNull ByteBuffer data;
+
+    public @NonNull ByteBuffer getData() {
+      return data;
+    }
+
+    public void setData(@NonNull ByteBuffer setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"data\" is null.");
+      }
+      this.data = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MbxRawImage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long width;
+
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable ByteBuffer data;
+
+      public @NonNull Builder setData(@NonNull ByteBuffer setterArg) {
+        this.data = setterArg;
+        return this;
+      }
+
+      public @NonNull MbxRawImage build() {
+        MbxRawImage pigeonReturn = new MbxRawImage();
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setData(data);
+        return pigeonReturn;
+      }
+    }
+  }
+
   /**
    * Describes the image stretch areas.
    *
@@ -4769,6 +4858,367 @@ public class FLTMapInterfaces {
     }
   }
 
+  /**
+   * Frame statistics aggregated from the render frame events of the map.
+   *
+   * Render times are measured by the map between the start and the end of a frame, with millisecond resolution.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class RenderStats {
+    /** The number of frames the map started rendering. */
+    private @NonNull Long startedFrameCount;
+
+    public @NonNull Long getStartedFrameCount() {
+      return startedFrameCount;
+    }
+
+    public void setStartedFrameCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"startedFrameCount\" is null.");
+      }
+      this.startedFrameCount = setterArg;
+    }
+
+    /** The number of frames the map finished rendering. */
+    private @NonNull Long frameCount;
+
+    public @NonNull Long getFrameCount() {
+      return frameCount;
+    }
+
+    public void setFrameCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameCount\" is null.");
+      }
+      this.frameCount = setterArg;
+    }
+
+    /** The number of finished frames that had all the data required to render the visible viewport. */
+    private @NonNull Long fullFrameCount;
+
+    public @NonNull Long getFullFrameCount() {
+      return fullFrameCount;
+    }
+
+    public void setFullFrameCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"fullFrameCount\" is null.");
+      }
+      this.fullFrameCount = setterArg;
+    }
+
+    /** The number of finished frames that were followed by another frame because of ongoing transitions. */
+    private @NonNull Long needsRepaintCount;
+
+    public @NonNull Long getNeedsRepaintCount() {
+      return needsRepaintCount;
+    }
+
+    public void setNeedsRepaintCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"needsRepaintCount\" is null.");
+      }
+      this.needsRepaintCount = setterArg;
+    }
+
+    /** The number of finished frames that changed the symbol placement. */
+    private @NonNull Long placementChangedCount;
+
+    public @NonNull Long getPlacementChangedCount() {
+      return placementChangedCount;
+    }
+
+    public void setPlacementChangedCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"placementChangedCount\" is null.");
+      }
+      this.placementChangedCount = setterArg;
+    }
+
+    /** The longest run of consecutive frames that changed the symbol placement. */
+    private @NonNull Long maxConsecutivePlacementChanges;
+
+    public @NonNull Long getMaxConsecutivePlacementChanges() {
+      return maxConsecutivePlacementChanges;
+    }
+
+    public void setMaxConsecutivePlacementChanges(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxConsecutivePlacementChanges\" is null.");
+      }
+      this.maxConsecutivePlacementChanges = setterArg;
+    }
+
+    /** The time available to render one frame at the refresh rate of the display, in milliseconds. */
+    private @NonNull Double frameBudgetMillis;
+
+    public @NonNull Double getFrameBudgetMillis() {
+      return frameBudgetMillis;
+    }
+
+    public void setFrameBudgetMillis(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameBudgetMillis\" is null.");
+      }
+      this.frameBudgetMillis = setterArg;
+    }
+
+    /** The number of finished frames that took longer than `frameBudgetMillis` to render. */
+    private @NonNull Long overBudgetCount;
+
+    public @NonNull Long getOverBudgetCount() {
+      return overBudgetCount;
+    }
+
+    public void setOverBudgetCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"overBudgetCount\" is null.");
+      }
+      this.overBudgetCount = setterArg;
+    }
+
+    /**
+     * The number of finished frames per render time bucket.
+     *
+     * The buckets are bounded by 2, 4, 8, 12, 16, 20, 25, 33, 50 and 100 milliseconds,
+     * the last bucket counts all the slower frames.
+     */
+    private @NonNull List<Long> frameTimeHistogram;
+
+    public @NonNull List<Long> getFrameTimeHistogram() {
+      return frameTimeHistogram;
+    }
+
+    public void setFrameTimeHistogram(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameTimeHistogram\" is null.");
+      }
+      this.frameTimeHistogram = setterArg;
+    }
+
+    /** The median render time, estimated as the upper bound of its histogram bucket, in milliseconds. */
+    private @NonNull Long frameTimeP50Millis;
+
+    public @NonNull Long getFrameTimeP50Millis() {
+      return frameTimeP50Millis;
+    }
+
+    public void setFrameTimeP50Millis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameTimeP50Millis\" is null.");
+      }
+      this.frameTimeP50Millis = setterArg;
+    }
+
+    /** The 90th percentile of the render time, estimated as the upper bound of its histogram bucket, in milliseconds. */
+    private @NonNull Long frameTimeP90Millis;
+
+    public @NonNull Long getFrameTimeP90Millis() {
+      return frameTimeP90Millis;
+    }
+
+    public void setFrameTimeP90Millis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameTimeP90Millis\" is null.");
+      }
+      this.frameTimeP90Millis = setterArg;
+    }
+
+    /** The 99th percentile of the render time, estimated as the upper bound of its histogram bucket, in milliseconds. */
+    private @NonNull Long frameTimeP99Millis;
+
+    public @NonNull Long getFrameTimeP99Millis() {
+      return frameTimeP99Millis;
+    }
+
+    public void setFrameTimeP99Millis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameTimeP99Millis\" is null.");
+      }
+      this.frameTimeP99Millis = setterArg;
+    }
+
+    /** The longest render time, in milliseconds. */
+    private @NonNull Long maxFrameTimeMillis;
+
+    public @NonNull Long getMaxFrameTimeMillis() {
+      return maxFrameTimeMillis;
+    }
+
+    public void setMaxFrameTimeMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxFrameTimeMillis\" is null.");
+      }
+      this.maxFrameTimeMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    RenderStats() {}
+
+    public static final class Builder {
+
+      private @Nullable Long startedFrameCount;
+
+      public @NonNull Builder setStartedFrameCount(@NonNull Long setterArg) {
+        this.startedFrameCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long frameCount;
+
+      public @NonNull Builder setFrameCount(@NonNull Long setterArg) {
+        this.frameCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long fullFrameCount;
+
+      public @NonNull Builder setFullFrameCount(@NonNull Long setterArg) {
+        this.fullFrameCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long needsRepaintCount;
+
+      public @NonNull Builder setNeedsRepaintCount(@NonNull Long setterArg) {
+        this.needsRepaintCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long placementChangedCount;
+
+      public @NonNull Builder setPlacementChangedCount(@NonNull Long setterArg) {
+        this.placementChangedCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxConsecutivePlacementChanges;
+
+      public @NonNull Builder setMaxConsecutivePlacementChanges(@NonNull Long setterArg) {
+        this.maxConsecutivePlacementChanges = setterArg;
+        return this;
+      }
+
+      private @Nullable Double frameBudgetMillis;
+
+      public @NonNull Builder setFrameBudgetMillis(@NonNull Double setterArg) {
+        this.frameBudgetMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long overBudgetCount;
+
+      public @NonNull Builder setOverBudgetCount(@NonNull Long setterArg) {
+        this.overBudgetCount = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> frameTimeHistogram;
+
+      public @NonNull Builder setFrameTimeHistogram(@NonNull List<Long> setterArg) {
+        this.frameTimeHistogram = setterArg;
+        return this;
+      }
+
+      private @Nullable Long frameTimeP50Millis;
+
+      public @NonNull Builder setFrameTimeP50Millis(@NonNull Long setterArg) {
+        this.frameTimeP50Millis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long frameTimeP90Millis;
+
+      public @NonNull Builder setFrameTimeP90Millis(@NonNull Long setterArg) {
+        this.frameTimeP90Millis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long frameTimeP99Millis;
+
+      public @NonNull Builder setFrameTimeP99Millis(@NonNull Long setterArg) {
+        this.frameTimeP99Millis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxFrameTimeMillis;
+
+      public @NonNull Builder setMaxFrameTimeMillis(@NonNull Long setterArg) {
+        this.maxFrameTimeMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull RenderStats build() {
+        RenderStats pigeonReturn = new RenderStats();
+        pigeonReturn.setStartedFrameCount(startedFrameCount);
+        pigeonReturn.setFrameCount(frameCount);
+        pigeonReturn.setFullFrameCount(fullFrameCount);
+        pigeonReturn.setNeedsRepaintCount(needsRepaintCount);
+        pigeonReturn.setPlacementChangedCount(placementChangedCount);
+        pigeonReturn.setMaxConsecutivePlacementChanges(maxConsecutivePlacementChanges);
+        pigeonReturn.setFrameBudgetMillis(frameBudgetMillis);
+        pigeonReturn.setOverBudgetCount(overBudgetCount);
+        pigeonReturn.setFrameTimeHistogram(frameTimeHistogram);
+        pigeonReturn.setFrameTimeP50Millis(frameTimeP50Millis);
+        pigeonReturn.setFrameTimeP90Millis(frameTimeP90Millis);
+        pigeonReturn.setFrameTimeP99Millis(frameTimeP99Millis);
+        pigeonReturn.setMaxFrameTimeMillis(maxFrameTimeMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(13);
+      toListResult.add(startedFrameCount);
+      toListResult.add(frameCount);
+      toListResult.add(fullFrameCount);
+      toListResult.add(needsRepaintCount);
+      toListResult.add(placementChangedCount);
+      toListResult.add(maxConsecutivePlacementChanges);
+      toListResult.add(frameBudgetMillis);
+      toListResult.add(overBudgetCount);
+      toListResult.add(frameTimeHistogram);
+      toListResult.add(frameTimeP50Millis);
+      toListResult.add(frameTimeP90Millis);
+      toListResult.add(frameTimeP99Millis);
+      toListResult.add(maxFrameTimeMillis);
+      return toListResult;
+    }
+
+    static @NonNull RenderStats fromList(@NonNull ArrayList<Object> list) {
+      RenderStats pigeonResult = new RenderStats();
+      Object startedFrameCount = list.get(0);
+      pigeonResult.setStartedFrameCount((startedFrameCount == null) ? null : ((startedFrameCount instanceof Integer) ? (Integer) startedFrameCount : (Long) startedFrameCount));
+      Object frameCount = list.get(1);
+      pigeonResult.setFrameCount((frameCount == null) ? null : ((frameCount instanceof Integer) ? (Integer) frameCount : (Long) frameCount));
+      Object fullFrameCount = list.get(2);
+      pigeonResult.setFullFrameCount((fullFrameCount == null) ? null : ((fullFrameCount instanceof Integer) ? (Integer) fullFrameCount : (Long) fullFrameCount));
+      Object needsRepaintCount = list.get(3);
+      pigeonResult.setNeedsRepaintCount((needsRepaintCount == null) ? null : ((needsRepaintCount instanceof Integer) ? (Integer) needsRepaintCount : (Long) needsRepaintCount));
+      Object placementChangedCount = list.get(4);
+      pigeonResult.setPlacementChangedCount((placementChangedCount == null) ? null : ((placementChangedCount instanceof Integer) ? (Integer) placementChangedCount : (Long) placementChangedCount));
+      Object maxConsecutivePlacementChanges = list.get(5);
+      pigeonResult.setMaxConsecutivePlacementChanges((maxConsecutivePlacementChanges == null) ? null : ((maxConsecutivePlacementChanges instanceof Integer) ? (Integer) maxConsecutivePlacementChanges : (Long) maxConsecutivePlacementChanges));
+      Object frameBudgetMillis = list.get(6);
+      pigeonResult.setFrameBudgetMillis((Double) frameBudgetMillis);
+      Object overBudgetCount = list.get(7);
+      pigeonResult.setOverBudgetCount((overBudgetCount == null) ? null : ((overBudgetCount instanceof Integer) ? (Integer) overBudgetCount : (Long) overBudgetCount));
+      Object frameTimeHistogram = list.get(8);
+      pigeonResult.setFrameTimeHistogram((List<Long>) frameTimeHistogram);
+      Object frameTimeP50Millis = list.get(9);
+      pigeonResult.setFrameTimeP50Millis((frameTimeP50Millis == null) ? null : ((frameTimeP50Millis instanceof Integer) ? (Integer) frameTimeP50Millis : (Long) frameTimeP50Millis));
+      Object frameTimeP90Millis = list.get(10);
+      pigeonResult.setFrameTimeP90Millis((frameTimeP90Millis == null) ? null : ((frameTimeP90Millis instanceof Integer) ? (Integer) frameTimeP90Millis : (Long) frameTimeP90Millis));
+      Object frameTimeP99Millis = list.get(11);
+      pigeonResult.setFrameTimeP99Millis((frameTimeP99Millis == null) ? null : ((frameTimeP99Millis instanceof Integer) ? (Integer) frameTimeP99Millis : (Long) frameTimeP99Millis));
+      Object maxFrameTimeMillis = list.get(12);
+      pigeonResult.setMaxFrameTimeMillis((maxFrameTimeMillis == null) ? null : ((maxFrameTimeMillis instanceof Integer) ? (Integer) maxFrameTimeMillis : (Long) maxFrameTimeMillis));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -4776,7 +5226,7 @@ public class FLTMapInterfaces {
     void error(@NonNull Throwable error);
   }
 
-  private static class _AnimationManagerCodec extends StandardMessageCodec {
+  private static class _AnimationManagerCodec extends PooledMessageCodec {
     public static final _AnimationManagerCodec INSTANCE = new _AnimationManagerCodec();
 
     private _AnimationManagerCodec() {}
@@ -5026,7 +5476,7 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class _CameraManagerCodec extends StandardMessageCodec {
+  private static class _CameraManagerCodec extends PooledMessageCodec {
     public static final _CameraManagerCodec INSTANCE = new _CameraManagerCodec();
 
     private _CameraManagerCodec() {}
@@ -5882,7 +6332,7 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class _MapInterfaceCodec extends StandardMessageCodec {
+  private static class _MapInterfaceCodec extends PooledMessageCodec {
     public static final _MapInterfaceCodec INSTANCE = new _MapInterfaceCodec();
 
     private _MapInterfaceCodec() {}
@@ -5968,6 +6418,8 @@ public class FLTMapInterfaces {
           return TileCacheBudgetInTiles.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 166:
           return TransitionOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 167:
+          return RenderStats.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -6092,6 +6544,9 @@ public class FLTMapInterfaces {
       } else if (value instanceof TransitionOptions) {
         stream.write(166);
         writeValue(stream, ((TransitionOptions) value).toList());
+      } else if (value instanceof RenderStats) {
+        stream.write(167);
+        writeValue(stream, ((RenderStats) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -6298,6 +6753,19 @@ public class FLTMapInterfaces {
      */
     @Nullable 
     Double getElevation(@NonNull Map<String, Object> coordinate);
+    /**
+     * Starts or stops aggregating the render frame events.
+     *
+     * @param enabled Whether the render frames should be aggregated.
+     */
+    void setRenderStatsEnabled(@NonNull Boolean enabled);
+    /**
+     * Returns the frame statistics aggregated since they were enabled or last reset.
+     *
+     * @param reset Whether the aggregated statistics should be cleared.
+     */
+    @NonNull 
+    RenderStats getRenderStats(@NonNull Boolean reset);
 
     /** The codec used by _MapInterface. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -6305,13 +6773,14 @@ public class FLTMapInterfaces {
     }
     /**Sets up an instance of `_MapInterface` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _MapInterface api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.loadStyleURI", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.loadStyleURI", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String styleURIArg = (String) args.get(0);
@@ -6329,7 +6798,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.loadStyleURI(styleURIArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6337,7 +6806,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.loadStyleJson", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.loadStyleJson", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -6366,10 +6835,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.clearData", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.clearData", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<Void> resultCallback =
                     new Result<Void>() {
@@ -6385,7 +6854,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.clearData(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6393,10 +6862,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setTileCacheBudget", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setTileCacheBudget", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 TileCacheBudgetInMegabytes tileCacheBudgetInMegabytesArg = (TileCacheBudgetInMegabytes) args.get(0);
@@ -6410,7 +6879,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6418,10 +6887,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getSize", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getSize", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   Size output = api.getSize();
@@ -6432,7 +6901,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6440,10 +6909,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.triggerRepaint", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.triggerRepaint", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   api.triggerRepaint();
@@ -6454,7 +6923,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6462,10 +6931,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setGestureInProgress", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setGestureInProgress", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Boolean inProgressArg = (Boolean) args.get(0);
@@ -6478,7 +6947,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6486,10 +6955,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.isGestureInProgress", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.isGestureInProgress", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   Boolean output = api.isGestureInProgress();
@@ -6500,7 +6969,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6508,10 +6977,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setUserAnimationInProgress", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setUserAnimationInProgress", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Boolean inProgressArg = (Boolean) args.get(0);
@@ -6524,7 +6993,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6532,10 +7001,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.isUserAnimationInProgress", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.isUserAnimationInProgress", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   Boolean output = api.isUserAnimationInProgress();
@@ -6546,7 +7015,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6554,10 +7023,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setPrefetchZoomDelta", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setPrefetchZoomDelta", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number deltaArg = (Number) args.get(0);
@@ -6570,7 +7039,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6578,10 +7047,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getPrefetchZoomDelta", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getPrefetchZoomDelta", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   Long output = api.getPrefetchZoomDelta();
@@ -6592,7 +7061,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6600,10 +7069,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setNorthOrientation", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setNorthOrientation", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 NorthOrientation orientationArg = NorthOrientation.values()[(int) args.get(0)];
@@ -6616,7 +7085,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6624,10 +7093,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setConstrainMode", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setConstrainMode", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 ConstrainMode modeArg = ConstrainMode.values()[(int) args.get(0)];
@@ -6640,7 +7109,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6648,10 +7117,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setViewportMode", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setViewportMode", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 ViewportMode modeArg = ViewportMode.values()[(int) args.get(0)];
@@ -6664,7 +7133,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6672,10 +7141,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getMapOptions", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getMapOptions", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   MapOptions output = api.getMapOptions();
@@ -6686,7 +7155,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6694,10 +7163,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getDebug", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getDebug", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   List<MapDebugOptions> output = api.getDebug();
@@ -6708,7 +7177,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6716,10 +7185,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setDebug", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setDebug", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 List<MapDebugOptions> debugOptionsArg = (List<MapDebugOptions>) args.get(0);
@@ -6733,7 +7202,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6741,7 +7210,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.queryRenderedFeatures", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.queryRenderedFeatures", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -6771,7 +7240,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.querySourceFeatures", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.querySourceFeatures", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -6801,10 +7270,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getGeoJsonClusterLeaves", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getGeoJsonClusterLeaves", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdentifierArg = (String) args.get(0);
@@ -6825,7 +7294,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getGeoJsonClusterLeaves(sourceIdentifierArg, clusterArg, (limitArg == null) ? null : limitArg.longValue(), (offsetArg == null) ? null : offsetArg.longValue(), resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6833,10 +7302,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getGeoJsonClusterChildren", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getGeoJsonClusterChildren", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdentifierArg = (String) args.get(0);
@@ -6855,7 +7324,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getGeoJsonClusterChildren(sourceIdentifierArg, clusterArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6863,10 +7332,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getGeoJsonClusterExpansionZoom", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getGeoJsonClusterExpansionZoom", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdentifierArg = (String) args.get(0);
@@ -6885,7 +7354,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getGeoJsonClusterExpansionZoom(sourceIdentifierArg, clusterArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6893,10 +7362,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setFeatureState", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setFeatureState", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -6917,7 +7386,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.setFeatureState(sourceIdArg, sourceLayerIdArg, featureIdArg, stateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6925,10 +7394,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getFeatureState", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getFeatureState", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -6948,7 +7417,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getFeatureState(sourceIdArg, sourceLayerIdArg, featureIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6956,10 +7425,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.removeFeatureState", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.removeFeatureState", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -6980,7 +7449,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.removeFeatureState(sourceIdArg, sourceLayerIdArg, featureIdArg, stateKeyArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -6988,10 +7457,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.reduceMemoryUse", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.reduceMemoryUse", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   api.reduceMemoryUse();
@@ -7002,7 +7471,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -7010,10 +7479,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getElevation", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getElevation", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Map<String, Object> coordinateArg = (Map<String, Object>) args.get(0);
@@ -7026,7 +7495,55 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setRenderStatsEnabled", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean enabledArg = (Boolean) args.get(0);
+                try {
+                  api.setRenderStatsEnabled(enabledArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getRenderStats", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean resetArg = (Boolean) args.get(0);
+                try {
+                  RenderStats output = api.getRenderStats(resetArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -7034,7 +7551,7 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class OfflineRegionCodec extends StandardMessageCodec {
+  private static class OfflineRegionCodec extends PooledMessageCodec {
     public static final OfflineRegionCodec INSTANCE = new OfflineRegionCodec();
 
     private OfflineRegionCodec() {}
@@ -7396,7 +7913,7 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class ProjectionCodec extends StandardMessageCodec {
+  private static class ProjectionCodec extends PooledMessageCodec {
     public static final ProjectionCodec INSTANCE = new ProjectionCodec();
 
     private ProjectionCodec() {}
@@ -8165,7 +8682,7 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class MapSnapshotCodec extends StandardMessageCodec {
+  private static class MapSnapshotCodec extends PooledMessageCodec {
     public static final MapSnapshotCodec INSTANCE = new MapSnapshotCodec();
 
     private MapSnapshotCodec() {}
@@ -8519,7 +9036,7 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class MapSnapshotterCodec extends StandardMessageCodec {
+  private static class MapSnapshotterCodec extends PooledMessageCodec {
     public static final MapSnapshotterCodec INSTANCE = new MapSnapshotterCodec();
 
     private MapSnapshotterCodec() {}
@@ -8934,9 +9451,11 @@ public class FLTMapInterfaces {
     }
   }
 
-  private static class StyleManagerCodec extends StandardMessageCodec {
+  private static class StyleManagerCodec extends PooledMessageCodec {
     public static final StyleManagerCodec INSTANCE = new StyleManagerCodec();
 
+    private static final int RAW_IMAGE_CHUNK_SIZE = 64 * 1024;
+
     private StyleManagerCodec() {}
 
     @Override
@@ -9020,6 +9539,8 @@ public class FLTMapInterfaces {
           return TileCacheBudgetInTiles.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 166:
           return TransitionOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 167:
+          return readRawImage(buffer);
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -9144,10 +9665,48 @@ public class FLTMapInterfaces {
       } else if (value instanceof TransitionOptions) {
         stream.write(166);
         writeValue(stream, ((TransitionOptions) value).toList());
+      } else if (value instanceof MbxRawImage) {
+        stream.write(167);
+        writeRawImage(stream, (MbxRawImage) value);
       } else {
         super.writeValue(stream, value);
       }
     }
+
+    // The pixels are not copied, the image data is a slice of the message buffer.
+    private MbxRawImage readRawImage(@NonNull ByteBuffer buffer) {
+      Object width = readValue(buffer);
+      Object height = readValue(buffer);
+      int length = readSize(buffer);
+      int limit = buffer.limit();
+      buffer.limit(buffer.position() + length);
+      ByteBuffer data = buffer.slice();
+      buffer.limit(limit);
+      buffer.position(buffer.position() + length);
+      return new MbxRawImage.Builder()
+          .setWidth((width instanceof Integer) ? (Integer) width : (Long) width)
+          .setHeight((height instanceof Integer) ? (Integer) height : (Long) height)
+          .setData(data)
+          .build();
+    }
+
+    // Direct buffers are copied through a small chunk rather than a full size array.
+    private void writeRawImage(@NonNull ByteArrayOutputStream stream, @NonNull MbxRawImage value) {
+      writeValue(stream, value.getWidth());
+      writeValue(stream, value.getHeight());
+      ByteBuffer data = value.getData().duplicate();
+      writeSize(stream, data.remaining());
+      if (data.hasArray()) {
+        stream.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        return;
+      }
+      byte[] chunk = new byte[Math.min(data.remaining(), RAW_IMAGE_CHUNK_SIZE)];
+      while (data.hasRemaining()) {
+        int length = Math.min(data.remaining(), chunk.length);
+        data.get(chunk, 0, length);
+        stream.write(chunk, 0, length);
+      }
+    }
   }
 
   /**
@@ -9542,6 +10101,30 @@ public class FLTMapInterfaces {
      * @return A string describing an error if the operation was not successful, empty otherwise.
      */
     void addStyleImage(@NonNull String imageId, @NonNull Double scale, @NonNull MbxImage image, @NonNull Boolean sdf, @NonNull List<ImageStretches> stretchX, @NonNull List<ImageStretches> stretchY, @Nullable ImageContent content, @NonNull Result<Void> result);
+    /**
+     * Adds an image to be used in the style from raw premultiplied RGBA pixels.
+     *
+     * Same as `addStyleImage`, except that the pixels are not decoded. This method is invoked
+     * on the platform thread and `image` data is only valid until it returns, the
+     * pixels have to be consumed before that.
+     */
+    void addStyleRawImage(@NonNull String imageId, @NonNull Double scale, @NonNull MbxRawImage image, @NonNull Boolean sdf, @NonNull List<ImageStretches> stretchX, @NonNull List<ImageStretches> stretchY, @Nullable ImageContent content, @NonNull Result<Void> result);
+    /**
+     * Updates the image of an image style source from raw premultiplied RGBA pixels.
+     *
+     * Same as `updateStyleImageSourceImage`, except that the pixels are not decoded. This method is
+     * invoked on the platform thread and `image` data is only valid until it returns, the
+     * pixels have to be consumed before that.
+     */
+    void updateStyleImageSourceRawImage(@NonNull String sourceId, @NonNull MbxRawImage image, @NonNull Result<Void> result);
+    /**
+     * Get an `image` from the style as raw premultiplied RGBA pixels.
+     *
+     * @param imageId The identifier of the `image`.
+     *
+     * @return The `image` for the given `imageId`, or empty if no image is associated with the `imageId`.
+     */
+    void getStyleRawImage(@NonNull String imageId, @NonNull Result<MbxRawImage> result);
     /**
      * Removes an image from the style.
      *
@@ -9618,13 +10201,14 @@ public class FLTMapInterfaces {
     }
     /**Sets up an instance of `StyleManager` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable StyleManager api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleURI", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleURI", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<String> resultCallback =
                     new Result<String>() {
@@ -9640,7 +10224,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleURI(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9648,10 +10232,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleURI", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleURI", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String uriArg = (String) args.get(0);
@@ -9669,7 +10253,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.setStyleURI(uriArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9677,7 +10261,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleJSON", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleJSON", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -9704,7 +10288,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleJSON", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleJSON", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -9733,10 +10317,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleDefaultCamera", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleDefaultCamera", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<CameraOptions> resultCallback =
                     new Result<CameraOptions>() {
@@ -9752,7 +10336,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleDefaultCamera(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9760,10 +10344,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleTransition", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleTransition", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<TransitionOptions> resultCallback =
                     new Result<TransitionOptions>() {
@@ -9779,7 +10363,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleTransition(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9787,10 +10371,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImports", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImports", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   List<StyleObjectInfo> output = api.getStyleImports();
@@ -9801,7 +10385,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9809,10 +10393,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleImport", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleImport", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String importIdArg = (String) args.get(0);
@@ -9825,7 +10409,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9833,10 +10417,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImportSchema", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImportSchema", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String importIdArg = (String) args.get(0);
@@ -9849,7 +10433,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9857,10 +10441,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImportConfigProperties", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImportConfigProperties", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String importIdArg = (String) args.get(0);
@@ -9873,7 +10457,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9881,10 +10465,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImportConfigProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImportConfigProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String importIdArg = (String) args.get(0);
@@ -9898,7 +10482,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9906,10 +10490,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleImportConfigProperties", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleImportConfigProperties", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String importIdArg = (String) args.get(0);
@@ -9923,7 +10507,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9931,10 +10515,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleImportConfigProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleImportConfigProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String importIdArg = (String) args.get(0);
@@ -9949,7 +10533,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9957,10 +10541,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleTransition", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleTransition", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 TransitionOptions transitionOptionsArg = (TransitionOptions) args.get(0);
@@ -9978,7 +10562,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.setStyleTransition(transitionOptionsArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -9986,7 +10570,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleLayer", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleLayer", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10016,7 +10600,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addPersistentStyleLayer", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addPersistentStyleLayer", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10046,10 +10630,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.isStyleLayerPersistent", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.isStyleLayerPersistent", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String layerIdArg = (String) args.get(0);
@@ -10067,7 +10651,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.isStyleLayerPersistent(layerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10075,10 +10659,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleLayer", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleLayer", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String layerIdArg = (String) args.get(0);
@@ -10096,7 +10680,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.removeStyleLayer(layerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10104,10 +10688,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.moveStyleLayer", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.moveStyleLayer", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String layerIdArg = (String) args.get(0);
@@ -10126,7 +10710,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.moveStyleLayer(layerIdArg, layerPositionArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10134,10 +10718,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.styleLayerExists", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.styleLayerExists", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String layerIdArg = (String) args.get(0);
@@ -10155,7 +10739,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.styleLayerExists(layerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10163,10 +10747,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLayers", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLayers", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<List<StyleObjectInfo>> resultCallback =
                     new Result<List<StyleObjectInfo>>() {
@@ -10182,7 +10766,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleLayers(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10190,10 +10774,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLayerProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLayerProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String layerIdArg = (String) args.get(0);
@@ -10212,7 +10796,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleLayerProperty(layerIdArg, propertyArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10220,7 +10804,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleLayerProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleLayerProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10251,10 +10835,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLayerProperties", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLayerProperties", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String layerIdArg = (String) args.get(0);
@@ -10272,7 +10856,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleLayerProperties(layerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10280,7 +10864,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleLayerProperties", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleLayerProperties", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10310,7 +10894,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleSource", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleSource", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10340,10 +10924,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleSourceProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleSourceProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -10362,7 +10946,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleSourceProperty(sourceIdArg, propertyArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10370,7 +10954,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleSourceProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleSourceProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10401,7 +10985,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleSourceProperties", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleSourceProperties", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10430,7 +11014,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleSourceProperties", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleSourceProperties", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10460,7 +11044,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.updateStyleImageSourceImage", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.updateStyleImageSourceImage", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10490,10 +11074,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleSource", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleSource", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -10511,7 +11095,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.removeStyleSource(sourceIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10519,10 +11103,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.styleSourceExists", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.styleSourceExists", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -10540,7 +11124,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.styleSourceExists(sourceIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10548,10 +11132,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleSources", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleSources", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<List<StyleObjectInfo>> resultCallback =
                     new Result<List<StyleObjectInfo>>() {
@@ -10567,7 +11151,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleSources(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10575,10 +11159,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLights", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLights", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   List<StyleObjectInfo> output = api.getStyleLights();
@@ -10589,7 +11173,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10597,10 +11181,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setLight", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setLight", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 FlatLight flatLightArg = (FlatLight) args.get(0);
@@ -10613,7 +11197,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10621,10 +11205,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setLights", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setLights", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 AmbientLight ambientLightArg = (AmbientLight) args.get(0);
@@ -10638,7 +11222,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10646,10 +11230,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLightProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleLightProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String idArg = (String) args.get(0);
@@ -10668,7 +11252,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleLightProperty(idArg, propertyArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10676,10 +11260,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleLightProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleLightProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String idArg = (String) args.get(0);
@@ -10699,7 +11283,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.setStyleLightProperty(idArg, propertyArg, valueArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10707,10 +11291,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleTerrain", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleTerrain", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String propertiesArg = (String) args.get(0);
@@ -10728,7 +11312,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.setStyleTerrain(propertiesArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10736,10 +11320,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleTerrainProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleTerrainProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String propertyArg = (String) args.get(0);
@@ -10757,7 +11341,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.getStyleTerrainProperty(propertyArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10765,10 +11349,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleTerrainProperty", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setStyleTerrainProperty", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String propertyArg = (String) args.get(0);
@@ -10787,7 +11371,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.setStyleTerrainProperty(propertyArg, valueArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10795,7 +11379,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImage", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleImage", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10824,7 +11408,7 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleImage", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleImage", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -10857,15 +11441,22 @@ public class FLTMapInterfaces {
         }
       }
       {
+        // No task queue, the image data is a view of the message and is only valid until this returns.
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleImage", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleRawImage", getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String imageIdArg = (String) args.get(0);
+                Double scaleArg = (Double) args.get(1);
+                MbxRawImage imageArg = (MbxRawImage) args.get(2);
+                Boolean sdfArg = (Boolean) args.get(3);
+                List<ImageStretches> stretchXArg = (List<ImageStretches>) args.get(4);
+                List<ImageStretches> stretchYArg = (List<ImageStretches>) args.get(5);
+                ImageContent contentArg = (ImageContent) args.get(6);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -10879,7 +11470,38 @@ public class FLTMapInterfaces {
                       }
                     };
 
-                api.removeStyleImage(imageIdArg, resultCallback);
+                api.addStyleRawImage(imageIdArg, scaleArg, imageArg, sdfArg, stretchXArg, stretchYArg, contentArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        // No task queue, the image data is a view of the message and is only valid until this returns.
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.updateStyleImageSourceRawImage", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String sourceIdArg = (String) args.get(0);
+                MbxRawImage imageArg = (MbxRawImage) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.updateStyleImageSourceRawImage(sourceIdArg, imageArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -10888,10 +11510,68 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.hasStyleImage", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleRawImage", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String imageIdArg = (String) args.get(0);
+                Result<MbxRawImage> resultCallback =
+                    new Result<MbxRawImage>() {
+                      public void success(MbxRawImage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getStyleRawImage(imageIdArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.removeStyleImage", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String imageIdArg = (String) args.get(0);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.removeStyleImage(imageIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.hasStyleImage", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String imageIdArg = (String) args.get(0);
@@ -10909,7 +11589,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.hasStyleImage(imageIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10917,10 +11597,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.invalidateStyleCustomGeometrySourceTile", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.invalidateStyleCustomGeometrySourceTile", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -10939,7 +11619,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.invalidateStyleCustomGeometrySourceTile(sourceIdArg, tileIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10947,10 +11627,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.invalidateStyleCustomGeometrySourceRegion", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.invalidateStyleCustomGeometrySourceRegion", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String sourceIdArg = (String) args.get(0);
@@ -10969,7 +11649,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.invalidateStyleCustomGeometrySourceRegion(sourceIdArg, boundsArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -10977,10 +11657,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.isStyleLoaded", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.isStyleLoaded", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 Result<Boolean> resultCallback =
                     new Result<Boolean>() {
@@ -10996,7 +11676,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.isStyleLoaded(resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -11004,10 +11684,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getProjection", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getProjection", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 try {
                   StyleProjection output = api.getProjection();
@@ -11018,7 +11698,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -11026,10 +11706,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setProjection", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.setProjection", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 StyleProjection projectionArg = (StyleProjection) args.get(0);
@@ -11042,7 +11722,7 @@ public class FLTMapInterfaces {
                   wrapped = wrappedError;
                 }
                 reply.reply(wrapped);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -11050,10 +11730,10 @@ public class FLTMapInterfaces {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.localizeLabels", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.localizeLabels", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String localeArg = (String) args.get(0);
@@ -11072,7 +11752,7 @@ public class FLTMapInterfaces {
                     };
 
                 api.localizeLabels(localeArg, layerIdsArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -0,0 +1,347 @@
+// Autogenerated from Pigeon (v11.0.1), do not edit directly.
+// See also: https://pub.dev/packages/pigeon
+
+package com.mapbox.maps.pigeons;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Generated class from Pigeon. */
+@SuppressWarnings({"unused", "unchecked", "CodeBlock2Expr", "RedundantSuppression", "serial"})
+public class FLTMessengerMetrics {
+
+  /** Error class for passing custom error details to Flutter via a thrown PlatformException. */
+  public static class FlutterError extends RuntimeException {
+
+    /** The error code. */
+    public final String code;
+
+    /** The error details. Must be a datatype supported by the api codec. */
+    public final Object details;
+
+    public FlutterError(@NonNull String code, @Nullable String message, @Nullable Object details) 
+    {
+      super(message);
+      this.code = code;
+      this.details = details;
+    }
+  }
+
+  @NonNull
+  protected static ArrayList<Object> wrapError(@NonNull Throwable exception) {
+    ArrayList<Object> errorList = new ArrayList<Object>(3);
+    if (exception instanceof FlutterError) {
+      FlutterError error = (FlutterError) exception;
+      errorList.add(error.code);
+      errorList.add(error.getMessage());
+      errorList.add(error.details);
+    } else {
+      errorList.add(exception.toString());
+      errorList.add(exception.getClass().getSimpleName());
+      errorList.add(
+        "Cause: " + exception.getCause() + ", Stacktrace: " + Log.getStackTraceString(exception));
+    }
+    return errorList;
+  }
+
+  /**
+   * Traffic recorded for one channel and direction.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class ChannelMetrics {
+    /** The name of the channel, without the map instance suffix. */
+    private @NonNull String channel;
+
+    public @NonNull String getChannel() {
+      return channel;
+    }
+
+    public void setChannel(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"channel\" is null.");
+      }
+      this.channel = setterArg;
+    }
+
+    /** Whether these are messages sent from Flutter to the platform, false for messages sent from the platform to Flutter. */
+    private @NonNull Boolean incoming;
+
+    public @NonNull Boolean getIncoming() {
+      return incoming;
+    }
+
+    public void setIncoming(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"incoming\" is null.");
+      }
+      this.incoming = setterArg;
+    }
+
+    /** The number of messages. */
+    private @NonNull Long messageCount;
+
+    public @NonNull Long getMessageCount() {
+      return messageCount;
+    }
+
+    public void setMessageCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"messageCount\" is null.");
+      }
+      this.messageCount = setterArg;
+    }
+
+    /** The total size of the messages, in bytes. */
+    private @NonNull Long requestBytes;
+
+    public @NonNull Long getRequestBytes() {
+      return requestBytes;
+    }
+
+    public void setRequestBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"requestBytes\" is null.");
+      }
+      this.requestBytes = setterArg;
+    }
+
+    /** The total size of the replies, in bytes. */
+    private @NonNull Long responseBytes;
+
+    public @NonNull Long getResponseBytes() {
+      return responseBytes;
+    }
+
+    public void setResponseBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"responseBytes\" is null.");
+      }
+      this.responseBytes = setterArg;
+    }
+
+    /**
+     * The number of messages per latency bucket, from the moment a message is handed over until its reply arrives.
+     * Messages sent without a reply only measure the hand over.
+     *
+     * The buckets are bounded by 50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000 and 50000 microseconds,
+     * the last bucket counts all the slower messages.
+     */
+    private @NonNull List<Long> latencyHistogram;
+
+    public @NonNull List<Long> getLatencyHistogram() {
+      return latencyHistogram;
+    }
+
+    public void setLatencyHistogram(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"latencyHistogram\" is null.");
+      }
+      this.latencyHistogram = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ChannelMetrics() {}
+
+    public static final class Builder {
+
+      private @Nullable String channel;
+
+      public @NonNull Builder setChannel(@NonNull String setterArg) {
+        this.channel = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean incoming;
+
+      public @NonNull Builder setIncoming(@NonNull Boolean setterArg) {
+        this.incoming = setterArg;
+        return this;
+      }
+
+      private @Nullable Long messageCount;
+
+      public @NonNull Builder setMessageCount(@NonNull Long setterArg) {
+        this.messageCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long requestBytes;
+
+      public @NonNull Builder setRequestBytes(@NonNull Long setterArg) {
+        this.requestBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long responseBytes;
+
+      public @NonNull Builder setResponseBytes(@NonNull Long setterArg) {
+        this.responseBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> latencyHistogram;
+
+      public @NonNull Builder setLatencyHistogram(@NonNull List<Long> setterArg) {
+        this.latencyHistogram = setterArg;
+        return this;
+      }
+
+      public @NonNull ChannelMetrics build() {
+        ChannelMetrics pigeonReturn = new ChannelMetrics();
+        pigeonReturn.setChannel(channel);
+        pigeonReturn.setIncoming(incoming);
+        pigeonReturn.setMessageCount(messageCount);
+        pigeonReturn.setRequestBytes(requestBytes);
+        pigeonReturn.setResponseBytes(responseBytes);
+        pigeonReturn.setLatencyHistogram(latencyHistogram);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(channel);
+      toListResult.add(incoming);
+      toListResult.add(messageCount);
+      toListResult.add(requestBytes);
+      toListResult.add(responseBytes);
+      toListResult.add(latencyHistogram);
+      return toListResult;
+    }
+
+    static @NonNull ChannelMetrics fromList(@NonNull ArrayList<Object> list) {
+      ChannelMetrics pigeonResult = new ChannelMetrics();
+      Object channel = list.get(0);
+      pigeonResult.setChannel((String) channel);
+      Object incoming = list.get(1);
+      pigeonResult.setIncoming((Boolean) incoming);
+      Object messageCount = list.get(2);
+      pigeonResult.setMessageCount((messageCount == null) ? null : ((messageCount instanceof Integer) ? (Integer) messageCount : (Long) messageCount));
+      Object requestBytes = list.get(3);
+      pigeonResult.setRequestBytes((requestBytes == null) ? null : ((requestBytes instanceof Integer) ? (Integer) requestBytes : (Long) requestBytes));
+      Object responseBytes = list.get(4);
+      pigeonResult.setResponseBytes((responseBytes == null) ? null : ((responseBytes instanceof Integer) ? (Integer) responseBytes : (Long) responseBytes));
+      Object latencyHistogram = list.get(5);
+      pigeonResult.setLatencyHistogram((List<Long>) latencyHistogram);
+      return pigeonResult;
+    }
+  }
+
+  private static class _MessengerMetricsCodec extends PooledMessageCodec {
+    public static final _MessengerMetricsCodec INSTANCE = new _MessengerMetricsCodec();
+
+    private _MessengerMetricsCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ChannelMetrics.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ChannelMetrics) {
+        stream.write(128);
+        writeValue(stream, ((ChannelMetrics) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /**
+   * Opt-in instrumentation of the messages exchanged by a map instance.
+   *
+   * Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface _MessengerMetrics {
+    /**
+     * Starts or stops recording the traffic of every channel.
+     *
+     * @param enabled Whether the traffic should be recorded.
+     */
+    void setEnabled(@NonNull Boolean enabled);
+    /**
+     * Returns the traffic recorded so far, one entry per channel and direction.
+     *
+     * @param reset Whether the recorded traffic should be cleared.
+     */
+    @NonNull 
+    List<ChannelMetrics> getMetrics(@NonNull Boolean reset);
+
+    /** The codec used by _MessengerMetrics. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return _MessengerMetricsCodec.INSTANCE;
+    }
+    /**Sets up an instance of `_MessengerMetrics` to handle messages through the `binaryMessenger`. */
+    static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _MessengerMetrics api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MessengerMetrics.setEnabled", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean enabledArg = (Boolean) args.get(0);
+                try {
+                  api.setEnabled(enabledArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._MessengerMetrics.getMetrics", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean resetArg = (Boolean) args.get(0);
+                try {
+                  List<ChannelMetrics> output = api.getMetrics(resetArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.flutter.plugin.common.MessageCodec;
 import io.flutter.plugin.common.StandardMessageCodec;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1905,6 +1906,183 @@ public class FLTPointAnnotationMessager {
     }
   }
 
+  /**
+   * Columnar representation of a list of [PointAnnotationOptions], used by `createMultiPacked`.
+   *
+   * Every property is stored as one column holding a value per annotation. Coordinates and numeric
+   * properties (colors included) are packed into double arrays with `NaN` marking a missing value,
+   * list properties use a fixed number of doubles per annotation, enums use one byte per annotation
+   * with {@link #NO_VALUE} marking a missing value, and strings and images are dictionary encoded
+   * with `-1` marking a missing value. A column is null when no annotation of the batch sets it.
+   */
+  public static final class PointAnnotationOptionsBatch {
+    /** Marker of a missing enum value. */
+    public static final byte NO_VALUE = (byte) 0xFF;
+
+    /** The number of annotations in the batch. */
+    public int count;
+
+    /** Longitude and latitude of every annotation. */
+    public @NonNull double[] coordinates = new double[0];
+
+    public @Nullable byte[][] imageDictionary;
+
+    public @Nullable int[] image;
+
+    public @Nullable byte[] iconAnchor;
+
+    public @Nullable String[] iconImageDictionary;
+
+    public @Nullable int[] iconImage;
+
+    /** Two values per annotation. */
+    public @Nullable double[] iconOffset;
+
+    public @Nullable double[] iconRotate;
+
+    public @Nullable double[] iconSize;
+
+    public @Nullable byte[] iconTextFit;
+
+    /** Four values per annotation. */
+    public @Nullable double[] iconTextFitPadding;
+
+    public @Nullable double[] symbolSortKey;
+
+    public @Nullable byte[] textAnchor;
+
+    public @Nullable String[] textFieldDictionary;
+
+    public @Nullable int[] textField;
+
+    public @Nullable byte[] textJustify;
+
+    public @Nullable double[] textLetterSpacing;
+
+    public @Nullable double[] textLineHeight;
+
+    public @Nullable double[] textMaxWidth;
+
+    /** Two values per annotation. */
+    public @Nullable double[] textOffset;
+
+    public @Nullable double[] textRadialOffset;
+
+    public @Nullable double[] textRotate;
+
+    public @Nullable double[] textSize;
+
+    public @Nullable byte[] textTransform;
+
+    public @Nullable double[] iconColor;
+
+    public @Nullable double[] iconEmissiveStrength;
+
+    public @Nullable double[] iconHaloBlur;
+
+    public @Nullable double[] iconHaloColor;
+
+    public @Nullable double[] iconHaloWidth;
+
+    public @Nullable double[] iconImageCrossFade;
+
+    public @Nullable double[] iconOpacity;
+
+    public @Nullable double[] textColor;
+
+    public @Nullable double[] textEmissiveStrength;
+
+    public @Nullable double[] textHaloBlur;
+
+    public @Nullable double[] textHaloColor;
+
+    public @Nullable double[] textHaloWidth;
+
+    public @Nullable double[] textOpacity;
+  }
+
+  /**
+   * Annotations created by `createMultiPacked`.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PointAnnotationBatchResult {
+    /** The ids of the created annotations, in the order of the options. */
+    private @NonNull List<String> ids;
+
+    public @NonNull List<String> getIds() {
+      return ids;
+    }
+
+    public void setIds(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"ids\" is null.");
+      }
+      this.ids = setterArg;
+    }
+
+    /**
+     * The icon image of every annotation created from an image, as resolved by the native
+     * annotation manager. Null for the annotations created without an image.
+     */
+    private @NonNull List<String> iconImages;
+
+    public @NonNull List<String> getIconImages() {
+      return iconImages;
+    }
+
+    public void setIconImages(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"iconImages\" is null.");
+      }
+      this.iconImages = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PointAnnotationBatchResult() {}
+
+    public static final class Builder {
+
+      private @Nullable List<String> ids;
+
+      public @NonNull Builder setIds(@NonNull List<String> setterArg) {
+        this.ids = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> iconImages;
+
+      public @NonNull Builder setIconImages(@NonNull List<String> setterArg) {
+        this.iconImages = setterArg;
+        return this;
+      }
+
+      public @NonNull PointAnnotationBatchResult build() {
+        PointAnnotationBatchResult pigeonReturn = new PointAnnotationBatchResult();
+        pigeonReturn.setIds(ids);
+        pigeonReturn.setIconImages(iconImages);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(ids);
+      toListResult.add(iconImages);
+      return toListResult;
+    }
+
+    static @NonNull PointAnnotationBatchResult fromList(@NonNull ArrayList<Object> list) {
+      PointAnnotationBatchResult pigeonResult = new PointAnnotationBatchResult();
+      Object ids = list.get(0);
+      pigeonResult.setIds((List<String>) ids);
+      Object iconImages = list.get(1);
+      pigeonResult.setIconImages((List<String>) iconImages);
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -1912,7 +2090,7 @@ public class FLTPointAnnotationMessager {
     void error(@NonNull Throwable error);
   }
 
-  private static class OnPointAnnotationClickListenerCodec extends StandardMessageCodec {
+  private static class OnPointAnnotationClickListenerCodec extends PooledMessageCodec {
     public static final OnPointAnnotationClickListenerCodec INSTANCE = new OnPointAnnotationClickListenerCodec();
 
     private OnPointAnnotationClickListenerCodec() {}
@@ -1941,9 +2119,13 @@ public class FLTPointAnnotationMessager {
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class OnPointAnnotationClickListener {
     private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onPointAnnotationClickChannel;
 
     public OnPointAnnotationClickListener(@NonNull BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
+      this.onPointAnnotationClickChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnPointAnnotationClickListener.onPointAnnotationClick", getCodec());
     }
 
     /** Public interface for sending reply. */ 
@@ -1956,18 +2138,17 @@ public class FLTPointAnnotationMessager {
       return OnPointAnnotationClickListenerCodec.INSTANCE;
     }
     public void onPointAnnotationClick(@NonNull PointAnnotation annotationArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnPointAnnotationClickListener.onPointAnnotationClick", getCodec());
-      channel.send(
+      onPointAnnotationClickChannel.send(
           new ArrayList<Object>(Collections.singletonList(annotationArg)),
           channelReply -> callback.reply(null));
     }
   }
 
-  private static class _PointAnnotationMessagerCodec extends StandardMessageCodec {
+  private static class _PointAnnotationMessagerCodec extends PooledMessageCodec {
     public static final _PointAnnotationMessagerCodec INSTANCE = new _PointAnnotationMessagerCodec();
 
+    private static final Charset UTF8 = Charset.forName("UTF8");
+
     private _PointAnnotationMessagerCodec() {}
 
     @Override
@@ -1977,6 +2158,10 @@ public class FLTPointAnnotationMessager {
           return PointAnnotation.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 129:
           return PointAnnotationOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return readBatch(buffer);
+        case (byte) 131:
+          return PointAnnotationBatchResult.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -1990,10 +2175,200 @@ public class FLTPointAnnotationMessager {
       } else if (value instanceof PointAnnotationOptions) {
         stream.write(129);
         writeValue(stream, ((PointAnnotationOptions) value).toList());
+      } else if (value instanceof PointAnnotationOptionsBatch) {
+        stream.write(130);
+        writeBatch(stream, (PointAnnotationOptionsBatch) value);
+      } else if (value instanceof PointAnnotationBatchResult) {
+        stream.write(131);
+        writeValue(stream, ((PointAnnotationBatchResult) value).toList());
       } else {
         super.writeValue(stream, value);
       }
     }
+
+    // The columns are read and written in the field order of PointAnnotationOptions.
+    private static PointAnnotationOptionsBatch readBatch(@NonNull ByteBuffer buffer) {
+      PointAnnotationOptionsBatch batch = new PointAnnotationOptionsBatch();
+      int count = readSize(buffer);
+      batch.count = count;
+      batch.coordinates = readDoubles(buffer, count * 2);
+      if (buffer.get() != 0) {
+        batch.imageDictionary = readBytesDictionary(buffer);
+        batch.image = readIndices(buffer, count);
+      }
+      batch.iconAnchor = readEnumColumn(buffer, count);
+      if (buffer.get() != 0) {
+        batch.iconImageDictionary = readStringDictionary(buffer);
+        batch.iconImage = readIndices(buffer, count);
+      }
+      batch.iconOffset = readDoubleColumn(buffer, count * 2);
+      batch.iconRotate = readDoubleColumn(buffer, count);
+      batch.iconSize = readDoubleColumn(buffer, count);
+      batch.iconTextFit = readEnumColumn(buffer, count);
+      batch.iconTextFitPadding = readDoubleColumn(buffer, count * 4);
+      batch.symbolSortKey = readDoubleColumn(buffer, count);
+      batch.textAnchor = readEnumColumn(buffer, count);
+      if (buffer.get() != 0) {
+        batch.textFieldDictionary = readStringDictionary(buffer);
+        batch.textField = readIndices(buffer, count);
+      }
+      batch.textJustify = readEnumColumn(buffer, count);
+      batch.textLetterSpacing = readDoubleColumn(buffer, count);
+      batch.textLineHeight = readDoubleColumn(buffer, count);
+      batch.textMaxWidth = readDoubleColumn(buffer, count);
+      batch.textOffset = readDoubleColumn(buffer, count * 2);
+      batch.textRadialOffset = readDoubleColumn(buffer, count);
+      batch.textRotate = readDoubleColumn(buffer, count);
+      batch.textSize = readDoubleColumn(buffer, count);
+      batch.textTransform = readEnumColumn(buffer, count);
+      batch.iconColor = readDoubleColumn(buffer, count);
+      batch.iconEmissiveStrength = readDoubleColumn(buffer, count);
+      batch.iconHaloBlur = readDoubleColumn(buffer, count);
+      batch.iconHaloColor = readDoubleColumn(buffer, count);
+      batch.iconHaloWidth = readDoubleColumn(buffer, count);
+      batch.iconImageCrossFade = readDoubleColumn(buffer, count);
+      batch.iconOpacity = readDoubleColumn(buffer, count);
+      batch.textColor = readDoubleColumn(buffer, count);
+      batch.textEmissiveStrength = readDoubleColumn(buffer, count);
+      batch.textHaloBlur = readDoubleColumn(buffer, count);
+      batch.textHaloColor = readDoubleColumn(buffer, count);
+      batch.textHaloWidth = readDoubleColumn(buffer, count);
+      batch.textOpacity = readDoubleColumn(buffer, count);
+      return batch;
+    }
+
+    private static void writeBatch(@NonNull ByteArrayOutputStream stream, @NonNull PointAnnotationOptionsBatch batch) {
+      writeSize(stream, batch.count);
+      writeDoubles(stream, batch.coordinates);
+      stream.write(batch.image == null ? 0 : 1);
+      if (batch.image != null) {
+        writeSize(stream, batch.imageDictionary.length);
+        for (byte[] entry : batch.imageDictionary) {
+          writeBytes(stream, entry);
+        }
+        writeIndices(stream, batch.image);
+      }
+      writeEnumColumn(stream, batch.iconAnchor);
+      stream.write(batch.iconImage == null ? 0 : 1);
+      if (batch.iconImage != null) {
+        writeStringDictionary(stream, batch.iconImageDictionary);
+        writeIndices(stream, batch.iconImage);
+      }
+      writeDoubleColumn(stream, batch.iconOffset);
+      writeDoubleColumn(stream, batch.iconRotate);
+      writeDoubleColumn(stream, batch.iconSize);
+      writeEnumColumn(stream, batch.iconTextFit);
+      writeDoubleColumn(stream, batch.iconTextFitPadding);
+      writeDoubleColumn(stream, batch.symbolSortKey);
+      writeEnumColumn(stream, batch.textAnchor);
+      stream.write(batch.textField == null ? 0 : 1);
+      if (batch.textField != null) {
+        writeStringDictionary(stream, batch.textFieldDictionary);
+        writeIndices(stream, batch.textField);
+      }
+      writeEnumColumn(stream, batch.textJustify);
+      writeDoubleColumn(stream, batch.textLetterSpacing);
+      writeDoubleColumn(stream, batch.textLineHeight);
+      writeDoubleColumn(stream, batch.textMaxWidth);
+      writeDoubleColumn(stream, batch.textOffset);
+      writeDoubleColumn(stream, batch.textRadialOffset);
+      writeDoubleColumn(stream, batch.textRotate);
+      writeDoubleColumn(stream, batch.textSize);
+      writeEnumColumn(stream, batch.textTransform);
+      writeDoubleColumn(stream, batch.iconColor);
+      writeDoubleColumn(stream, batch.iconEmissiveStrength);
+      writeDoubleColumn(stream, batch.iconHaloBlur);
+      writeDoubleColumn(stream, batch.iconHaloColor);
+      writeDoubleColumn(stream, batch.iconHaloWidth);
+      writeDoubleColumn(stream, batch.iconImageCrossFade);
+      writeDoubleColumn(stream, batch.iconOpacity);
+      writeDoubleColumn(stream, batch.textColor);
+      writeDoubleColumn(stream, batch.textEmissiveStrength);
+      writeDoubleColumn(stream, batch.textHaloBlur);
+      writeDoubleColumn(stream, batch.textHaloColor);
+      writeDoubleColumn(stream, batch.textHaloWidth);
+      writeDoubleColumn(stream, batch.textOpacity);
+    }
+
+    private static @NonNull double[] readDoubles(@NonNull ByteBuffer buffer, int length) {
+      readAlignment(buffer, 8);
+      double[] values = new double[length];
+      buffer.asDoubleBuffer().get(values);
+      buffer.position(buffer.position() + length * 8);
+      return values;
+    }
+
+    private static @Nullable double[] readDoubleColumn(@NonNull ByteBuffer buffer, int length) {
+      return buffer.get() != 0 ? readDoubles(buffer, length) : null;
+    }
+
+    private static @Nullable byte[] readEnumColumn(@NonNull ByteBuffer buffer, int length) {
+      if (buffer.get() == 0) {
+        return null;
+      }
+      byte[] values = new byte[length];
+      buffer.get(values);
+      return values;
+    }
+
+    private static @NonNull int[] readIndices(@NonNull ByteBuffer buffer, int length) {
+      readAlignment(buffer, 4);
+      int[] values = new int[length];
+      buffer.asIntBuffer().get(values);
+      buffer.position(buffer.position() + length * 4);
+      return values;
+    }
+
+    private static @NonNull byte[][] readBytesDictionary(@NonNull ByteBuffer buffer) {
+      byte[][] dictionary = new byte[readSize(buffer)][];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = readBytes(buffer);
+      }
+      return dictionary;
+    }
+
+    private static @NonNull String[] readStringDictionary(@NonNull ByteBuffer buffer) {
+      String[] dictionary = new String[readSize(buffer)];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = new String(readBytes(buffer), UTF8);
+      }
+      return dictionary;
+    }
+
+    private static void writeDoubles(@NonNull ByteArrayOutputStream stream, @NonNull double[] values) {
+      writeAlignment(stream, 8);
+      for (double value : values) {
+        writeDouble(stream, value);
+      }
+    }
+
+    private static void writeDoubleColumn(@NonNull ByteArrayOutputStream stream, @Nullable double[] values) {
+      stream.write(values == null ? 0 : 1);
+      if (values != null) {
+        writeDoubles(stream, values);
+      }
+    }
+
+    private static void writeEnumColumn(@NonNull ByteArrayOutputStream stream, @Nullable byte[] values) {
+      stream.write(values == null ? 0 : 1);
+      if (values != null) {
+        stream.write(values, 0, values.length);
+      }
+    }
+
+    private static void writeIndices(@NonNull ByteArrayOutputStream stream, @NonNull int[] values) {
+      writeAlignment(stream, 4);
+      for (int value : values) {
+        writeInt(stream, value);
+      }
+    }
+
+    private static void writeStringDictionary(@NonNull ByteArrayOutputStream stream, @NonNull String[] dictionary) {
+      writeSize(stream, dictionary.length);
+      for (String entry : dictionary) {
+        writeBytes(stream, entry.getBytes(UTF8));
+      }
+    }
   }
 
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
@@ -2003,12 +2378,34 @@ public class FLTPointAnnotationMessager {
 
     void createMulti(@NonNull String managerId, @NonNull List<PointAnnotationOptions> annotationOptions, @NonNull Result<List<PointAnnotation>> result);
 
+    void createMultiPacked(@NonNull String managerId, @NonNull PointAnnotationOptionsBatch annotationOptions, @NonNull Result<PointAnnotationBatchResult> result);
+
     void update(@NonNull String managerId, @NonNull PointAnnotation annotation, @NonNull Result<Void> result);
 
     void delete(@NonNull String managerId, @NonNull PointAnnotation annotation, @NonNull Result<Void> result);
 
+    void updateMulti(@NonNull String managerId, @NonNull List<PointAnnotation> annotations, @NonNull Result<Void> result);
+
+    void deleteMulti(@NonNull String managerId, @NonNull List<PointAnnotation> annotations, @NonNull Result<Void> result);
+
+    void updateGeometries(@NonNull String managerId, @NonNull List<String> ids, @NonNull double[] coordinates, @NonNull Result<Void> result);
+
+    void animateGeometries(@NonNull String managerId, @NonNull List<String> ids, @NonNull double[] coordinates, @NonNull Long durationMillis, @NonNull Result<Void> result);
+
+    void setVirtualDataset(@NonNull String managerId, @NonNull double[] coordinates, @Nullable int[] templateIndices, @NonNull List<PointAnnotationOptions> templates, @NonNull Long maxAnnotations, @NonNull Double margin, @NonNull Result<Void> result);
+
+    void clearVirtualDataset(@NonNull String managerId, @NonNull Result<Void> result);
+
     void deleteAll(@NonNull String managerId, @NonNull Result<Void> result);
 
+    void setProperties(@NonNull String managerId, @NonNull Map<String, Object> properties, @NonNull Result<Void> result);
+
+    void getProperties(@NonNull String managerId, @NonNull Result<Map<String, Object>> result);
+
+    void addIconImage(@NonNull String managerId, @NonNull String imageId, @NonNull byte[] image, @NonNull Result<Void> result);
+
+    void removeIconImage(@NonNull String managerId, @NonNull String imageId, @NonNull Result<Void> result);
+
     void setIconAllowOverlap(@NonNull String managerId, @NonNull Boolean iconAllowOverlap, @NonNull Result<Void> result);
 
     void getIconAllowOverlap(@NonNull String managerId, @NonNull Result<Boolean> result);
@@ -2115,21 +2512,202 @@ public class FLTPointAnnotationMessager {
     }
     /**Sets up an instance of `_PointAnnotationMessager` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _PointAnnotationMessager api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.create", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                PointAnnotationOptions annotationOptionArg = (PointAnnotationOptions) args.get(1);
+                Result<PointAnnotation> resultCallback =
+                    new Result<PointAnnotation>() {
+                      public void success(PointAnnotation result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.create(managerIdArg, annotationOptionArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.createMulti", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<PointAnnotationOptions> annotationOptionsArg = (List<PointAnnotationOptions>) args.get(1);
+                Result<List<PointAnnotation>> resultCallback =
+                    new Result<List<PointAnnotation>>() {
+                      public void success(List<PointAnnotation> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.createMulti(managerIdArg, annotationOptionsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.createMultiPacked", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                PointAnnotationOptionsBatch annotationOptionsArg = (PointAnnotationOptionsBatch) args.get(1);
+                Result<PointAnnotationBatchResult> resultCallback =
+                    new Result<PointAnnotationBatchResult>() {
+                      public void success(PointAnnotationBatchResult result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.createMultiPacked(managerIdArg, annotationOptionsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.update", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                PointAnnotation annotationArg = (PointAnnotation) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.update(managerIdArg, annotationArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.delete", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                PointAnnotation annotationArg = (PointAnnotation) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.delete(managerIdArg, annotationArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.updateMulti", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<PointAnnotation> annotationsArg = (List<PointAnnotation>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.updateMulti(managerIdArg, annotationsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.deleteMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
-                PointAnnotationOptions annotationOptionArg = (PointAnnotationOptions) args.get(1);
-                Result<PointAnnotation> resultCallback =
-                    new Result<PointAnnotation>() {
-                      public void success(PointAnnotation result) {
-                        wrapped.add(0, result);
+                List<PointAnnotation> annotationsArg = (List<PointAnnotation>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
                         reply.reply(wrapped);
                       }
 
@@ -2139,7 +2717,7 @@ public class FLTPointAnnotationMessager {
                       }
                     };
 
-                api.create(managerIdArg, annotationOptionArg, resultCallback);
+                api.deleteMulti(managerIdArg, annotationsArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -2148,18 +2726,19 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.createMulti", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.updateGeometries", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
-                List<PointAnnotationOptions> annotationOptionsArg = (List<PointAnnotationOptions>) args.get(1);
-                Result<List<PointAnnotation>> resultCallback =
-                    new Result<List<PointAnnotation>>() {
-                      public void success(List<PointAnnotation> result) {
-                        wrapped.add(0, result);
+                List<String> idsArg = (List<String>) args.get(1);
+                double[] coordinatesArg = (double[]) args.get(2);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
                         reply.reply(wrapped);
                       }
 
@@ -2169,7 +2748,7 @@ public class FLTPointAnnotationMessager {
                       }
                     };
 
-                api.createMulti(managerIdArg, annotationOptionsArg, resultCallback);
+                api.updateGeometries(managerIdArg, idsArg, coordinatesArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -2178,14 +2757,16 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.update", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.animateGeometries", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
-                PointAnnotation annotationArg = (PointAnnotation) args.get(1);
+                List<String> idsArg = (List<String>) args.get(1);
+                double[] coordinatesArg = (double[]) args.get(2);
+                Number durationMillisArg = (Number) args.get(3);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -2199,7 +2780,7 @@ public class FLTPointAnnotationMessager {
                       }
                     };
 
-                api.update(managerIdArg, annotationArg, resultCallback);
+                api.animateGeometries(managerIdArg, idsArg, coordinatesArg, (durationMillisArg == null) ? null : durationMillisArg.longValue(), resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -2208,14 +2789,18 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.delete", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setVirtualDataset", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
-                PointAnnotation annotationArg = (PointAnnotation) args.get(1);
+                double[] coordinatesArg = (double[]) args.get(1);
+                int[] templateIndicesArg = (int[]) args.get(2);
+                List<PointAnnotationOptions> templatesArg = (List<PointAnnotationOptions>) args.get(3);
+                Number maxAnnotationsArg = (Number) args.get(4);
+                Double marginArg = (Double) args.get(5);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -2229,7 +2814,7 @@ public class FLTPointAnnotationMessager {
                       }
                     };
 
-                api.delete(managerIdArg, annotationArg, resultCallback);
+                api.setVirtualDataset(managerIdArg, coordinatesArg, templateIndicesArg, templatesArg, (maxAnnotationsArg == null) ? null : maxAnnotationsArg.longValue(), marginArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -2238,10 +2823,39 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.deleteAll", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.clearVirtualDataset", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.clearVirtualDataset(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.deleteAll", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2259,7 +2873,66 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.deleteAll(managerIdArg, resultCallback);
-              });
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Map<String, Object> propertiesArg = (Map<String, Object>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setProperties(managerIdArg, propertiesArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getProperties(managerIdArg, resultCallback);
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2267,10 +2940,71 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconAllowOverlap", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.addIconImage", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                String imageIdArg = (String) args.get(1);
+                byte[] imageArg = (byte[]) args.get(2);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.addIconImage(managerIdArg, imageIdArg, imageArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.removeIconImage", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                String imageIdArg = (String) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.removeIconImage(managerIdArg, imageIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconAllowOverlap", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2289,7 +3023,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconAllowOverlap(managerIdArg, iconAllowOverlapArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2297,10 +3031,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconAllowOverlap", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconAllowOverlap", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2318,7 +3052,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconAllowOverlap(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2326,10 +3060,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconIgnorePlacement", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconIgnorePlacement", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2348,7 +3082,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconIgnorePlacement(managerIdArg, iconIgnorePlacementArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2356,10 +3090,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconIgnorePlacement", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconIgnorePlacement", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2377,7 +3111,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconIgnorePlacement(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2385,10 +3119,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconKeepUpright", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconKeepUpright", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2407,7 +3141,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconKeepUpright(managerIdArg, iconKeepUprightArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2415,10 +3149,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconKeepUpright", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconKeepUpright", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2436,7 +3170,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconKeepUpright(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2444,10 +3178,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconOptional", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconOptional", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2466,7 +3200,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconOptional(managerIdArg, iconOptionalArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2474,10 +3208,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconOptional", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconOptional", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2495,7 +3229,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconOptional(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2503,10 +3237,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconPadding", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconPadding", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2525,7 +3259,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconPadding(managerIdArg, iconPaddingArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2533,10 +3267,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconPadding", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconPadding", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2554,7 +3288,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconPadding(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2562,10 +3296,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconPitchAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconPitchAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2584,7 +3318,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconPitchAlignment(managerIdArg, iconPitchAlignmentArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2592,10 +3326,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconPitchAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconPitchAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2613,7 +3347,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconPitchAlignment(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2621,10 +3355,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconRotationAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconRotationAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2643,7 +3377,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconRotationAlignment(managerIdArg, iconRotationAlignmentArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2651,10 +3385,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconRotationAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconRotationAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2672,7 +3406,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconRotationAlignment(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2680,10 +3414,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolAvoidEdges", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolAvoidEdges", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2702,7 +3436,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setSymbolAvoidEdges(managerIdArg, symbolAvoidEdgesArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2710,10 +3444,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolAvoidEdges", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolAvoidEdges", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2731,7 +3465,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getSymbolAvoidEdges(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2739,10 +3473,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolPlacement", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolPlacement", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2761,7 +3495,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setSymbolPlacement(managerIdArg, symbolPlacementArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2769,10 +3503,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolPlacement", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolPlacement", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2790,7 +3524,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getSymbolPlacement(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2798,10 +3532,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolSpacing", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolSpacing", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2820,7 +3554,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setSymbolSpacing(managerIdArg, symbolSpacingArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2828,10 +3562,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolSpacing", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolSpacing", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2849,7 +3583,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getSymbolSpacing(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2857,10 +3591,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolZElevate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolZElevate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2879,7 +3613,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setSymbolZElevate(managerIdArg, symbolZElevateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2887,10 +3621,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolZElevate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolZElevate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2908,7 +3642,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getSymbolZElevate(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2916,10 +3650,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolZOrder", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setSymbolZOrder", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2938,7 +3672,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setSymbolZOrder(managerIdArg, symbolZOrderArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2946,10 +3680,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolZOrder", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getSymbolZOrder", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2967,7 +3701,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getSymbolZOrder(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -2975,10 +3709,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextAllowOverlap", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextAllowOverlap", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -2997,7 +3731,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextAllowOverlap(managerIdArg, textAllowOverlapArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3005,10 +3739,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextAllowOverlap", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextAllowOverlap", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3026,7 +3760,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextAllowOverlap(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3034,10 +3768,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextFont", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextFont", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3056,7 +3790,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextFont(managerIdArg, textFontArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3064,10 +3798,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextFont", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextFont", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3085,7 +3819,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextFont(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3093,10 +3827,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextIgnorePlacement", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextIgnorePlacement", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3115,7 +3849,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextIgnorePlacement(managerIdArg, textIgnorePlacementArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3123,10 +3857,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextIgnorePlacement", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextIgnorePlacement", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3144,7 +3878,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextIgnorePlacement(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3152,10 +3886,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextKeepUpright", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextKeepUpright", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3174,7 +3908,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextKeepUpright(managerIdArg, textKeepUprightArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3182,10 +3916,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextKeepUpright", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextKeepUpright", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3203,7 +3937,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextKeepUpright(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3211,10 +3945,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextMaxAngle", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextMaxAngle", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3233,7 +3967,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextMaxAngle(managerIdArg, textMaxAngleArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3241,10 +3975,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextMaxAngle", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextMaxAngle", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3262,7 +3996,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextMaxAngle(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3270,10 +4004,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextOptional", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextOptional", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3292,7 +4026,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextOptional(managerIdArg, textOptionalArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3300,10 +4034,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextOptional", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextOptional", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3321,7 +4055,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextOptional(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3329,10 +4063,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextPadding", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextPadding", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3351,7 +4085,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextPadding(managerIdArg, textPaddingArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3359,10 +4093,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextPadding", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextPadding", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3380,7 +4114,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextPadding(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3388,10 +4122,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextPitchAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextPitchAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3410,7 +4144,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextPitchAlignment(managerIdArg, textPitchAlignmentArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3418,10 +4152,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextPitchAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextPitchAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3439,7 +4173,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextPitchAlignment(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3447,10 +4181,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextRotationAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextRotationAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3469,7 +4203,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextRotationAlignment(managerIdArg, textRotationAlignmentArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3477,10 +4211,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextRotationAlignment", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextRotationAlignment", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3498,7 +4232,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextRotationAlignment(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3506,10 +4240,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3528,7 +4262,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconTranslate(managerIdArg, iconTranslateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3536,10 +4270,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3557,7 +4291,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconTranslate(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3565,10 +4299,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setIconTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3587,7 +4321,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setIconTranslateAnchor(managerIdArg, iconTranslateAnchorArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3595,10 +4329,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getIconTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3616,7 +4350,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getIconTranslateAnchor(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3624,10 +4358,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3646,7 +4380,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextTranslate(managerIdArg, textTranslateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3654,10 +4388,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3675,7 +4409,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextTranslate(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3683,10 +4417,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setTextTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3705,7 +4439,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.setTextTranslateAnchor(managerIdArg, textTranslateAnchorArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -3713,10 +4447,10 @@ public class FLTPointAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getTextTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -3734,7 +4468,7 @@ public class FLTPointAnnotationMessager {
                     };
 
                 api.getTextTranslateAnchor(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -414,7 +414,7 @@ public class FLTPolygonAnnotationMessager {
     void error(@NonNull Throwable error);
   }
 
-  private static class OnPolygonAnnotationClickListenerCodec extends StandardMessageCodec {
+  private static class OnPolygonAnnotationClickListenerCodec extends PooledMessageCodec {
     public static final OnPolygonAnnotationClickListenerCodec INSTANCE = new OnPolygonAnnotationClickListenerCodec();
 
     private OnPolygonAnnotationClickListenerCodec() {}
@@ -443,9 +443,13 @@ public class FLTPolygonAnnotationMessager {
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class OnPolygonAnnotationClickListener {
     private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onPolygonAnnotationClickChannel;
 
     public OnPolygonAnnotationClickListener(@NonNull BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
+      this.onPolygonAnnotationClickChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnPolygonAnnotationClickListener.onPolygonAnnotationClick", getCodec());
     }
 
     /** Public interface for sending reply. */ 
@@ -458,16 +462,13 @@ public class FLTPolygonAnnotationMessager {
       return OnPolygonAnnotationClickListenerCodec.INSTANCE;
     }
     public void onPolygonAnnotationClick(@NonNull PolygonAnnotation annotationArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnPolygonAnnotationClickListener.onPolygonAnnotationClick", getCodec());
-      channel.send(
+      onPolygonAnnotationClickChannel.send(
           new ArrayList<Object>(Collections.singletonList(annotationArg)),
           channelReply -> callback.reply(null));
     }
   }
 
-  private static class _PolygonAnnotationMessagerCodec extends StandardMessageCodec {
+  private static class _PolygonAnnotationMessagerCodec extends PooledMessageCodec {
     public static final _PolygonAnnotationMessagerCodec INSTANCE = new _PolygonAnnotationMessagerCodec();
 
     private _PolygonAnnotationMessagerCodec() {}
@@ -509,8 +510,18 @@ public class FLTPolygonAnnotationMessager {
 
     void delete(@NonNull String managerId, @NonNull PolygonAnnotation annotation, @NonNull Result<Void> result);
 
+    void updateMulti(@NonNull String managerId, @NonNull List<PolygonAnnotation> annotations, @NonNull Result<Void> result);
+
+    void deleteMulti(@NonNull String managerId, @NonNull List<PolygonAnnotation> annotations, @NonNull Result<Void> result);
+
+    void setSimplification(@NonNull String managerId, @NonNull List<Double> minZooms, @NonNull List<Double> tolerances, @NonNull Result<Void> result);
+
     void deleteAll(@NonNull String managerId, @NonNull Result<Void> result);
 
+    void setProperties(@NonNull String managerId, @NonNull Map<String, Object> properties, @NonNull Result<Void> result);
+
+    void getProperties(@NonNull String managerId, @NonNull Result<Map<String, Object>> result);
+
     void setFillAntialias(@NonNull String managerId, @NonNull Boolean fillAntialias, @NonNull Result<Void> result);
 
     void getFillAntialias(@NonNull String managerId, @NonNull Result<Boolean> result);
@@ -533,10 +544,11 @@ public class FLTPolygonAnnotationMessager {
     }
     /**Sets up an instance of `_PolygonAnnotationMessager` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _PolygonAnnotationMessager api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.create", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -566,7 +578,7 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.createMulti", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.createMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -596,7 +608,7 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.update", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.update", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -626,10 +638,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.delete", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.delete", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -648,7 +660,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.delete(managerIdArg, annotationArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -656,13 +668,14 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.deleteAll", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.updateMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
+                List<PolygonAnnotation> annotationsArg = (List<PolygonAnnotation>) args.get(1);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -676,7 +689,7 @@ public class FLTPolygonAnnotationMessager {
                       }
                     };
 
-                api.deleteAll(managerIdArg, resultCallback);
+                api.updateMulti(managerIdArg, annotationsArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -685,10 +698,159 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillAntialias", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.deleteMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<PolygonAnnotation> annotationsArg = (List<PolygonAnnotation>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.deleteMulti(managerIdArg, annotationsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setSimplification", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<Double> minZoomsArg = (List<Double>) args.get(1);
+                List<Double> tolerancesArg = (List<Double>) args.get(2);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setSimplification(managerIdArg, minZoomsArg, tolerancesArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.deleteAll", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.deleteAll(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Map<String, Object> propertiesArg = (Map<String, Object>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setProperties(managerIdArg, propertiesArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getProperties(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillAntialias", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -707,7 +869,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.setFillAntialias(managerIdArg, fillAntialiasArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -715,10 +877,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillAntialias", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillAntialias", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -736,7 +898,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.getFillAntialias(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -744,10 +906,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillEmissiveStrength", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillEmissiveStrength", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -766,7 +928,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.setFillEmissiveStrength(managerIdArg, fillEmissiveStrengthArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -774,10 +936,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillEmissiveStrength", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillEmissiveStrength", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -795,7 +957,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.getFillEmissiveStrength(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -803,10 +965,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -825,7 +987,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.setFillTranslate(managerIdArg, fillTranslateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -833,10 +995,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -854,7 +1016,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.getFillTranslate(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -862,10 +1024,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.setFillTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -884,7 +1046,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.setFillTranslateAnchor(managerIdArg, fillTranslateAnchorArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -892,10 +1054,10 @@ public class FLTPolygonAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolygonAnnotationMessager.getFillTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -913,7 +1075,7 @@ public class FLTPolygonAnnotationMessager {
                     };
 
                 api.getFillTranslateAnchor(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -710,7 +710,7 @@ public class FLTPolylineAnnotationMessager {
     void error(@NonNull Throwable error);
   }
 
-  private static class OnPolylineAnnotationClickListenerCodec extends StandardMessageCodec {
+  private static class OnPolylineAnnotationClickListenerCodec extends PooledMessageCodec {
     public static final OnPolylineAnnotationClickListenerCodec INSTANCE = new OnPolylineAnnotationClickListenerCodec();
 
     private OnPolylineAnnotationClickListenerCodec() {}
@@ -739,9 +739,13 @@ public class FLTPolylineAnnotationMessager {
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
   public static class OnPolylineAnnotationClickListener {
     private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onPolylineAnnotationClickChannel;
 
     public OnPolylineAnnotationClickListener(@NonNull BinaryMessenger argBinaryMessenger) {
       this.binaryMessenger = argBinaryMessenger;
+      this.onPolylineAnnotationClickChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnPolylineAnnotationClickListener.onPolylineAnnotationClick", getCodec());
     }
 
     /** Public interface for sending reply. */ 
@@ -754,16 +758,13 @@ public class FLTPolylineAnnotationMessager {
       return OnPolylineAnnotationClickListenerCodec.INSTANCE;
     }
     public void onPolylineAnnotationClick(@NonNull PolylineAnnotation annotationArg, @NonNull Reply<Void> callback) {
-      BasicMessageChannel<Object> channel =
-          new BasicMessageChannel<>(
-              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter.OnPolylineAnnotationClickListener.onPolylineAnnotationClick", getCodec());
-      channel.send(
+      onPolylineAnnotationClickChannel.send(
           new ArrayList<Object>(Collections.singletonList(annotationArg)),
           channelReply -> callback.reply(null));
     }
   }
 
-  private static class _PolylineAnnotationMessagerCodec extends StandardMessageCodec {
+  private static class _PolylineAnnotationMessagerCodec extends PooledMessageCodec {
     public static final _PolylineAnnotationMessagerCodec INSTANCE = new _PolylineAnnotationMessagerCodec();
 
     private _PolylineAnnotationMessagerCodec() {}
@@ -805,8 +806,20 @@ public class FLTPolylineAnnotationMessager {
 
     void delete(@NonNull String managerId, @NonNull PolylineAnnotation annotation, @NonNull Result<Void> result);
 
+    void updateMulti(@NonNull String managerId, @NonNull List<PolylineAnnotation> annotations, @NonNull Result<Void> result);
+
+    void deleteMulti(@NonNull String managerId, @NonNull List<PolylineAnnotation> annotations, @NonNull Result<Void> result);
+
+    void appendVertices(@NonNull String managerId, @NonNull String annotationId, @NonNull double[] coordinates, @Nullable Long maxVertexCount, @NonNull Boolean downsample, @NonNull Result<Void> result);
+
+    void setSimplification(@NonNull String managerId, @NonNull List<Double> minZooms, @NonNull List<Double> tolerances, @NonNull Result<Void> result);
+
     void deleteAll(@NonNull String managerId, @NonNull Result<Void> result);
 
+    void setProperties(@NonNull String managerId, @NonNull Map<String, Object> properties, @NonNull Result<Void> result);
+
+    void getProperties(@NonNull String managerId, @NonNull Result<Map<String, Object>> result);
+
     void setLineCap(@NonNull String managerId, @NonNull LineCap lineCap, @NonNull Result<Void> result);
 
     void getLineCap(@NonNull String managerId, @NonNull Result<LineCap> result);
@@ -849,10 +862,11 @@ public class FLTPolylineAnnotationMessager {
     }
     /**Sets up an instance of `_PolylineAnnotationMessager` to handle messages through the `binaryMessenger`. */
     static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _PolylineAnnotationMessager api) {
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.create", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.create", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -882,7 +896,7 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.createMulti", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.createMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -912,7 +926,7 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.update", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.update", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -942,10 +956,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.delete", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.delete", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -964,6 +978,36 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.delete(managerIdArg, annotationArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.updateMulti", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<PolylineAnnotation> annotationsArg = (List<PolylineAnnotation>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.updateMulti(managerIdArg, annotationsArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -972,13 +1016,14 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.deleteAll", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.deleteMulti", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
+                List<PolylineAnnotation> annotationsArg = (List<PolylineAnnotation>) args.get(1);
                 Result<Void> resultCallback =
                     new Result<Void>() {
                       public void success(Void result) {
@@ -992,7 +1037,7 @@ public class FLTPolylineAnnotationMessager {
                       }
                     };
 
-                api.deleteAll(managerIdArg, resultCallback);
+                api.deleteMulti(managerIdArg, annotationsArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -1001,10 +1046,162 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineCap", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.appendVertices", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                String annotationIdArg = (String) args.get(1);
+                double[] coordinatesArg = (double[]) args.get(2);
+                Number maxVertexCountArg = (Number) args.get(3);
+                Boolean downsampleArg = (Boolean) args.get(4);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.appendVertices(managerIdArg, annotationIdArg, coordinatesArg, (maxVertexCountArg == null) ? null : maxVertexCountArg.longValue(), downsampleArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setSimplification", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                List<Double> minZoomsArg = (List<Double>) args.get(1);
+                List<Double> tolerancesArg = (List<Double>) args.get(2);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setSimplification(managerIdArg, minZoomsArg, tolerancesArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.deleteAll", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.deleteAll(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Map<String, Object> propertiesArg = (Map<String, Object>) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.setProperties(managerIdArg, propertiesArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getProperties", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String managerIdArg = (String) args.get(0);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getProperties(managerIdArg, resultCallback);
+              }));
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineCap", getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1023,7 +1220,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineCap(managerIdArg, lineCapArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1031,10 +1228,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineCap", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineCap", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1052,7 +1249,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineCap(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1060,10 +1257,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineMiterLimit", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineMiterLimit", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1082,7 +1279,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineMiterLimit(managerIdArg, lineMiterLimitArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1090,10 +1287,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineMiterLimit", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineMiterLimit", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1111,7 +1308,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineMiterLimit(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1119,10 +1316,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineRoundLimit", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineRoundLimit", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1141,7 +1338,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineRoundLimit(managerIdArg, lineRoundLimitArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1149,10 +1346,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineRoundLimit", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineRoundLimit", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1170,7 +1367,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineRoundLimit(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1178,10 +1375,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineDasharray", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineDasharray", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1200,7 +1397,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineDasharray(managerIdArg, lineDasharrayArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1208,10 +1405,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineDasharray", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineDasharray", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1229,7 +1426,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineDasharray(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1237,10 +1434,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineDepthOcclusionFactor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineDepthOcclusionFactor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1259,7 +1456,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineDepthOcclusionFactor(managerIdArg, lineDepthOcclusionFactorArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1267,10 +1464,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineDepthOcclusionFactor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineDepthOcclusionFactor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1288,7 +1485,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineDepthOcclusionFactor(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1296,10 +1493,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineEmissiveStrength", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineEmissiveStrength", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1318,7 +1515,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineEmissiveStrength(managerIdArg, lineEmissiveStrengthArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1326,10 +1523,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineEmissiveStrength", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineEmissiveStrength", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1347,7 +1544,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineEmissiveStrength(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1355,10 +1552,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1377,7 +1574,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineTranslate(managerIdArg, lineTranslateArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1385,10 +1582,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineTranslate", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineTranslate", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1406,7 +1603,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineTranslate(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1414,10 +1611,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1436,7 +1633,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineTranslateAnchor(managerIdArg, lineTranslateAnchorArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1444,10 +1641,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineTranslateAnchor", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineTranslateAnchor", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1465,7 +1662,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineTranslateAnchor(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1473,10 +1670,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineTrimOffset", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.setLineTrimOffset", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1495,7 +1692,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.setLineTrimOffset(managerIdArg, lineTrimOffsetArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -1503,10 +1700,10 @@ public class FLTPolylineAnnotationMessager {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineTrimOffset", getCodec());
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._PolylineAnnotationMessager.getLineTrimOffset", getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
-              (message, reply) -> {
+              MainThreadMessageHandler.onMainThread((message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<Object>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 String managerIdArg = (String) args.get(0);
@@ -1524,7 +1721,7 @@ public class FLTPolylineAnnotationMessager {
                     };
 
                 api.getLineTrimOffset(managerIdArg, resultCallback);
-              });
+              }));
         } else {
           channel.setMessageHandler(null);
         }
@@ -0,0 +1,526 @@
+// Autogenerated from Pigeon (v11.0.1), do not edit directly.
+// See also: https://pub.dev/packages/pigeon
+
+package com.mapbox.maps.pigeons;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MessageCodec;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Generated class from Pigeon. */
+@SuppressWarnings({"unused", "unchecked", "CodeBlock2Expr", "RedundantSuppression", "serial"})
+public class FLTResourceTelemetry {
+
+  /** Error class for passing custom error details to Flutter via a thrown PlatformException. */
+  public static class FlutterError extends RuntimeException {
+
+    /** The error code. */
+    public final String code;
+
+    /** The error details. Must be a datatype supported by the api codec. */
+    public final Object details;
+
+    public FlutterError(@NonNull String code, @Nullable String message, @Nullable Object details) 
+    {
+      super(message);
+      this.code = code;
+      this.details = details;
+    }
+  }
+
+  @NonNull
+  protected static ArrayList<Object> wrapError(@NonNull Throwable exception) {
+    ArrayList<Object> errorList = new ArrayList<Object>(3);
+    if (exception instanceof FlutterError) {
+      FlutterError error = (FlutterError) exception;
+      errorList.add(error.code);
+      errorList.add(error.getMessage());
+      errorList.add(error.details);
+    } else {
+      errorList.add(exception.toString());
+      errorList.add(exception.getClass().getSimpleName());
+      errorList.add(
+        "Cause: " + exception.getCause() + ", Stacktrace: " + Log.getStackTraceString(exception));
+    }
+    return errorList;
+  }
+
+  /**
+   * Resource requests aggregated per data source and resource type.
+   *
+   * The latency percentiles are computed from the most recent requests.
+   *
+   * Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class ResourceRequestStats {
+    /** The type of data source the resources were requested from. */
+    private @NonNull Long dataSource;
+
+    public @NonNull Long getDataSource() {
+      return dataSource;
+    }
+
+    public void setDataSource(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"dataSource\" is null.");
+      }
+      this.dataSource = setterArg;
+    }
+
+    /** The type of the requested resources. */
+    private @NonNull Long kind;
+
+    public @NonNull Long getKind() {
+      return kind;
+    }
+
+    public void setKind(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"kind\" is null.");
+      }
+      this.kind = setterArg;
+    }
+
+    /** The number of requests that completed, including the failed ones. */
+    private @NonNull Long requestCount;
+
+    public @NonNull Long getRequestCount() {
+      return requestCount;
+    }
+
+    public void setRequestCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"requestCount\" is null.");
+      }
+      this.requestCount = setterArg;
+    }
+
+    /** The number of requests that were cancelled. */
+    private @NonNull Long cancelledCount;
+
+    public @NonNull Long getCancelledCount() {
+      return cancelledCount;
+    }
+
+    public void setCancelledCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cancelledCount\" is null.");
+      }
+      this.cancelledCount = setterArg;
+    }
+
+    /** The number of requests that completed with an error. */
+    private @NonNull Long errorCount;
+
+    public @NonNull Long getErrorCount() {
+      return errorCount;
+    }
+
+    public void setErrorCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"errorCount\" is null.");
+      }
+      this.errorCount = setterArg;
+    }
+
+    /** The total size of the responses, in bytes. */
+    private @NonNull Long bytes;
+
+    public @NonNull Long getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytes\" is null.");
+      }
+      this.bytes = setterArg;
+    }
+
+    /** The number of responses loaded from the cache. */
+    private @NonNull Long cacheHits;
+
+    public @NonNull Long getCacheHits() {
+      return cacheHits;
+    }
+
+    public void setCacheHits(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheHits\" is null.");
+      }
+      this.cacheHits = setterArg;
+    }
+
+    /** The median time from the request until its completion, in milliseconds. */
+    private @NonNull Long latencyP50Millis;
+
+    public @NonNull Long getLatencyP50Millis() {
+      return latencyP50Millis;
+    }
+
+    public void setLatencyP50Millis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"latencyP50Millis\" is null.");
+      }
+      this.latencyP50Millis = setterArg;
+    }
+
+    /** The 90th percentile of the request latency, in milliseconds. */
+    private @NonNull Long latencyP90Millis;
+
+    public @NonNull Long getLatencyP90Millis() {
+      return latencyP90Millis;
+    }
+
+    public void setLatencyP90Millis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"latencyP90Millis\" is null.");
+      }
+      this.latencyP90Millis = setterArg;
+    }
+
+    /** The 99th percentile of the request latency, in milliseconds. */
+    private @NonNull Long latencyP99Millis;
+
+    public @NonNull Long getLatencyP99Millis() {
+      return latencyP99Millis;
+    }
+
+    public void setLatencyP99Millis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"latencyP99Millis\" is null.");
+      }
+      this.latencyP99Millis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ResourceRequestStats() {}
+
+    public static final class Builder {
+
+      private @Nullable Long dataSource;
+
+      public @NonNull Builder setDataSource(@NonNull Long setterArg) {
+        this.dataSource = setterArg;
+        return this;
+      }
+
+      private @Nullable Long kind;
+
+      public @NonNull Builder setKind(@NonNull Long setterArg) {
+        this.kind = setterArg;
+        return this;
+      }
+
+      private @Nullable Long requestCount;
+
+      public @NonNull Builder setRequestCount(@NonNull Long setterArg) {
+        this.requestCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cancelledCount;
+
+      public @NonNull Builder setCancelledCount(@NonNull Long setterArg) {
+        this.cancelledCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long errorCount;
+
+      public @NonNull Builder setErrorCount(@NonNull Long setterArg) {
+        this.errorCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytes;
+
+      public @NonNull Builder setBytes(@NonNull Long setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheHits;
+
+      public @NonNull Builder setCacheHits(@NonNull Long setterArg) {
+        this.cacheHits = setterArg;
+        return this;
+      }
+
+      private @Nullable Long latencyP50Millis;
+
+      public @NonNull Builder setLatencyP50Millis(@NonNull Long setterArg) {
+        this.latencyP50Millis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long latencyP90Millis;
+
+      public @NonNull Builder setLatencyP90Millis(@NonNull Long setterArg) {
+        this.latencyP90Millis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long latencyP99Millis;
+
+      public @NonNull Builder setLatencyP99Millis(@NonNull Long setterArg) {
+        this.latencyP99Millis = setterArg;
+        return this;
+      }
+
+      public @NonNull ResourceRequestStats build() {
+        ResourceRequestStats pigeonReturn = new ResourceRequestStats();
+        pigeonReturn.setDataSource(dataSource);
+        pigeonReturn.setKind(kind);
+        pigeonReturn.setRequestCount(requestCount);
+        pigeonReturn.setCancelledCount(cancelledCount);
+        pigeonReturn.setErrorCount(errorCount);
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setCacheHits(cacheHits);
+        pigeonReturn.setLatencyP50Millis(latencyP50Millis);
+        pigeonReturn.setLatencyP90Millis(latencyP90Millis);
+        pigeonReturn.setLatencyP99Millis(latencyP99Millis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(10);
+      toListResult.add(dataSource);
+      toListResult.add(kind);
+      toListResult.add(requestCount);
+      toListResult.add(cancelledCount);
+      toListResult.add(errorCount);
+      toListResult.add(bytes);
+      toListResult.add(cacheHits);
+      toListResult.add(latencyP50Millis);
+      toListResult.add(latencyP90Millis);
+      toListResult.add(latencyP99Millis);
+      return toListResult;
+    }
+
+    static @NonNull ResourceRequestStats fromList(@NonNull ArrayList<Object> list) {
+      ResourceRequestStats pigeonResult = new ResourceRequestStats();
+      Object dataSource = list.get(0);
+      pigeonResult.setDataSource((dataSource == null) ? null : ((dataSource instanceof Integer) ? (Integer) dataSource : (Long) dataSource));
+      Object kind = list.get(1);
+      pigeonResult.setKind((kind == null) ? null : ((kind instanceof Integer) ? (Integer) kind : (Long) kind));
+      Object requestCount = list.get(2);
+      pigeonResult.setRequestCount((requestCount == null) ? null : ((requestCount instanceof Integer) ? (Integer) requestCount : (Long) requestCount));
+      Object cancelledCount = list.get(3);
+      pigeonResult.setCancelledCount((cancelledCount == null) ? null : ((cancelledCount instanceof Integer) ? (Integer) cancelledCount : (Long) cancelledCount));
+      Object errorCount = list.get(4);
+      pigeonResult.setErrorCount((errorCount == null) ? null : ((errorCount instanceof Integer) ? (Integer) errorCount : (Long) errorCount));
+      Object bytes = list.get(5);
+      pigeonResult.setBytes((bytes == null) ? null : ((bytes instanceof Integer) ? (Integer) bytes : (Long) bytes));
+      Object cacheHits = list.get(6);
+      pigeonResult.setCacheHits((cacheHits == null) ? null : ((cacheHits instanceof Integer) ? (Integer) cacheHits : (Long) cacheHits));
+      Object latencyP50Millis = list.get(7);
+      pigeonResult.setLatencyP50Millis((latencyP50Millis == null) ? null : ((latencyP50Millis instanceof Integer) ? (Integer) latencyP50Millis : (Long) latencyP50Millis));
+      Object latencyP90Millis = list.get(8);
+      pigeonResult.setLatencyP90Millis((latencyP90Millis == null) ? null : ((latencyP90Millis instanceof Integer) ? (Integer) latencyP90Millis : (Long) latencyP90Millis));
+      Object latencyP99Millis = list.get(9);
+      pigeonResult.setLatencyP99Millis((latencyP99Millis == null) ? null : ((latencyP99Millis instanceof Integer) ? (Integer) latencyP99Millis : (Long) latencyP99Millis));
+      return pigeonResult;
+    }
+  }
+
+  private static class _ResourceTelemetryCodec extends PooledMessageCodec {
+    public static final _ResourceTelemetryCodec INSTANCE = new _ResourceTelemetryCodec();
+
+    private _ResourceTelemetryCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ResourceRequestStats.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ResourceRequestStats) {
+        stream.write(128);
+        writeValue(stream, ((ResourceRequestStats) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /**
+   * Native aggregation of the resource requests made by a map instance.
+   *
+   * Generated interface from Pigeon that represents a handler of messages from Flutter.
+   */
+  public interface _ResourceTelemetry {
+    /**
+     * Starts aggregating the resource requests of the map.
+     *
+     * @param intervalMillis The interval at which summaries are sent to Flutter, 0 to only return them on demand.
+     */
+    void start(@NonNull Long intervalMillis);
+    /** Stops aggregating the resource requests and clears the aggregated values. */
+    void stop();
+    /**
+     * Returns the requests aggregated so far, one entry per data source and resource type.
+     *
+     * @param reset Whether the aggregated values should be cleared.
+     */
+    @NonNull 
+    List<ResourceRequestStats> getSummary(@NonNull Boolean reset);
+
+    /** The codec used by _ResourceTelemetry. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return _ResourceTelemetryCodec.INSTANCE;
+    }
+    /**Sets up an instance of `_ResourceTelemetry` to handle messages through the `binaryMessenger`. */
+    static void setup(@NonNull BinaryMessenger binaryMessenger, @Nullable _ResourceTelemetry api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetry.start", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number intervalMillisArg = (Number) args.get(0);
+                try {
+                  api.start((intervalMillisArg == null) ? null : intervalMillisArg.longValue());
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetry.stop", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  api.stop();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetry.getSummary", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean resetArg = (Boolean) args.get(0);
+                try {
+                  List<ResourceRequestStats> output = api.getSummary(resetArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class _ResourceTelemetryListenerCodec extends PooledMessageCodec {
+    public static final _ResourceTelemetryListenerCodec INSTANCE = new _ResourceTelemetryListenerCodec();
+
+    private _ResourceTelemetryListenerCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return ResourceRequestStats.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof ResourceRequestStats) {
+        stream.write(128);
+        writeValue(stream, ((ResourceRequestStats) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /**
+   * Receives the periodic summaries of the resource requests.
+   *
+   * Generated class from Pigeon that represents Flutter messages that can be called from Java.
+   */
+  public static class _ResourceTelemetryListener {
+    private final @NonNull BinaryMessenger binaryMessenger;
+    private final @NonNull BasicMessageChannel<Object> onSummaryChannel;
+
+    public _ResourceTelemetryListener(@NonNull BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+      this.onSummaryChannel =
+          new BasicMessageChannel<>(
+              binaryMessenger, "dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetryListener.onSummary", getCodec());
+    }
+
+    /** Public interface for sending reply. */ 
+    @SuppressWarnings("UnknownNullness")
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+    /** The codec used by _ResourceTelemetryListener. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return _ResourceTelemetryListenerCodec.INSTANCE;
+    }
+    /** Called at the interval passed to `start` with the requests aggregated during the interval. */
+    public void onSummary(@NonNull List<ResourceRequestStats> statsArg, @NonNull Reply<Void> callback) {
+      onSummaryChannel.send(
+          new ArrayList<Object>(Collections.singletonList(statsArg)),
+          channelReply -> callback.reply(null));
+    }
+  }
+}
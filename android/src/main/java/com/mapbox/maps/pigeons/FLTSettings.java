@@ -2420,7 +2420,7 @@ public class FLTSettings {
     }
   }
 
-  private static class GesturesSettingsInterfaceCodec extends StandardMessageCodec {
+  private static class GesturesSettingsInterfaceCodec extends PooledMessageCodec {
     public static final GesturesSettingsInterfaceCodec INSTANCE = new GesturesSettingsInterfaceCodec();
 
     private GesturesSettingsInterfaceCodec() {}
@@ -2518,7 +2518,7 @@ public class FLTSettings {
     }
   }
 
-  private static class LocationComponentSettingsInterfaceCodec extends StandardMessageCodec {
+  private static class LocationComponentSettingsInterfaceCodec extends PooledMessageCodec {
     public static final LocationComponentSettingsInterfaceCodec INSTANCE = new LocationComponentSettingsInterfaceCodec();
 
     private LocationComponentSettingsInterfaceCodec() {}
@@ -2626,7 +2626,7 @@ public class FLTSettings {
     }
   }
 
-  private static class ScaleBarSettingsInterfaceCodec extends StandardMessageCodec {
+  private static class ScaleBarSettingsInterfaceCodec extends PooledMessageCodec {
     public static final ScaleBarSettingsInterfaceCodec INSTANCE = new ScaleBarSettingsInterfaceCodec();
 
     private ScaleBarSettingsInterfaceCodec() {}
@@ -2719,7 +2719,7 @@ public class FLTSettings {
     }
   }
 
-  private static class CompassSettingsInterfaceCodec extends StandardMessageCodec {
+  private static class CompassSettingsInterfaceCodec extends PooledMessageCodec {
     public static final CompassSettingsInterfaceCodec INSTANCE = new CompassSettingsInterfaceCodec();
 
     private CompassSettingsInterfaceCodec() {}
@@ -2812,7 +2812,7 @@ public class FLTSettings {
     }
   }
 
-  private static class AttributionSettingsInterfaceCodec extends StandardMessageCodec {
+  private static class AttributionSettingsInterfaceCodec extends PooledMessageCodec {
     public static final AttributionSettingsInterfaceCodec INSTANCE = new AttributionSettingsInterfaceCodec();
 
     private AttributionSettingsInterfaceCodec() {}
@@ -2905,7 +2905,7 @@ public class FLTSettings {
     }
   }
 
-  private static class LogoSettingsInterfaceCodec extends StandardMessageCodec {
+  private static class LogoSettingsInterfaceCodec extends PooledMessageCodec {
     public static final LogoSettingsInterfaceCodec INSTANCE = new LogoSettingsInterfaceCodec();
 
     private LogoSettingsInterfaceCodec() {}
@@ -0,0 +1,26 @@
+package com.mapbox.maps.pigeons;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import io.flutter.plugin.common.BasicMessageChannel;
+
+/**
+ * Handles the messages of a channel on the main thread, for channels registered on a task queue.
+ *
+ * APIs that decode heavy calls on a background task queue register all their channels on the same
+ * serial queue, so that their messages are handled in the order they were sent. Calls that only
+ * touch the map are posted from that queue to the main thread, where the heavy calls post their
+ * map work as well, so the order also holds between both kinds of calls.
+ */
+final class MainThreadMessageHandler {
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  private MainThreadMessageHandler() {}
+
+  @NonNull
+  static BasicMessageChannel.MessageHandler<Object> onMainThread(
+      @NonNull BasicMessageChannel.MessageHandler<Object> handler) {
+    return (message, reply) -> mainHandler.post(() -> handler.onMessage(message, reply));
+  }
+}
@@ -0,0 +1,98 @@
+package com.mapbox.maps.pigeons;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * StandardMessageCodec that encodes messages into reusable buffers.
+ *
+ * StandardMessageCodec grows a new stream and allocates a new direct buffer for every message.
+ * This codec keeps both per thread and sizes them from the messages it encoded recently, so that
+ * steady traffic of similar messages does not allocate. Buffers that grew for an occasional large
+ * message are released again once the messages get small, and messages above {@link #MAX_POOLED_SIZE}
+ * are never pooled.
+ *
+ * The returned buffer is only valid until the next message is encoded by this codec on the same
+ * thread. This holds for messages sent or replied through a BinaryMessenger, the engine copies the
+ * message before send or reply returns.
+ */
+class PooledMessageCodec extends StandardMessageCodec {
+  static final int MAX_POOLED_SIZE = 256 * 1024;
+  private static final int MIN_POOLED_SIZE = 256;
+
+  private final ThreadLocal<Buffers> buffers =
+      new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+          return new Buffers();
+        }
+      };
+
+  @Override
+  @Nullable
+  public ByteBuffer encodeMessage(@Nullable Object message) {
+    if (message == null) {
+      return null;
+    }
+    Buffers buffers = this.buffers.get();
+    PooledOutputStream stream = buffers.stream;
+    stream.reset();
+    writeValue(stream, message);
+    int size = stream.size();
+    ByteBuffer buffer;
+    if (size > MAX_POOLED_SIZE) {
+      buffer = ByteBuffer.allocateDirect(size);
+    } else {
+      buffer = buffers.direct(size);
+    }
+    buffer.put(stream.array(), 0, size);
+    buffers.recycle(size);
+    return buffer;
+  }
+
+  private static final class Buffers {
+    @NonNull PooledOutputStream stream = new PooledOutputStream(MIN_POOLED_SIZE);
+    @Nullable ByteBuffer direct;
+    // Decaying maximum of the recent message sizes.
+    int typicalSize = MIN_POOLED_SIZE;
+
+    @NonNull
+    ByteBuffer direct(int size) {
+      if (direct == null || direct.capacity() < size) {
+        direct = ByteBuffer.allocateDirect(Math.max(size, typicalSize));
+      }
+      direct.clear();
+      return direct;
+    }
+
+    void recycle(int size) {
+      int decayed = Math.max(size, typicalSize - (typicalSize >> 4));
+      typicalSize = Math.min(Math.max(decayed, MIN_POOLED_SIZE), MAX_POOLED_SIZE);
+      int retainedSize = Math.min(typicalSize * 2, MAX_POOLED_SIZE);
+      if (stream.capacity() > retainedSize) {
+        stream = new PooledOutputStream(typicalSize);
+      }
+      if (direct != null && direct.capacity() > retainedSize) {
+        direct = null;
+      }
+    }
+  }
+
+  private static final class PooledOutputStream extends ByteArrayOutputStream {
+    PooledOutputStream(int size) {
+      super(size);
+    }
+
+    @NonNull
+    byte[] array() {
+      return buf;
+    }
+
+    int capacity() {
+      return buf.length;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.mapbox.maps.mapbox_maps
+
+import android.view.Choreographer
+
+/**
+ * Collapses bursts of callbacks sent to Flutter into at most one message per key and frame.
+ *
+ * While enabled, callbacks posted with [post] are held until the next frame and only the latest
+ * callback of every key is delivered. Callbacks posted with [send] are never dropped, they flush
+ * whatever is pending first so that the delivery order is preserved.
+ * While disabled every callback is delivered straight away.
+ */
+class CallbackCoalescer(
+  private val choreographer: Choreographer = Choreographer.getInstance()
+) : Choreographer.FrameCallback {
+  private val pending = LinkedHashMap<Any, () -> Unit>()
+  private var scheduled = false
+
+  var enabled = false
+    set(value) {
+      field = value
+      if (!value) {
+        flush()
+      }
+    }
+
+  fun post(key: Any, callback: () -> Unit) {
+    if (!enabled) {
+      callback()
+      return
+    }
+    pending.remove(key)
+    pending[key] = callback
+    if (!scheduled) {
+      scheduled = true
+      choreographer.postFrameCallback(this)
+    }
+  }
+
+  fun send(callback: () -> Unit) {
+    flush()
+    callback()
+  }
+
+  override fun doFrame(frameTimeNanos: Long) {
+    scheduled = false
+    flush()
+  }
+
+  fun dispose() {
+    if (scheduled) {
+      choreographer.removeFrameCallback(this)
+      scheduled = false
+    }
+    pending.clear()
+  }
+
+  private fun flush() {
+    if (pending.isEmpty()) {
+      return
+    }
+    val callbacks = pending.values.toList()
+    pending.clear()
+    callbacks.forEach { it() }
+  }
+}
\ No newline at end of file
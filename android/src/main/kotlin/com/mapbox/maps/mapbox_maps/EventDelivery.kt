@@ -0,0 +1,128 @@
+package com.mapbox.maps.mapbox_maps
+
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import android.view.Choreographer
+
+/**
+ * Applies the delivery policy of every map event type before the event is sent to Flutter.
+ *
+ * Events without a policy are sent straight away. With [Mode.LATEST_PER_FRAME] only the latest
+ * event of every frame is sent, with [Mode.THROTTLE] at most one event per interval and with
+ * [Mode.DEBOUNCE] the latest event once no other event followed for the interval.
+ * The last event of a burst is never dropped, it is only delayed.
+ * Map events are dispatched on the main thread, all the methods have to be called there.
+ */
+class EventDelivery(
+  private val choreographer: Choreographer = Choreographer.getInstance(),
+  private val handler: Handler = Handler(Looper.getMainLooper())
+) {
+  enum class Mode {
+    EVERY_EVENT,
+    LATEST_PER_FRAME,
+    THROTTLE,
+    DEBOUNCE
+  }
+
+  private val policies = HashMap<Any, Policy>()
+
+  fun setPolicy(key: Any, mode: Mode, intervalMillis: Long) {
+    policies.remove(key)?.flush()
+    if (mode != Mode.EVERY_EVENT) {
+      policies[key] = Policy(mode, intervalMillis)
+    }
+  }
+
+  fun post(key: Any, send: () -> Unit) {
+    val policy = policies[key]
+    if (policy == null) {
+      send()
+      return
+    }
+    policy.post(send)
+  }
+
+  // Drops the events held for [key], for example after unsubscribing from them.
+  fun discard(key: Any) {
+    policies[key]?.discard()
+  }
+
+  fun dispose() {
+    policies.values.forEach { it.cancel() }
+    policies.clear()
+  }
+
+  private inner class Policy(
+    private val mode: Mode,
+    private val intervalMillis: Long
+  ) : Runnable, Choreographer.FrameCallback {
+    private var pending: (() -> Unit)? = null
+    private var scheduled = false
+    private var lastSentMillis = 0L
+
+    fun post(send: () -> Unit) {
+      when (mode) {
+        Mode.EVERY_EVENT -> send()
+        Mode.LATEST_PER_FRAME -> {
+          pending = send
+          if (!scheduled) {
+            scheduled = true
+            choreographer.postFrameCallback(this)
+          }
+        }
+        Mode.THROTTLE -> {
+          val now = SystemClock.uptimeMillis()
+          if (!scheduled && now - lastSentMillis >= intervalMillis) {
+            lastSentMillis = now
+            send()
+            return
+          }
+          pending = send
+          if (!scheduled) {
+            scheduled = true
+            handler.postAtTime(this, lastSentMillis + intervalMillis)
+          }
+        }
+        Mode.DEBOUNCE -> {
+          pending = send
+          handler.removeCallbacks(this)
+          scheduled = true
+          handler.postDelayed(this, intervalMillis)
+        }
+      }
+    }
+
+    override fun doFrame(frameTimeNanos: Long) {
+      run()
+    }
+
+    override fun run() {
+      scheduled = false
+      lastSentMillis = SystemClock.uptimeMillis()
+      val send = pending ?: return
+      pending = null
+      send()
+    }
+
+    fun flush() {
+      cancel()
+      val send = pending ?: return
+      pending = null
+      send()
+    }
+
+    fun discard() {
+      cancel()
+      pending = null
+    }
+
+    fun cancel() {
+      if (scheduled) {
+        choreographer.removeFrameCallback(this)
+        handler.removeCallbacks(this)
+        scheduled = false
+      }
+    }
+  }
+}
\ No newline at end of file
@@ -14,7 +14,10 @@ import com.mapbox.maps.plugin.gestures.OnMoveListener
 import com.mapbox.maps.plugin.gestures.gestures
 import io.flutter.plugin.common.BinaryMessenger
 
-class GestureController(private val mapView: MapView) :
+class GestureController(
+  private val mapView: MapView,
+  private val coalescer: CallbackCoalescer
+) :
   FLTSettings.GesturesSettingsInterface {
 
   override fun getSettings(): FLTSettings.GesturesSettings = mapView.gestures.toFLT(mapView.context)
@@ -34,22 +37,24 @@ class GestureController(private val mapView: MapView) :
     removeListeners()
 
     onClickListener = OnMapClickListener { point ->
-      fltGestureListener.onTap(point.toFLTScreenCoordinate()) {}
+      coalescer.send { fltGestureListener.onTap(point.toFLTScreenCoordinate()) {} }
       false
     }.also { mapView.gestures.addOnMapClickListener(it) }
 
     onLongClickListener = OnMapLongClickListener {
-      fltGestureListener.onLongTap(it.toFLTScreenCoordinate()) {}
+      coalescer.send { fltGestureListener.onLongTap(it.toFLTScreenCoordinate()) {} }
       false
     }.also { mapView.gestures.addOnMapLongClickListener(it) }
 
     onMoveListener = object : OnMoveListener {
       override fun onMove(detector: MoveGestureDetector): Boolean {
-        fltGestureListener.onScroll(
-          mapView.getMapboxMap().coordinateForPixel(
-            ScreenCoordinate(detector.currentEvent.x.toDouble(), detector.currentEvent.y.toDouble())
-          ).toFLTScreenCoordinate()
-        ) {}
+        // Only the position is kept, the pixel is projected when the scroll is delivered so that
+        // the events dropped by the coalescer cost nothing.
+        val pixel = ScreenCoordinate(detector.currentEvent.x.toDouble(), detector.currentEvent.y.toDouble())
+        coalescer.post(SCROLL_KEY) {
+          val coordinate = mapView.getMapboxMap().coordinateForPixel(pixel)
+          fltGestureListener.onScroll(coordinate.toFLTScreenCoordinate()) {}
+        }
         return false
       }
 
@@ -64,6 +69,10 @@ class GestureController(private val mapView: MapView) :
     onLongClickListener?.let { mapView.gestures.removeOnMapLongClickListener(it) }
     onMoveListener?.let { mapView.gestures.removeOnMoveListener(it) }
   }
+
+  private companion object {
+    const val SCROLL_KEY = "gesture#scroll"
+  }
 }
 
 private fun Point.toFLTScreenCoordinate(): FLTGestureListeners.ScreenCoordinate {
@@ -0,0 +1,189 @@
+package com.mapbox.maps.mapbox_maps
+
+import com.google.gson.stream.JsonWriter
+import com.mapbox.maps.CameraChanged
+import com.mapbox.maps.CanonicalTileID
+import com.mapbox.maps.EventTimeInterval
+import com.mapbox.maps.MapIdle
+import com.mapbox.maps.MapLoaded
+import com.mapbox.maps.MapLoadingError
+import com.mapbox.maps.RenderFrameFinished
+import com.mapbox.maps.RenderFrameStarted
+import com.mapbox.maps.RequestInfo
+import com.mapbox.maps.ResourceRequest
+import com.mapbox.maps.ResponseError
+import com.mapbox.maps.ResponseInfo
+import com.mapbox.maps.SourceAdded
+import com.mapbox.maps.SourceDataLoaded
+import com.mapbox.maps.SourceRemoved
+import com.mapbox.maps.StyleDataLoaded
+import com.mapbox.maps.StyleImageMissing
+import com.mapbox.maps.StyleImageRemoveUnused
+import com.mapbox.maps.StyleLoaded
+import java.io.StringWriter
+import java.util.Date
+
+/**
+ * Writes the map event data objects as the JSON documents expected by the JSON event contract.
+ *
+ * The documents carry the fields read by the event data classes in Flutter, in the format of the
+ * former reflective Gson serialization: enums are written as their ordinal, dates as microseconds
+ * since the epoch and null fields are omitted. Every document is written into the same buffer, so
+ * only the resulting string is allocated per event. Events are sent from the main thread, the
+ * writer is not meant to be shared across threads.
+ */
+class MapEventJsonWriter {
+  private val buffer = StringWriter(INITIAL_CAPACITY)
+
+  fun toJson(data: Any): String {
+    buffer.buffer.setLength(0)
+    val writer = JsonWriter(buffer)
+    when (data) {
+      is MapLoaded -> writer.write(data)
+      is MapLoadingError -> writer.write(data)
+      is StyleLoaded -> writer.write(data)
+      is StyleDataLoaded -> writer.write(data)
+      is CameraChanged -> writer.write(data)
+      is MapIdle -> writer.write(data)
+      is SourceAdded -> writer.write(data)
+      is SourceRemoved -> writer.write(data)
+      is SourceDataLoaded -> writer.write(data)
+      is StyleImageMissing -> writer.write(data)
+      is StyleImageRemoveUnused -> writer.write(data)
+      is RenderFrameStarted -> writer.write(data)
+      is RenderFrameFinished -> writer.write(data)
+      is ResourceRequest -> writer.write(data)
+      else -> throw IllegalArgumentException("No JSON serializer for ${data.javaClass.name}")
+    }
+    writer.flush()
+    return buffer.toString()
+  }
+
+  private companion object {
+    const val INITIAL_CAPACITY = 256
+  }
+}
+
+private inline fun JsonWriter.writeObject(block: JsonWriter.() -> Unit) {
+  beginObject()
+  block()
+  endObject()
+}
+
+private fun JsonWriter.write(data: MapLoaded) = writeObject {
+  name("timeInterval").write(data.timeInterval)
+}
+
+private fun JsonWriter.write(data: MapLoadingError) = writeObject {
+  name("type").value(data.type.ordinal)
+  name("message").value(data.message)
+  data.sourceId?.let { name("sourceId").value(it) }
+  data.tileId?.let { name("tileId").write(it) }
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: StyleLoaded) = writeObject {
+  name("timeInterval").write(data.timeInterval)
+}
+
+private fun JsonWriter.write(data: StyleDataLoaded) = writeObject {
+  name("type").value(data.type.ordinal)
+  name("timeInterval").write(data.timeInterval)
+}
+
+private fun JsonWriter.write(data: CameraChanged) = writeObject {
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: MapIdle) = writeObject {
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: SourceAdded) = writeObject {
+  name("sourceId").value(data.sourceId)
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: SourceRemoved) = writeObject {
+  name("sourceId").value(data.sourceId)
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: SourceDataLoaded) = writeObject {
+  name("sourceId").value(data.sourceId)
+  name("type").value(data.type.ordinal)
+  data.loaded?.let { name("loaded").value(it) }
+  data.tileId?.let { name("tileId").write(it) }
+  data.dataId?.let { name("dataId").value(it) }
+  name("timeInterval").write(data.timeInterval)
+}
+
+private fun JsonWriter.write(data: StyleImageMissing) = writeObject {
+  name("imageId").value(data.imageId)
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: StyleImageRemoveUnused) = writeObject {
+  name("imageId").value(data.imageId)
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: RenderFrameStarted) = writeObject {
+  name("timestamp").write(data.timestamp)
+}
+
+private fun JsonWriter.write(data: RenderFrameFinished) = writeObject {
+  name("renderMode").value(data.renderMode.ordinal)
+  name("needsRepaint").value(data.needsRepaint)
+  name("placementChanged").value(data.placementChanged)
+  name("timeInterval").write(data.timeInterval)
+}
+
+private fun JsonWriter.write(data: ResourceRequest) = writeObject {
+  name("source").value(data.source.ordinal)
+  name("request").write(data.request)
+  data.response?.let { name("response").write(it) }
+  name("cancelled").value(data.cancelled)
+  name("timeInterval").write(data.timeInterval)
+}
+
+private fun JsonWriter.write(request: RequestInfo) = writeObject {
+  name("url").value(request.url)
+  name("resource").value(request.resource.ordinal)
+  name("priority").value(request.priority.ordinal)
+  name("loadingMethod").beginArray()
+  request.loadingMethod.forEach { value(it.ordinal) }
+  endArray()
+}
+
+private fun JsonWriter.write(response: ResponseInfo) = writeObject {
+  response.etag?.let { name("etag").value(it) }
+  name("mustRevalidate").value(response.mustRevalidate)
+  name("noContent").value(response.noContent)
+  response.modified?.let { name("modified").value(it) }
+  name("source").value(response.source.ordinal)
+  name("notModified").value(response.notModified)
+  response.expires?.let { name("expires").value(it) }
+  name("size").value(response.size)
+  response.error?.let { name("error").write(it) }
+}
+
+private fun JsonWriter.write(error: ResponseError) = writeObject {
+  name("reason").value(error.reason.ordinal)
+  name("message").value(error.message)
+}
+
+private fun JsonWriter.write(tileId: CanonicalTileID) = writeObject {
+  name("z").value(tileId.z.toLong())
+  name("x").value(tileId.x.toLong())
+  name("y").value(tileId.y.toLong())
+}
+
+private fun JsonWriter.write(timeInterval: EventTimeInterval) = writeObject {
+  name("begin").write(timeInterval.begin)
+  name("end").write(timeInterval.end)
+}
+
+private fun JsonWriter.write(date: Date) {
+  value(date.time * 1000)
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.mapbox.maps.mapbox_maps
+
+import com.mapbox.common.Cancelable
+import com.mapbox.maps.CanonicalTileID
+import com.mapbox.maps.EventTimeInterval
+import com.mapbox.maps.MapboxMap
+import com.mapbox.maps.pigeons.FLTMapEvents
+import com.mapbox.maps.pigeons.FLTMapInterfaces
+import java.util.Date
+
+/**
+ * Subscribes to [event] and forwards it to Flutter as primitive values, as allowed by the
+ * delivery policy of the event.
+ *
+ * Unlike the JSON events the fields are written straight into the message, so frequent events
+ * like camera changes and rendered frames cost neither building nor parsing a JSON document.
+ */
+fun MapboxMap.subscribeTyped(
+  event: FLTMapInterfaces._MapEvent,
+  api: FLTMapEvents._MapEvents,
+  delivery: EventDelivery
+): Cancelable {
+  return when (event) {
+    FLTMapInterfaces._MapEvent.MAP_LOADED -> subscribeMapLoaded {
+      delivery.post(event) {
+        api.onMapLoaded(it.timeInterval.beginMicros, it.timeInterval.endMicros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.MAP_LOADING_ERROR -> subscribeMapLoadingError {
+      delivery.post(event) {
+        api.onMapLoadingError(
+          it.type.ordinal.toLong(),
+          it.message,
+          it.sourceId,
+          it.tileId?.zoom,
+          it.tileId?.x?.toLong(),
+          it.tileId?.y?.toLong(),
+          it.timestamp.micros
+        ) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.STYLE_LOADED -> subscribeStyleLoaded {
+      delivery.post(event) {
+        api.onStyleLoaded(it.timeInterval.beginMicros, it.timeInterval.endMicros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.STYLE_DATA_LOADED -> subscribeStyleDataLoaded {
+      delivery.post(event) {
+        api.onStyleDataLoaded(it.type.ordinal.toLong(), it.timeInterval.beginMicros, it.timeInterval.endMicros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.CAMERA_CHANGED -> subscribeCameraChanged {
+      delivery.post(event) {
+        api.onCameraChanged(it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.MAP_IDLE -> subscribeMapIdle {
+      delivery.post(event) {
+        api.onMapIdle(it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.SOURCE_ADDED -> subscribeSourceAdded {
+      delivery.post(event) {
+        api.onSourceAdded(it.sourceId, it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.SOURCE_REMOVED -> subscribeSourceRemoved {
+      delivery.post(event) {
+        api.onSourceRemoved(it.sourceId, it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.SOURCE_DATA_LOADED -> subscribeSourceDataLoaded {
+      delivery.post(event) {
+        api.onSourceDataLoaded(
+          it.sourceId,
+          it.type.ordinal.toLong(),
+          it.loaded,
+          it.tileId?.zoom,
+          it.tileId?.x?.toLong(),
+          it.tileId?.y?.toLong(),
+          it.dataId,
+          it.timeInterval.beginMicros,
+          it.timeInterval.endMicros
+        ) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.STYLE_IMAGE_MISSING -> subscribeStyleImageMissing {
+      delivery.post(event) {
+        api.onStyleImageMissing(it.imageId, it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.STYLE_IMAGE_REMOVE_UNUSED -> subscribeStyleImageRemoveUnused {
+      delivery.post(event) {
+        api.onStyleImageRemoveUnused(it.imageId, it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.RENDER_FRAME_STARTED -> subscribeRenderFrameStarted {
+      delivery.post(event) {
+        api.onRenderFrameStarted(it.timestamp.micros) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.RENDER_FRAME_FINISHED -> subscribeRenderFrameFinished {
+      delivery.post(event) {
+        api.onRenderFrameFinished(
+          it.renderMode.ordinal.toLong(),
+          it.needsRepaint,
+          it.placementChanged,
+          it.timeInterval.beginMicros,
+          it.timeInterval.endMicros
+        ) {}
+      }
+    }
+    FLTMapInterfaces._MapEvent.RESOURCE_REQUEST -> subscribeResourceRequest {
+      delivery.post(event) {
+        val response = it.response
+        api.onResourceRequest(
+          it.source.ordinal.toLong(),
+          it.request.url,
+          it.request.resource.ordinal.toLong(),
+          it.request.priority.ordinal.toLong(),
+          it.request.loadingMethod.map { method -> method.ordinal.toLong() },
+          it.cancelled,
+          response?.source?.ordinal?.toLong(),
+          response?.etag,
+          response?.mustRevalidate,
+          response?.noContent,
+          response?.modified,
+          response?.notModified,
+          response?.expires,
+          response?.size,
+          response?.error?.reason?.ordinal?.toLong(),
+          response?.error?.message,
+          it.timeInterval.beginMicros,
+          it.timeInterval.endMicros
+        ) {}
+      }
+    }
+  }
+}
+
+private val Date.micros: Long
+  get() = time * 1000
+
+private val EventTimeInterval.beginMicros: Long
+  get() = begin.micros
+
+private val EventTimeInterval.endMicros: Long
+  get() = end.micros
+
+private val CanonicalTileID.zoom: Long
+  get() = z.toLong()
\ No newline at end of file
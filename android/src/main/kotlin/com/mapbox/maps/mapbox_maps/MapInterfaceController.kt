@@ -8,7 +8,11 @@ import com.mapbox.maps.extension.observable.eventdata.MapLoadingErrorEventData
 import com.mapbox.maps.pigeons.FLTMapInterfaces
 import com.mapbox.maps.plugin.delegates.listeners.OnMapLoadErrorListener
 
-class MapInterfaceController(private val mapboxMap: MapboxMap, private val context: Context) : FLTMapInterfaces._MapInterface {
+class MapInterfaceController(
+  private val mapboxMap: MapboxMap,
+  private val context: Context,
+  private val renderStatsRecorder: RenderStatsRecorder
+) : FLTMapInterfaces._MapInterface {
   override fun loadStyleURI(
     styleURI: String,
     result: FLTMapInterfaces.Result<Void>
@@ -24,19 +28,22 @@ class MapInterfaceController(private val mapboxMap: MapboxMap, private val conte
     )
   }
 
+  // Runs on the background task queue.
   override fun loadStyleJson(
     styleJson: String,
     result: FLTMapInterfaces.Result<Void>
   ) {
-    mapboxMap.loadStyleJson(
-      styleJson,
-      { result.success(null) },
-      object : OnMapLoadErrorListener {
-        override fun onMapLoadError(eventData: MapLoadingErrorEventData) {
-          result.error(Throwable(eventData.message))
+    runOnMainThread {
+      mapboxMap.loadStyleJson(
+        styleJson,
+        { result.success(null) },
+        object : OnMapLoadErrorListener {
+          override fun onMapLoadError(eventData: MapLoadingErrorEventData) {
+            result.error(Throwable(eventData.message))
+          }
         }
-      }
-    )
+      )
+    }
   }
 
   override fun clearData(result: FLTMapInterfaces.Result<Void>) {
@@ -105,39 +112,49 @@ class MapInterfaceController(private val mapboxMap: MapboxMap, private val conte
     mapboxMap.setDebug(debugOptions.map { it.toMapDebugOptions() }, value)
   }
 
+  // Runs on the background task queue, the features are mapped and encoded on the worker thread.
   override fun queryRenderedFeatures(
     geometry: FLTMapInterfaces.RenderedQueryGeometry,
     options: FLTMapInterfaces.RenderedQueryOptions,
     result: FLTMapInterfaces.Result<MutableList<FLTMapInterfaces.QueriedRenderedFeature>>
   ) {
-    mapboxMap.queryRenderedFeatures(
-      geometry.toRenderedQueryGeometry(context),
-      options.toRenderedQueryOptions()
-    ) {
-      if (it.isError) {
-        result.error(Throwable(it.error))
-      } else {
-        result.success(
-          it.value?.map { feature -> feature.toFLTQueriedRenderedFeature() }
-            ?.toMutableList()
-        )
+    val queryGeometry = geometry.toRenderedQueryGeometry(context)
+    val queryOptions = options.toRenderedQueryOptions()
+    runOnMainThread {
+      mapboxMap.queryRenderedFeatures(queryGeometry, queryOptions) {
+        runOnWorkerThread {
+          if (it.isError) {
+            result.error(Throwable(it.error))
+          } else {
+            result.success(
+              it.value?.map { feature -> feature.toFLTQueriedRenderedFeature() }
+                ?.toMutableList()
+            )
+          }
+        }
       }
     }
   }
 
+  // Runs on the background task queue, the features are mapped and encoded on the worker thread.
   override fun querySourceFeatures(
     sourceId: String,
     options: FLTMapInterfaces.SourceQueryOptions,
     result: FLTMapInterfaces.Result<MutableList<FLTMapInterfaces.QueriedSourceFeature>>
   ) {
-    mapboxMap.querySourceFeatures(sourceId, options.toSourceQueryOptions()) {
-      if (it.isError) {
-        result.error(Throwable(it.error))
-      } else {
-        result.success(
-          it.value?.map { feature -> feature.toFLTQueriedSourceFeature() }
-            ?.toMutableList()
-        )
+    val queryOptions = options.toSourceQueryOptions()
+    runOnMainThread {
+      mapboxMap.querySourceFeatures(sourceId, queryOptions) {
+        runOnWorkerThread {
+          if (it.isError) {
+            result.error(Throwable(it.error))
+          } else {
+            result.success(
+              it.value?.map { feature -> feature.toFLTQueriedSourceFeature() }
+                ?.toMutableList()
+            )
+          }
+        }
       }
     }
   }
@@ -252,6 +269,14 @@ class MapInterfaceController(private val mapboxMap: MapboxMap, private val conte
     return mapboxMap.getElevation(coordinate.toPoint())
   }
 
+  override fun setRenderStatsEnabled(enabled: Boolean) {
+    renderStatsRecorder.setEnabled(enabled)
+  }
+
+  override fun getRenderStats(reset: Boolean): FLTMapInterfaces.RenderStats {
+    return renderStatsRecorder.getRenderStats(reset)
+  }
+
   override fun setPrefetchZoomDelta(delta: Long) {
     mapboxMap.setPrefetchZoomDelta(delta.toByte())
   }
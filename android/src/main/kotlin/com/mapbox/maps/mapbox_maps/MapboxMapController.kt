@@ -4,34 +4,25 @@ import android.content.Context
 import android.view.View
 import androidx.lifecycle.DefaultLifecycleObserver
 import androidx.lifecycle.LifecycleOwner
-import com.google.gson.Gson
-import com.google.gson.GsonBuilder
-import com.google.gson.JsonElement
-import com.google.gson.JsonPrimitive
-import com.google.gson.JsonSerializationContext
-import com.google.gson.JsonSerializer
-import com.google.gson.TypeAdapter
-import com.google.gson.TypeAdapterFactory
-import com.google.gson.reflect.TypeToken
-import com.google.gson.stream.JsonReader
-import com.google.gson.stream.JsonWriter
 import com.mapbox.common.*
 import com.mapbox.maps.*
 import com.mapbox.maps.mapbox_maps.annotation.AnnotationController
+import com.mapbox.maps.pigeons.FLTMapEvents
 import com.mapbox.maps.pigeons.FLTMapInterfaces
+import com.mapbox.maps.pigeons.FLTMessengerMetrics
+import com.mapbox.maps.pigeons.FLTResourceTelemetry
 import com.mapbox.maps.pigeons.FLTSettings
 import io.flutter.plugin.common.BinaryMessenger
 import io.flutter.plugin.common.MethodCall
 import io.flutter.plugin.common.MethodChannel
 import io.flutter.plugin.platform.PlatformView
-import java.lang.reflect.Type
-import java.util.Date
 
 class MapboxMapController(
   context: Context,
   mapInitOptions: MapInitOptions,
   private val lifecycleProvider: MapboxMapsPlugin.LifecycleProvider,
   eventTypes: List<Int>,
+  private val typedEvents: Boolean,
   messenger: BinaryMessenger,
   channelSuffix: Int,
   pluginVersion: String
@@ -45,21 +36,30 @@ class MapboxMapController(
   private val styleController: StyleController = StyleController(mapboxMap, context)
   private val cameraController: CameraController = CameraController(mapboxMap, context)
   private val projectionController: MapProjectionController = MapProjectionController(mapboxMap)
-  private val mapInterfaceController: MapInterfaceController = MapInterfaceController(mapboxMap, context)
+  private val renderStatsRecorder = RenderStatsRecorder(mapboxMap) {
+    1000.0 / (mapView.display?.refreshRate ?: 60f)
+  }
+  private val mapInterfaceController: MapInterfaceController = MapInterfaceController(mapboxMap, context, renderStatsRecorder)
   private val animationController: AnimationController = AnimationController(mapboxMap, context)
-  private val annotationController: AnnotationController = AnnotationController(mapView, mapboxMap)
+  private val callbackCoalescer = CallbackCoalescer()
+  private val annotationController: AnnotationController = AnnotationController(mapView, mapboxMap, callbackCoalescer)
   private val locationComponentController = LocationComponentController(mapView, context)
-  private val gestureController = GestureController(mapView)
+  private val gestureController = GestureController(mapView, callbackCoalescer)
   private val logoController = LogoController(mapView)
   private val attributionController = AttributionController(mapView)
   private val scaleBarController = ScaleBarController(mapView)
   private val compassController = CompassController(mapView)
 
-  private val proxyBinaryMessenger = ProxyBinaryMessenger(messenger, "/map_$channelSuffix")
-  private val gson = GsonBuilder()
-    .registerTypeAdapter(Date::class.java, MicrosecondsDateTypeAdapter)
-    .registerTypeAdapterFactory(EnumOrdinalTypeAdapterFactory)
-    .create()
+  private val messengerMetrics = MessengerMetrics()
+  private val proxyBinaryMessenger = ProxyBinaryMessenger(messenger, "/map_$channelSuffix", messengerMetrics)
+  private val eventJsonWriter = MapEventJsonWriter()
+  private val mapEvents = FLTMapEvents._MapEvents(proxyBinaryMessenger)
+  private val eventDelivery = EventDelivery()
+  private val eventSubscriptions = HashMap<FLTMapInterfaces._MapEvent, Cancelable>()
+  private val resourceTelemetry = ResourceTelemetry(
+    mapboxMap,
+    FLTResourceTelemetry._ResourceTelemetryListener(proxyBinaryMessenger)
+  )
   init {
     changeUserAgent(pluginVersion)
     lifecycleProvider.getLifecycle()?.addObserver(this)
@@ -75,63 +75,87 @@ class MapboxMapController(
     FLTSettings.AttributionSettingsInterface.setup(proxyBinaryMessenger, attributionController)
     FLTSettings.ScaleBarSettingsInterface.setup(proxyBinaryMessenger, scaleBarController)
     FLTSettings.CompassSettingsInterface.setup(proxyBinaryMessenger, compassController)
+    FLTMessengerMetrics._MessengerMetrics.setup(proxyBinaryMessenger, messengerMetrics)
+    FLTResourceTelemetry._ResourceTelemetry.setup(proxyBinaryMessenger, resourceTelemetry)
 
     methodChannel = MethodChannel(proxyBinaryMessenger, "plugins.flutter.io")
     methodChannel.setMethodCallHandler(this)
 
-    // TODO: check if state-triggered subscription change does not lead to multiple subscriptions/not unsubscribing when listener becomes null
     for (event in eventTypes) {
       subscribeToEvent(FLTMapInterfaces._MapEvent.values()[event])
     }
   }
 
   private fun subscribeToEvent(event: FLTMapInterfaces._MapEvent) {
-    when (event) {
+    if (eventSubscriptions.containsKey(event)) {
+      return
+    }
+    eventSubscriptions[event] = if (typedEvents) {
+      mapboxMap.subscribeTyped(event, mapEvents, eventDelivery)
+    } else {
+      subscribeToJsonEvent(event)
+    }
+  }
+
+  private fun unsubscribeFromEvent(event: FLTMapInterfaces._MapEvent) {
+    eventSubscriptions.remove(event)?.cancel()
+    eventDelivery.discard(event)
+  }
+
+  private fun subscribeToJsonEvent(event: FLTMapInterfaces._MapEvent): Cancelable {
+    return when (event) {
       FLTMapInterfaces._MapEvent.MAP_LOADED -> mapboxMap.subscribeMapLoaded {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.MAP_LOADING_ERROR -> mapboxMap.subscribeMapLoadingError {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.STYLE_LOADED -> mapboxMap.subscribeStyleLoaded {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.STYLE_DATA_LOADED -> mapboxMap.subscribeStyleDataLoaded {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.CAMERA_CHANGED -> mapboxMap.subscribeCameraChanged {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.MAP_IDLE -> mapboxMap.subscribeMapIdle {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.SOURCE_ADDED -> mapboxMap.subscribeSourceAdded {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.SOURCE_REMOVED -> mapboxMap.subscribeSourceRemoved {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.SOURCE_DATA_LOADED -> mapboxMap.subscribeSourceDataLoaded {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.STYLE_IMAGE_MISSING -> mapboxMap.subscribeStyleImageMissing {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.STYLE_IMAGE_REMOVE_UNUSED -> mapboxMap.subscribeStyleImageRemoveUnused {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.RENDER_FRAME_STARTED -> mapboxMap.subscribeRenderFrameStarted {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.RENDER_FRAME_FINISHED -> mapboxMap.subscribeRenderFrameFinished {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
       FLTMapInterfaces._MapEvent.RESOURCE_REQUEST -> mapboxMap.subscribeResourceRequest {
-        methodChannel.invokeMethod(event.methodName, gson.toJson(it))
+        sendJsonEvent(event, it)
       }
     }
   }
 
+  // Dropped events are never serialized.
+  private fun sendJsonEvent(event: FLTMapInterfaces._MapEvent, data: Any) {
+    eventDelivery.post(event) {
+      methodChannel.invokeMethod(event.methodName, eventJsonWriter.toJson(data))
+    }
+  }
+
   override fun getView(): View {
     return mapView
   }
@@ -141,6 +165,11 @@ class MapboxMapController(
     mapView.onStop()
     mapView.onDestroy()
     methodChannel.setMethodCallHandler(null)
+    callbackCoalescer.dispose()
+    eventSubscriptions.values.forEach { it.cancel() }
+    eventSubscriptions.clear()
+    eventDelivery.dispose()
+    renderStatsRecorder.setEnabled(false)
     FLTMapInterfaces.StyleManager.setup(proxyBinaryMessenger, null)
     FLTMapInterfaces._CameraManager.setup(proxyBinaryMessenger, null)
     FLTMapInterfaces.Projection.setup(proxyBinaryMessenger, null)
@@ -153,6 +182,9 @@ class MapboxMapController(
     FLTSettings.CompassSettingsInterface.setup(proxyBinaryMessenger, null)
     FLTSettings.ScaleBarSettingsInterface.setup(proxyBinaryMessenger, null)
     FLTSettings.AttributionSettingsInterface.setup(proxyBinaryMessenger, null)
+    FLTMessengerMetrics._MessengerMetrics.setup(proxyBinaryMessenger, null)
+    FLTResourceTelemetry._ResourceTelemetry.setup(proxyBinaryMessenger, null)
+    resourceTelemetry.stop()
   }
 
   override fun onStart(owner: LifecycleOwner) {
@@ -173,6 +205,9 @@ class MapboxMapController(
       "annotation#remove_manager" -> {
         annotationController.handleRemoveManager(call, result)
       }
+      "annotation#set_tap_listeners" -> {
+        annotationController.handleSetTapListeners(call, result)
+      }
       "gesture#add_listeners" -> {
         gestureController.addListeners(proxyBinaryMessenger)
         result.success(null)
@@ -181,6 +216,26 @@ class MapboxMapController(
         gestureController.removeListeners()
         result.success(null)
       }
+      "gesture#coalesce_callbacks" -> {
+        callbackCoalescer.enabled = call.argument<Boolean>("enabled")!!
+        result.success(null)
+      }
+      "map#subscribe" -> {
+        subscribeToEvent(FLTMapInterfaces._MapEvent.values()[call.argument<Int>("event")!!])
+        result.success(null)
+      }
+      "map#unsubscribe" -> {
+        unsubscribeFromEvent(FLTMapInterfaces._MapEvent.values()[call.argument<Int>("event")!!])
+        result.success(null)
+      }
+      "map#set_event_delivery" -> {
+        eventDelivery.setPolicy(
+          FLTMapInterfaces._MapEvent.values()[call.argument<Int>("event")!!],
+          EventDelivery.Mode.values()[call.argument<Int>("mode")!!],
+          call.argument<Number>("intervalMillis")!!.toLong()
+        )
+        result.success(null)
+      }
       else -> {
         result.notImplemented()
       }
@@ -210,33 +265,4 @@ class MapboxMapController(
 }
 
 private val FLTMapInterfaces._MapEvent.methodName: String
-  get() = "event#$ordinal"
-
-object MicrosecondsDateTypeAdapter : JsonSerializer<Date> {
-  override fun serialize(
-    src: Date,
-    typeOfSrc: Type?,
-    context: JsonSerializationContext?
-  ): JsonElement {
-    return JsonPrimitive(src.time * 1000)
-  }
-}
-
-class EnumOrdinalTypeAdapter<T>() : TypeAdapter<T>() {
-  override fun write(out: JsonWriter?, value: T) {
-    out?.value((value as Enum<*>).ordinal)
-  }
-  override fun read(`in`: JsonReader?): T {
-    throw NotImplementedError("Not supported")
-  }
-}
-
-object EnumOrdinalTypeAdapterFactory : TypeAdapterFactory {
-  override fun <T : Any?> create(gson: Gson?, type: TypeToken<T>?): TypeAdapter<T>? {
-    if (type == null || !type.rawType.isEnum) {
-      return null
-    }
-
-    return EnumOrdinalTypeAdapter()
-  }
-}
\ No newline at end of file
+  get() = "event#$ordinal"
\ No newline at end of file
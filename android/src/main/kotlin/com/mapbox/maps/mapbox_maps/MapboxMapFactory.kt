@@ -113,11 +113,13 @@ class MapboxMapFactory(
     )
     // TODO: Check if the cast succeeds
     val eventTypes = params["eventTypes"] as? List<Int> ?: listOf()
+    val typedEvents = params["typedEvents"] as? Boolean ?: false
     return MapboxMapController(
       context,
       mapInitOptions,
       lifecycleProvider,
       eventTypes,
+      typedEvents,
       messenger,
       channelSuffix,
       pluginVersion,
@@ -0,0 +1,73 @@
+package com.mapbox.maps.mapbox_maps
+
+import com.mapbox.maps.pigeons.FLTMessengerMetrics
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Records the traffic of every channel of a map instance, per direction.
+ *
+ * Recording is off until enabled from Flutter, while disabled [record] is never called and
+ * the proxied messenger only pays for one volatile read per message.
+ */
+class MessengerMetrics : FLTMessengerMetrics._MessengerMetrics {
+
+  @Volatile
+  var isRecording = false
+    private set
+
+  private val channels = ConcurrentHashMap<Pair<String, Boolean>, ChannelStats>()
+
+  fun record(channel: String, incoming: Boolean, requestBytes: Int, responseBytes: Int, latencyNanos: Long) {
+    channels.getOrPut(channel to incoming) { ChannelStats() }
+      .record(requestBytes, responseBytes, latencyNanos)
+  }
+
+  override fun setEnabled(enabled: Boolean) {
+    isRecording = enabled
+  }
+
+  override fun getMetrics(reset: Boolean): List<FLTMessengerMetrics.ChannelMetrics> {
+    val metrics = channels.map { (key, stats) -> stats.toChannelMetrics(key.first, key.second) }
+    if (reset) {
+      channels.clear()
+    }
+    return metrics
+  }
+
+  private class ChannelStats {
+    private val messageCount = AtomicLong()
+    private val requestBytes = AtomicLong()
+    private val responseBytes = AtomicLong()
+    private val latencyHistogram = AtomicLongArray(LATENCY_BUCKET_BOUNDS_MICROS.size + 1)
+
+    fun record(requestBytes: Int, responseBytes: Int, latencyNanos: Long) {
+      messageCount.incrementAndGet()
+      this.requestBytes.addAndGet(requestBytes.toLong())
+      this.responseBytes.addAndGet(responseBytes.toLong())
+      val latencyMicros = latencyNanos / 1000
+      var bucket = LATENCY_BUCKET_BOUNDS_MICROS.indexOfFirst { latencyMicros < it }
+      if (bucket < 0) {
+        bucket = LATENCY_BUCKET_BOUNDS_MICROS.size
+      }
+      latencyHistogram.incrementAndGet(bucket)
+    }
+
+    fun toChannelMetrics(channel: String, incoming: Boolean): FLTMessengerMetrics.ChannelMetrics {
+      return FLTMessengerMetrics.ChannelMetrics.Builder()
+        .setChannel(channel)
+        .setIncoming(incoming)
+        .setMessageCount(messageCount.get())
+        .setRequestBytes(requestBytes.get())
+        .setResponseBytes(responseBytes.get())
+        .setLatencyHistogram(List(latencyHistogram.length()) { latencyHistogram.get(it) })
+        .build()
+    }
+  }
+
+  companion object {
+    // Upper bounds of the latency buckets, the last bucket counts all the slower messages.
+    val LATENCY_BUCKET_BOUNDS_MICROS = longArrayOf(50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000)
+  }
+}
\ No newline at end of file
@@ -6,22 +6,77 @@ import java.nio.ByteBuffer
 // BinaryMessenger that proxies all calls to another BinaryMessenger,
 // but with a suffix appended to the channel name.
 // Different map instances use different suffixes to avoid channel name conflicts.
+// When metrics are enabled, the traffic of every channel is recorded before it is proxied.
 class ProxyBinaryMessenger(
   private val messenger: BinaryMessenger,
   private val nameSuffix: String,
+  private val metrics: MessengerMetrics? = null,
 ) : BinaryMessenger {
 
   private fun String.appendSuffix() = "$this$nameSuffix"
 
   override fun send(channel: String, message: ByteBuffer?) {
-    messenger.send(channel.appendSuffix(), message)
+    send(channel, message, null)
   }
 
   override fun send(channel: String, message: ByteBuffer?, callback: BinaryMessenger.BinaryReply?) {
-    messenger.send(channel.appendSuffix(), message, callback)
+    if (callback == null && metrics?.isRecording == true) {
+      // Without a reply the latency is the time spent handing the message over.
+      val requestBytes = message?.position() ?: 0
+      val start = System.nanoTime()
+      messenger.send(channel.appendSuffix(), message, null)
+      metrics.record(channel, false, requestBytes, 0, System.nanoTime() - start)
+      return
+    }
+    messenger.send(channel.appendSuffix(), message, callback?.instrumented(channel, message))
   }
 
   override fun setMessageHandler(channel: String, handler: BinaryMessenger.BinaryMessageHandler?) {
-    messenger.setMessageHandler(channel.appendSuffix(), handler)
+    messenger.setMessageHandler(channel.appendSuffix(), handler?.instrumented(channel))
+  }
+
+  override fun makeBackgroundTaskQueue(options: BinaryMessenger.TaskQueueOptions): BinaryMessenger.TaskQueue {
+    return messenger.makeBackgroundTaskQueue(options)
+  }
+
+  override fun setMessageHandler(
+    channel: String,
+    handler: BinaryMessenger.BinaryMessageHandler?,
+    taskQueue: BinaryMessenger.TaskQueue?
+  ) {
+    messenger.setMessageHandler(channel.appendSuffix(), handler?.instrumented(channel), taskQueue)
+  }
+
+  // Encoded messages are written up to their position, received ones are read up to their limit.
+  private fun BinaryMessenger.BinaryReply.instrumented(
+    channel: String,
+    message: ByteBuffer?
+  ): BinaryMessenger.BinaryReply {
+    val metrics = metrics ?: return this
+    if (!metrics.isRecording) {
+      return this
+    }
+    val requestBytes = message?.position() ?: 0
+    val start = System.nanoTime()
+    return BinaryMessenger.BinaryReply { reply ->
+      metrics.record(channel, false, requestBytes, reply?.remaining() ?: 0, System.nanoTime() - start)
+      this.reply(reply)
+    }
+  }
+
+  private fun BinaryMessenger.BinaryMessageHandler.instrumented(channel: String): BinaryMessenger.BinaryMessageHandler {
+    val metrics = metrics ?: return this
+    return BinaryMessenger.BinaryMessageHandler { message, reply ->
+      if (!metrics.isRecording) {
+        onMessage(message, reply)
+        return@BinaryMessageHandler
+      }
+      val requestBytes = message?.remaining() ?: 0
+      val start = System.nanoTime()
+      onMessage(message) { response ->
+        metrics.record(channel, true, requestBytes, response?.position() ?: 0, System.nanoTime() - start)
+        reply.reply(response)
+      }
+    }
   }
 }
\ No newline at end of file
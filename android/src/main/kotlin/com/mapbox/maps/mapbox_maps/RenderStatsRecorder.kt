@@ -0,0 +1,130 @@
+package com.mapbox.maps.mapbox_maps
+
+import com.mapbox.common.Cancelable
+import com.mapbox.maps.MapboxMap
+import com.mapbox.maps.RenderFrameFinished
+import com.mapbox.maps.RenderModeType
+import com.mapbox.maps.pigeons.FLTMapInterfaces
+
+/**
+ * Aggregates the render frame events of a map into frame time histograms.
+ *
+ * The events are only subscribed to while recording, and nothing is sent to Flutter until the
+ * statistics are requested. Render frame events and the calls from Flutter arrive on the main
+ * thread, so the aggregated values are not synchronized.
+ */
+class RenderStatsRecorder(
+  private val mapboxMap: MapboxMap,
+  private val frameBudgetMillis: () -> Double
+) {
+  private var subscriptions: List<Cancelable> = emptyList()
+
+  private var startedFrameCount = 0L
+  private var frameCount = 0L
+  private var fullFrameCount = 0L
+  private var needsRepaintCount = 0L
+  private var placementChangedCount = 0L
+  private var placementChanges = 0L
+  private var maxConsecutivePlacementChanges = 0L
+  private var overBudgetCount = 0L
+  private var maxFrameTimeMillis = 0L
+  private val frameTimeHistogram = LongArray(FRAME_TIME_BUCKET_BOUNDS_MILLIS.size + 1)
+
+  fun setEnabled(enabled: Boolean) {
+    if (enabled == subscriptions.isNotEmpty()) {
+      return
+    }
+    if (enabled) {
+      subscriptions = listOf(
+        mapboxMap.subscribeRenderFrameStarted { startedFrameCount++ },
+        mapboxMap.subscribeRenderFrameFinished(::record)
+      )
+    } else {
+      subscriptions.forEach { it.cancel() }
+      subscriptions = emptyList()
+    }
+  }
+
+  fun getRenderStats(reset: Boolean): FLTMapInterfaces.RenderStats {
+    val stats = FLTMapInterfaces.RenderStats.Builder()
+      .setStartedFrameCount(startedFrameCount)
+      .setFrameCount(frameCount)
+      .setFullFrameCount(fullFrameCount)
+      .setNeedsRepaintCount(needsRepaintCount)
+      .setPlacementChangedCount(placementChangedCount)
+      .setMaxConsecutivePlacementChanges(maxConsecutivePlacementChanges)
+      .setFrameBudgetMillis(frameBudgetMillis())
+      .setOverBudgetCount(overBudgetCount)
+      .setFrameTimeHistogram(frameTimeHistogram.toList())
+      .setFrameTimeP50Millis(frameTimePercentile(0.5))
+      .setFrameTimeP90Millis(frameTimePercentile(0.9))
+      .setFrameTimeP99Millis(frameTimePercentile(0.99))
+      .setMaxFrameTimeMillis(maxFrameTimeMillis)
+      .build()
+    if (reset) {
+      reset()
+    }
+    return stats
+  }
+
+  private fun record(frame: RenderFrameFinished) {
+    frameCount++
+    if (frame.renderMode == RenderModeType.FULL) {
+      fullFrameCount++
+    }
+    if (frame.needsRepaint) {
+      needsRepaintCount++
+    }
+    if (frame.placementChanged) {
+      placementChangedCount++
+      placementChanges++
+      maxConsecutivePlacementChanges = maxOf(maxConsecutivePlacementChanges, placementChanges)
+    } else {
+      placementChanges = 0
+    }
+    val frameTimeMillis = frame.timeInterval.end.time - frame.timeInterval.begin.time
+    if (frameTimeMillis > frameBudgetMillis()) {
+      overBudgetCount++
+    }
+    maxFrameTimeMillis = maxOf(maxFrameTimeMillis, frameTimeMillis)
+    var bucket = FRAME_TIME_BUCKET_BOUNDS_MILLIS.indexOfFirst { frameTimeMillis < it }
+    if (bucket < 0) {
+      bucket = FRAME_TIME_BUCKET_BOUNDS_MILLIS.size
+    }
+    frameTimeHistogram[bucket]++
+  }
+
+  // Upper bound of the bucket holding the percentile, frames in the last bucket report the maximum.
+  private fun frameTimePercentile(fraction: Double): Long {
+    if (frameCount == 0L) {
+      return 0
+    }
+    val rank = Math.ceil(fraction * frameCount).toLong()
+    var count = 0L
+    for (bucket in FRAME_TIME_BUCKET_BOUNDS_MILLIS.indices) {
+      count += frameTimeHistogram[bucket]
+      if (count >= rank) {
+        return minOf(FRAME_TIME_BUCKET_BOUNDS_MILLIS[bucket], maxFrameTimeMillis)
+      }
+    }
+    return maxFrameTimeMillis
+  }
+
+  private fun reset() {
+    startedFrameCount = 0
+    frameCount = 0
+    fullFrameCount = 0
+    needsRepaintCount = 0
+    placementChangedCount = 0
+    placementChanges = 0
+    maxConsecutivePlacementChanges = 0
+    overBudgetCount = 0
+    maxFrameTimeMillis = 0
+    frameTimeHistogram.fill(0)
+  }
+
+  companion object {
+    // Upper bounds of the frame time buckets, the last bucket counts all the slower frames.
+    val FRAME_TIME_BUCKET_BOUNDS_MILLIS = longArrayOf(2, 4, 8, 12, 16, 20, 25, 33, 50, 100)
+  }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.mapbox.maps.mapbox_maps
+
+import android.os.Handler
+import android.os.Looper
+import com.mapbox.common.Cancelable
+import com.mapbox.maps.MapboxMap
+import com.mapbox.maps.ResourceRequest
+import com.mapbox.maps.ResponseSourceType
+import com.mapbox.maps.pigeons.FLTResourceTelemetry
+
+/**
+ * Aggregates the resource requests of a map instead of forwarding every request to Flutter.
+ *
+ * Requests are counted per data source and resource type, summaries are either returned on demand
+ * or sent at a fixed interval. Resource requests and all the calls from Flutter arrive on the main
+ * thread, so the aggregated values are not synchronized.
+ */
+class ResourceTelemetry(
+  private val mapboxMap: MapboxMap,
+  private val listener: FLTResourceTelemetry._ResourceTelemetryListener,
+  private val handler: Handler = Handler(Looper.getMainLooper())
+) : FLTResourceTelemetry._ResourceTelemetry, Runnable {
+
+  private var subscription: Cancelable? = null
+  private var intervalMillis = 0L
+  private val stats = HashMap<Int, RequestStats>()
+
+  override fun start(intervalMillis: Long) {
+    if (subscription == null) {
+      subscription = mapboxMap.subscribeResourceRequest(::record)
+    }
+    handler.removeCallbacks(this)
+    this.intervalMillis = intervalMillis
+    if (intervalMillis > 0) {
+      handler.postDelayed(this, intervalMillis)
+    }
+  }
+
+  override fun stop() {
+    subscription?.cancel()
+    subscription = null
+    handler.removeCallbacks(this)
+    stats.clear()
+  }
+
+  override fun getSummary(reset: Boolean): List<FLTResourceTelemetry.ResourceRequestStats> {
+    val summary = stats.map { (key, value) -> value.toResourceRequestStats(key shr KIND_BITS, key and KIND_MASK) }
+    if (reset) {
+      stats.clear()
+    }
+    return summary
+  }
+
+  override fun run() {
+    if (stats.isNotEmpty()) {
+      listener.onSummary(getSummary(true)) {}
+    }
+    handler.postDelayed(this, intervalMillis)
+  }
+
+  private fun record(request: ResourceRequest) {
+    val key = (request.source.ordinal shl KIND_BITS) or request.request.resource.ordinal
+    stats.getOrPut(key) { RequestStats() }.record(request)
+  }
+
+  private class RequestStats {
+    private var requestCount = 0L
+    private var cancelledCount = 0L
+    private var errorCount = 0L
+    private var bytes = 0L
+    private var cacheHits = 0L
+    private val latencies = LongArray(LATENCY_SAMPLES)
+    private var latencyCount = 0
+
+    fun record(request: ResourceRequest) {
+      if (request.cancelled) {
+        cancelledCount++
+        return
+      }
+      requestCount++
+      val response = request.response ?: return
+      if (response.error != null) {
+        errorCount++
+      }
+      if (response.source == ResponseSourceType.CACHE) {
+        cacheHits++
+      }
+      bytes += response.size
+      latencies[latencyCount % LATENCY_SAMPLES] =
+        request.timeInterval.end.time - request.timeInterval.begin.time
+      latencyCount++
+    }
+
+    fun toResourceRequestStats(dataSource: Int, kind: Int): FLTResourceTelemetry.ResourceRequestStats {
+      val sorted = latencies.copyOf(minOf(latencyCount, LATENCY_SAMPLES)).apply { sort() }
+      return FLTResourceTelemetry.ResourceRequestStats.Builder()
+        .setDataSource(dataSource.toLong())
+        .setKind(kind.toLong())
+        .setRequestCount(requestCount)
+        .setCancelledCount(cancelledCount)
+        .setErrorCount(errorCount)
+        .setBytes(bytes)
+        .setCacheHits(cacheHits)
+        .setLatencyP50Millis(sorted.percentile(0.5))
+        .setLatencyP90Millis(sorted.percentile(0.9))
+        .setLatencyP99Millis(sorted.percentile(0.99))
+        .build()
+    }
+
+    private fun LongArray.percentile(fraction: Double): Long {
+      if (isEmpty()) {
+        return 0
+      }
+      return this[(Math.ceil(fraction * size).toInt() - 1).coerceIn(0, size - 1)]
+    }
+  }
+
+  companion object {
+    // The latency percentiles are computed from the most recent requests.
+    private const val LATENCY_SAMPLES = 256
+    private const val KIND_BITS = 8
+    private const val KIND_MASK = (1 shl KIND_BITS) - 1
+  }
+}
\ No newline at end of file
@@ -28,13 +28,20 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     }
   }
 
+  // Runs on the background task queue.
   override fun getStyleJSON(result: FLTMapInterfaces.Result<String>) {
-    result.success(mapboxMap.style?.styleJSON ?: "")
+    runOnMainThread {
+      val json = mapboxMap.style?.styleJSON ?: ""
+      runOnWorkerThread { result.success(json) }
+    }
   }
 
+  // Runs on the background task queue.
   override fun setStyleJSON(json: String, result: FLTMapInterfaces.Result<Void>) {
-    mapboxMap.loadStyle(json) {
-      result.success(null)
+    runOnMainThread {
+      mapboxMap.loadStyle(json) {
+        result.success(null)
+      }
     }
   }
 
@@ -107,46 +114,52 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     result.success(null)
   }
 
+  // Runs on the background task queue.
   override fun addStyleLayer(
     properties: String,
     layerPosition: FLTMapInterfaces.LayerPosition?,
     result: FLTMapInterfaces.Result<Void>
   ) {
     properties.toValue().let { parameters ->
-      val expected = mapboxMap.addStyleLayer(
-        parameters,
-        LayerPosition(
-          layerPosition?.above,
-          layerPosition?.below,
-          layerPosition?.at?.toInt()
+      runOnMainThread {
+        val expected = mapboxMap.addStyleLayer(
+          parameters,
+          LayerPosition(
+            layerPosition?.above,
+            layerPosition?.below,
+            layerPosition?.at?.toInt()
+          )
         )
-      )
-      if (expected.isError) {
-        result.error(Throwable(expected.error))
-      } else {
-        result.success(null)
+        if (expected.isError) {
+          result.error(Throwable(expected.error))
+        } else {
+          result.success(null)
+        }
       }
     }
   }
 
+  // Runs on the background task queue.
   override fun addPersistentStyleLayer(
     properties: String,
     layerPosition: FLTMapInterfaces.LayerPosition?,
     result: FLTMapInterfaces.Result<Void>
   ) {
     properties.toValue().let { parameters ->
-      val expected = mapboxMap.addPersistentStyleLayer(
-        parameters,
-        LayerPosition(
-          layerPosition?.above,
-          layerPosition?.below,
-          layerPosition?.at?.toInt()
+      runOnMainThread {
+        val expected = mapboxMap.addPersistentStyleLayer(
+          parameters,
+          LayerPosition(
+            layerPosition?.above,
+            layerPosition?.below,
+            layerPosition?.at?.toInt()
+          )
         )
-      )
-      if (expected.isError) {
-        result.error(Throwable(expected.error))
-      } else {
-        result.success(null)
+        if (expected.isError) {
+          result.error(Throwable(expected.error))
+        } else {
+          result.success(null)
+        }
       }
     }
   }
@@ -215,18 +228,22 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     result.success(stylePropertyValue)
   }
 
+  // Runs on the background task queue.
   override fun setStyleLayerProperty(
     layerId: String,
     property: String,
     value: Any,
     result: FLTMapInterfaces.Result<Void>
   ) {
-    val expected =
-      mapboxMap.setStyleLayerProperty(layerId, property, value.toValue())
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(null)
+    val styleValue = value.toValue()
+    runOnMainThread {
+      val expected =
+        mapboxMap.setStyleLayerProperty(layerId, property, styleValue)
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
     }
   }
 
@@ -242,29 +259,37 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     }
   }
 
+  // Runs on the background task queue.
   override fun setStyleLayerProperties(
     layerId: String,
     properties: String,
     result: FLTMapInterfaces.Result<Void>
   ) {
-    val expected = mapboxMap.setStyleLayerProperties(layerId, properties.toValue())
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(null)
+    val value = properties.toValue()
+    runOnMainThread {
+      val expected = mapboxMap.setStyleLayerProperties(layerId, value)
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
     }
   }
 
+  // Runs on the background task queue.
   override fun addStyleSource(
     sourceId: String,
     properties: String,
     result: FLTMapInterfaces.Result<Void>
   ) {
-    val expected = mapboxMap.addStyleSource(sourceId, properties.toValue())
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(null)
+    val value = properties.toValue()
+    runOnMainThread {
+      val expected = mapboxMap.addStyleSource(sourceId, value)
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
     }
   }
 
@@ -284,46 +309,60 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     result.success(stylePropertyValue)
   }
 
+  // Runs on the background task queue.
   override fun setStyleSourceProperty(
     sourceId: String,
     property: String,
     value: Any,
     result: FLTMapInterfaces.Result<Void>
   ) {
-    val expected =
-      mapboxMap.setStyleSourceProperty(sourceId, property, value.toValue())
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(null)
+    val styleValue = value.toValue()
+    runOnMainThread {
+      val expected =
+        mapboxMap.setStyleSourceProperty(sourceId, property, styleValue)
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
     }
   }
 
+  // Runs on the background task queue.
   override fun getStyleSourceProperties(
     sourceId: String,
     result: FLTMapInterfaces.Result<String>
   ) {
-    val expected = mapboxMap.getStyleSourceProperties(sourceId)
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(expected.value!!.toJson())
+    runOnMainThread {
+      val expected = mapboxMap.getStyleSourceProperties(sourceId)
+      runOnWorkerThread {
+        if (expected.isError) {
+          result.error(Throwable(expected.error))
+        } else {
+          result.success(expected.value!!.toJson())
+        }
+      }
     }
   }
 
+  // Runs on the background task queue.
   override fun setStyleSourceProperties(
     sourceId: String,
     properties: String,
     result: FLTMapInterfaces.Result<Void>
   ) {
-    val expected = mapboxMap.setStyleSourceProperties(sourceId, properties.toValue())
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(null)
+    val value = properties.toValue()
+    runOnMainThread {
+      val expected = mapboxMap.setStyleSourceProperties(sourceId, value)
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
     }
   }
 
+  // Runs on the background task queue.
   override fun updateStyleImageSourceImage(
     sourceId: String,
     image: FLTMapInterfaces.MbxImage,
@@ -340,18 +379,20 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     val byteBuffer = ByteBuffer.allocateDirect(bitmap.byteCount)
     bitmap.copyPixelsToBuffer(byteBuffer)
 
-    val expected = mapboxMap.updateStyleImageSourceImage(
-      sourceId,
-      Image(
-        image.width.toInt(),
-        image.height.toInt(),
-        DataRef(byteBuffer)
+    runOnMainThread {
+      val expected = mapboxMap.updateStyleImageSourceImage(
+        sourceId,
+        Image(
+          image.width.toInt(),
+          image.height.toInt(),
+          DataRef(byteBuffer)
+        )
       )
-    )
-    if (expected.isError) {
-      result.error(Throwable(expected.error))
-    } else {
-      result.success(null)
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
     }
   }
 
@@ -469,22 +510,29 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     }
   }
 
+  // Runs on the background task queue.
   override fun getStyleImage(
     imageId: String,
     result: FLTMapInterfaces.Result<FLTMapInterfaces.MbxImage>
   ) {
-    mapboxMap.getStyleImage(imageId)?.let { image ->
-      val byteArray = ByteArray(image.data.buffer.capacity())
-      image.data.buffer.get(byteArray)
-      result.success(
-        FLTMapInterfaces.MbxImage.Builder()
-          .setWidth(image.width.toLong())
-          .setHeight(image.height.toLong())
-          .setData(byteArray)
-          .build()
-      )
+    runOnMainThread {
+      val image = mapboxMap.getStyleImage(imageId)
+      runOnWorkerThread {
+        if (image == null) {
+          result.success(null)
+          return@runOnWorkerThread
+        }
+        val byteArray = ByteArray(image.data.buffer.capacity())
+        image.data.buffer.get(byteArray)
+        result.success(
+          FLTMapInterfaces.MbxImage.Builder()
+            .setWidth(image.width.toLong())
+            .setHeight(image.height.toLong())
+            .setData(byteArray)
+            .build()
+        )
+      }
     }
-    result.success(null)
   }
 
   override fun removeStyleImage(imageId: String, result: FLTMapInterfaces.Result<Void?>) {
@@ -551,6 +599,7 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     result.success(null)
   }
 
+  // Runs on the background task queue.
   override fun addStyleImage(
     imageId: String,
     scale: Double,
@@ -571,20 +620,51 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
     }
     val byteBuffer = ByteBuffer.allocateDirect(bitmap.byteCount)
     bitmap.copyPixelsToBuffer(byteBuffer)
+    runOnMainThread {
+      val expected = mapboxMap.addStyleImage(
+        imageId, scale.toFloat(),
+        Image(
+          image.width.toInt(),
+          image.height.toInt(),
+          DataRef(byteBuffer)
+        ),
+        sdf,
+        stretchX.map {
+          ImageStretches(
+            it.first.toFloat(),
+            it.second.toFloat()
+          )
+        }.toMutableList(),
+        stretchY.map { ImageStretches(it.first.toFloat(), it.second.toFloat()) }.toMutableList(),
+        if (content != null) ImageContent(
+          content.left.toFloat(),
+          content.top.toFloat(), content.right.toFloat(), content.bottom.toFloat()
+        ) else null
+      )
+      if (expected.isError) {
+        result.error(Throwable(expected.error))
+      } else {
+        result.success(null)
+      }
+    }
+  }
+
+  // Runs on the platform thread, the image data is only valid until this returns.
+  override fun addStyleRawImage(
+    imageId: String,
+    scale: Double,
+    image: FLTMapInterfaces.MbxRawImage,
+    sdf: Boolean,
+    stretchX: MutableList<FLTMapInterfaces.ImageStretches>,
+    stretchY: MutableList<FLTMapInterfaces.ImageStretches>,
+    content: FLTMapInterfaces.ImageContent?,
+    result: FLTMapInterfaces.Result<Void>
+  ) {
     val expected = mapboxMap.addStyleImage(
       imageId, scale.toFloat(),
-      Image(
-        image.width.toInt(),
-        image.height.toInt(),
-        DataRef(byteBuffer)
-      ),
+      image.toImage(),
       sdf,
-      stretchX.map {
-        ImageStretches(
-          it.first.toFloat(),
-          it.second.toFloat()
-        )
-      }.toMutableList(),
+      stretchX.map { ImageStretches(it.first.toFloat(), it.second.toFloat()) }.toMutableList(),
       stretchY.map { ImageStretches(it.first.toFloat(), it.second.toFloat()) }.toMutableList(),
       if (content != null) ImageContent(
         content.left.toFloat(),
@@ -597,6 +677,48 @@ class StyleController(private val mapboxMap: MapboxMap, private val context: Con
       result.success(null)
     }
   }
+
+  // Runs on the platform thread, the image data is only valid until this returns.
+  override fun updateStyleImageSourceRawImage(
+    sourceId: String,
+    image: FLTMapInterfaces.MbxRawImage,
+    result: FLTMapInterfaces.Result<Void>
+  ) {
+    val expected = mapboxMap.updateStyleImageSourceImage(sourceId, image.toImage())
+    if (expected.isError) {
+      result.error(Throwable(expected.error))
+    } else {
+      result.success(null)
+    }
+  }
+
+  // Runs on the background task queue.
+  override fun getStyleRawImage(
+    imageId: String,
+    result: FLTMapInterfaces.Result<FLTMapInterfaces.MbxRawImage>
+  ) {
+    runOnMainThread {
+      val image = mapboxMap.getStyleImage(imageId)
+      runOnWorkerThread {
+        if (image == null) {
+          result.success(null)
+          return@runOnWorkerThread
+        }
+        result.success(
+          FLTMapInterfaces.MbxRawImage.Builder()
+            .setWidth(image.width.toLong())
+            .setHeight(image.height.toLong())
+            .setData(image.data.buffer)
+            .build()
+        )
+      }
+    }
+  }
+
+  // Wraps the pixels as they are, the style copies them when the image is added.
+  private fun FLTMapInterfaces.MbxRawImage.toImage(): Image {
+    return Image(width.toInt(), height.toInt(), DataRef(data))
+  }
 }
 
 fun Any.toValue(): Value {
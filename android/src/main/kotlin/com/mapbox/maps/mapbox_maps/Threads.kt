@@ -0,0 +1,29 @@
+package com.mapbox.maps.mapbox_maps
+
+import android.os.Handler
+import android.os.Looper
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+// Handlers registered on a background task queue decode their arguments off the main thread,
+// but MapboxMap and the annotation managers must still be called on the main thread.
+// Results are completed on the worker thread so that encoding the reply does not block the UI.
+private val mainHandler = Handler(Looper.getMainLooper())
+
+private val worker: ExecutorService = Executors.newSingleThreadExecutor { runnable ->
+  Thread(runnable, "mapbox-maps-flutter-worker").apply { isDaemon = true }
+}
+
+/** Runs [block] on the main thread, right away when already called from it. */
+fun runOnMainThread(block: () -> Unit) {
+  if (Looper.myLooper() == Looper.getMainLooper()) {
+    block()
+  } else {
+    mainHandler.post(block)
+  }
+}
+
+/** Runs [block] on the shared worker thread. */
+fun runOnWorkerThread(block: () -> Unit) {
+  worker.execute(block)
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.util.LruCache
+
+/**
+ * Decoded annotation images, keyed by the content of their encoded bytes and shared by every
+ * point annotation manager.
+ *
+ * Annotations carrying the same image bytes get the same [Bitmap] instance, so the image is only
+ * decoded once, and the annotation managers, which name the style image after the bitmap, add it
+ * to the style once. The cache is bounded by the size of the decoded bitmaps, evicted bitmaps stay
+ * alive for as long as annotations use them.
+ */
+object AnnotationBitmapCache {
+  private val cache = object : LruCache<ImageKey, Bitmap>(maxSize()) {
+    override fun sizeOf(key: ImageKey, value: Bitmap): Int = value.byteCount
+  }
+
+  /** Returns the bitmap decoded from [bytes], or null if they are not a supported image. */
+  fun decode(bytes: ByteArray): Bitmap? {
+    val key = ImageKey(bytes)
+    cache.get(key)?.let { return it }
+    val bitmap = BitmapFactory.decodeByteArray(bytes, 0, bytes.size) ?: return null
+    // Images decoded concurrently keep the bitmap cached first, so they still share one instance.
+    synchronized(cache) {
+      return cache.get(key) ?: bitmap.also { cache.put(key, it) }
+    }
+  }
+
+  private fun maxSize(): Int {
+    return (Runtime.getRuntime().maxMemory() / MEMORY_FRACTION).coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+  }
+
+  private const val MEMORY_FRACTION = 16
+
+  // Compares the bytes themselves, so that a hash collision never returns another image.
+  private class ImageKey(private val bytes: ByteArray) {
+    private val hash = bytes.contentHashCode()
+
+    override fun hashCode(): Int = hash
+
+    override fun equals(other: Any?): Boolean {
+      return other is ImageKey && other.hash == hash && other.bytes.contentEquals(bytes)
+    }
+  }
+}
\ No newline at end of file
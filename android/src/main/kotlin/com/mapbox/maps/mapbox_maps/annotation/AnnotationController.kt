@@ -1,17 +1,31 @@
 package com.mapbox.maps.mapbox_maps.annotation
 
+import com.mapbox.common.Cancelable
+import com.mapbox.geojson.Point
+import com.mapbox.maps.CoordinateBounds
 import com.mapbox.maps.MapView
 import com.mapbox.maps.MapboxMap
+import com.mapbox.maps.extension.style.expressions.generated.Expression
+import com.mapbox.maps.mapbox_maps.CallbackCoalescer
 import com.mapbox.maps.pigeons.*
+import com.mapbox.maps.plugin.annotation.AnnotationConfig
 import com.mapbox.maps.plugin.annotation.AnnotationManager
+import com.mapbox.maps.plugin.annotation.AnnotationSourceOptions
+import com.mapbox.maps.plugin.annotation.ClusterOptions
 import com.mapbox.maps.plugin.annotation.annotations
 import com.mapbox.maps.plugin.annotation.generated.*
+import com.mapbox.maps.plugin.gestures.OnMapClickListener
+import com.mapbox.maps.plugin.gestures.OnMapLongClickListener
+import com.mapbox.maps.plugin.gestures.gestures
 import io.flutter.plugin.common.BinaryMessenger
 import io.flutter.plugin.common.MethodCall
 import io.flutter.plugin.common.MethodChannel
 
-class AnnotationController(private val mapView: MapView, private val mapboxMap: MapboxMap) :
-  ControllerDelegate {
+class AnnotationController(
+  private val mapView: MapView,
+  private val mapboxMap: MapboxMap,
+  private val coalescer: CallbackCoalescer
+) : ControllerDelegate {
   private val managerMap = mutableMapOf<String, AnnotationManager<*, *, *, *, *, *, *>>()
   private val pointAnnotationController = PointAnnotationController(this)
   private val circleAnnotationController = CircleAnnotationController(this)
@@ -21,24 +35,66 @@ class AnnotationController(private val mapView: MapView, private val mapboxMap:
   private lateinit var onPolygonAnnotationClickListener: FLTPolygonAnnotationMessager.OnPolygonAnnotationClickListener
   private lateinit var onPolylineAnnotationController: FLTPolylineAnnotationMessager.OnPolylineAnnotationClickListener
   private lateinit var onCircleAnnotationClickListener: FLTCircleAnnotationMessager.OnCircleAnnotationClickListener
+  private lateinit var annotationInteractionListener: FLTAnnotationInteractions._AnnotationInteractionListener
   private var index = 0
+
+  // Managers whose taps and long taps are sent to Flutter as ids.
+  private val tapManagers = HashSet<String>()
+
+  // Long-click listeners are only added while Flutter listens for long taps, so that managers without
+  // them don't query the rendered features on every long press. Holds how to remove each listener.
+  private val longTapListeners = HashMap<String, () -> Unit>()
+
+  // The annotation click listeners only get the annotation, so the tapped coordinate is recorded by
+  // map listeners. The gestures plugin calls the map listeners in the order they were added and stops
+  // at the first one that handles the tap, and each annotation manager resolves the tap to an
+  // annotation synchronously in its own map listener. These are added in setup, before any manager
+  // exists, so they always see a tap first. A recorded tap is used at most once, so a tap resolved
+  // without a recorded coordinate is never sent with the coordinate of an earlier one.
+  private var lastTap: Point? = null
+  private var lastLongTap: Point? = null
+  private var cameraSubscription: Cancelable? = null
+  private var idleSubscription: Cancelable? = null
+  private val tapRecorder = OnMapClickListener {
+    lastTap = it
+    false
+  }
+  private val longTapRecorder = OnMapLongClickListener {
+    lastLongTap = it
+    false
+  }
+
   fun handleCreateManager(call: MethodCall, result: MethodChannel.Result) {
+    val id = index.toString()
+    val config = call.argument<Map<String, Any?>>("clusterOptions")?.let {
+      AnnotationConfig(annotationSourceOptions = AnnotationSourceOptions(clusterOptions = it.toClusterOptions()))
+    }
     val manager = when (val type = call.argument<String>("type")!!) {
       "circle" -> {
-        mapView.annotations.createCircleAnnotationManager().apply {
+        mapView.annotations.createCircleAnnotationManager(config).apply {
           this.addClickListener(
             OnCircleAnnotationClickListener { annotation ->
-              onCircleAnnotationClickListener.onCircleAnnotationClick(annotation.toFLTCircleAnnotation()) {}
+              if (!sendTap(id, annotation.id)) {
+                coalescer.post("circle" to annotation.id) {
+                  onCircleAnnotationClickListener.onCircleAnnotationClick(annotation.toFLTCircleAnnotation()) {}
+                }
+              }
               true
             }
           )
         }
       }
       "point" -> {
-        mapView.annotations.createPointAnnotationManager().apply {
+        mapView.annotations.createPointAnnotationManager(config).apply {
           this.addClickListener(
             OnPointAnnotationClickListener { annotation ->
-              onPointAnnotationClickListener.onPointAnnotationClick(annotation.toFLTPointAnnotation()) {}
+              // Taps on annotations of a virtualized dataset are sent with the index of their item.
+              val tappedId = pointAnnotationController.virtualItemOf(id, annotation.id)?.toString() ?: annotation.id
+              if (!sendTap(id, tappedId)) {
+                coalescer.post("point" to annotation.id) {
+                  onPointAnnotationClickListener.onPointAnnotationClick(annotation.toFLTPointAnnotation()) {}
+                }
+              }
               true
             }
           )
@@ -48,7 +104,13 @@ class AnnotationController(private val mapView: MapView, private val mapboxMap:
         mapView.annotations.createPolygonAnnotationManager().apply {
           this.addClickListener(
             OnPolygonAnnotationClickListener { annotation ->
-              onPolygonAnnotationClickListener.onPolygonAnnotationClick(annotation.toFLTPolygonAnnotation()) {}
+              if (!sendTap(id, annotation.id)) {
+                coalescer.post("polygon" to annotation.id) {
+                  onPolygonAnnotationClickListener.onPolygonAnnotationClick(
+                    polygonAnnotationController.toFLTPolygonAnnotation(id, annotation)
+                  ) {}
+                }
+              }
               true
             }
           )
@@ -58,7 +120,13 @@ class AnnotationController(private val mapView: MapView, private val mapboxMap:
         mapView.annotations.createPolylineAnnotationManager().apply {
           this.addClickListener(
             OnPolylineAnnotationClickListener { annotation ->
-              onPolylineAnnotationController.onPolylineAnnotationClick(annotation.toFLTPolylineAnnotation()) {}
+              if (!sendTap(id, annotation.id)) {
+                coalescer.post("polyline" to annotation.id) {
+                  onPolylineAnnotationController.onPolylineAnnotationClick(
+                    polylineAnnotationController.toFLTPolylineAnnotation(id, annotation)
+                  ) {}
+                }
+              }
               true
             }
           )
@@ -69,24 +137,155 @@ class AnnotationController(private val mapView: MapView, private val mapboxMap:
         return
       }
     }
-    val id = (index++).toString()
+    index++
     managerMap[id] = manager
     result.success(id)
   }
 
+  // Only point and circle managers are clustered, the options of other managers are ignored.
+  private fun Map<String, Any?>.toClusterOptions(): ClusterOptions {
+    return ClusterOptions(
+      clusterRadius = (this["clusterRadius"] as Number).toLong(),
+      clusterMaxZoom = (this["clusterMaxZoom"] as Number).toLong(),
+      circleRadius = (this["circleRadius"] as Number).toDouble(),
+      textColor = (this["textColor"] as Number).toInt(),
+      textSize = (this["textSize"] as Number).toDouble(),
+      // The levels are matched from the largest point count down.
+      colorLevels = (this["colorLevels"] as List<*>)
+        .map { level -> (level as List<*>).let { (it[0] as Number).toInt() to (it[1] as Number).toInt() } }
+        .sortedByDescending { it.first },
+      textField = (this["textField"] as String?)?.let { Expression.fromRaw(it) }
+    )
+  }
+
+  fun handleSetTapListeners(call: MethodCall, result: MethodChannel.Result) {
+    val id = call.argument<String>("id")!!
+    val manager = try {
+      getManager(id)
+    } catch (e: Throwable) {
+      result.error("0", e.message, null)
+      return
+    }
+    if (call.argument<Boolean>("tap")!!) tapManagers.add(id) else tapManagers.remove(id)
+    if (call.argument<Boolean>("longTap")!!) {
+      if (id !in longTapListeners) {
+        longTapListeners[id] = addLongTapListener(id, manager)
+      }
+    } else {
+      longTapListeners.remove(id)?.invoke()
+    }
+    result.success(null)
+  }
+
+  private fun addLongTapListener(managerId: String, manager: AnnotationManager<*, *, *, *, *, *, *>): () -> Unit {
+    when (manager) {
+      is CircleAnnotationManager -> {
+        val listener = OnCircleAnnotationLongClickListener { sendLongTap(managerId, it.id) }
+        manager.addLongClickListener(listener)
+        return { manager.removeLongClickListener(listener) }
+      }
+      is PointAnnotationManager -> {
+        val listener = OnPointAnnotationLongClickListener {
+          sendLongTap(managerId, pointAnnotationController.virtualItemOf(managerId, it.id)?.toString() ?: it.id)
+        }
+        manager.addLongClickListener(listener)
+        return { manager.removeLongClickListener(listener) }
+      }
+      is PolygonAnnotationManager -> {
+        val listener = OnPolygonAnnotationLongClickListener { sendLongTap(managerId, it.id) }
+        manager.addLongClickListener(listener)
+        return { manager.removeLongClickListener(listener) }
+      }
+      is PolylineAnnotationManager -> {
+        val listener = OnPolylineAnnotationLongClickListener { sendLongTap(managerId, it.id) }
+        manager.addLongClickListener(listener)
+        return { manager.removeLongClickListener(listener) }
+      }
+    }
+    throw Throwable("Unsupported manager with id: $managerId")
+  }
+
+  // Sends only the ids and the tapped coordinate, returns whether the manager listens for them.
+  private fun sendTap(managerId: String, annotationId: String): Boolean {
+    val point = lastTap
+    if (point == null || managerId !in tapManagers) {
+      return false
+    }
+    lastTap = null
+    coalescer.post(Triple("tap", managerId, annotationId)) {
+      annotationInteractionListener.onAnnotationTap(managerId, annotationId, point.longitude(), point.latitude()) {}
+    }
+    return true
+  }
+
+  private fun sendLongTap(managerId: String, annotationId: String): Boolean {
+    val point = lastLongTap
+    if (point == null || managerId !in longTapListeners) {
+      return false
+    }
+    lastLongTap = null
+    coalescer.post(Triple("longTap", managerId, annotationId)) {
+      annotationInteractionListener.onAnnotationLongTap(managerId, annotationId, point.longitude(), point.latitude()) {}
+    }
+    return true
+  }
+
   fun handleRemoveManager(call: MethodCall, result: MethodChannel.Result) {
     val id = call.argument<String>("id")!!
     managerMap.remove(id)?.let {
       mapView.annotations.removeAnnotationManager(it)
     }
+    tapManagers.remove(id)
+    longTapListeners.remove(id)
+    pointAnnotationController.removeManager(id)
+    circleAnnotationController.removeManager(id)
+    polygonAnnotationController.removeManager(id)
+    polylineAnnotationController.removeManager(id)
+    updateCameraSubscriptions()
     result.success(null)
   }
 
+  // Lines and polygons of managers with zoom bands draw the version simplified for the current zoom,
+  // virtualized point datasets materialize the items around the new viewport.
+  private fun onCameraChanged(zoom: Double) {
+    polylineAnnotationController.onZoomChanged(zoom)
+    polygonAnnotationController.onZoomChanged(zoom)
+    pointAnnotationController.onCameraChanged()
+  }
+
+  // Subscribed only while a manager has zoom bands or a virtualized dataset, so that maps without them
+  // don't pay for a callback on every camera change.
+  override fun updateCameraSubscriptions() {
+    val followsZoom = polylineAnnotationController.followsZoom || polygonAnnotationController.followsZoom
+    val followsViewport = pointAnnotationController.followsViewport
+    if (followsZoom || followsViewport) {
+      if (cameraSubscription == null) {
+        // Catches up with the camera changes missed while unsubscribed.
+        onCameraChanged(mapboxMap.cameraState.zoom)
+        cameraSubscription = mapboxMap.subscribeCameraChanged { onCameraChanged(it.cameraState.zoom) }
+      }
+    } else {
+      cameraSubscription?.cancel()
+      cameraSubscription = null
+    }
+    if (followsViewport) {
+      if (idleSubscription == null) {
+        idleSubscription = mapboxMap.subscribeMapIdle { pointAnnotationController.onMapIdle() }
+      }
+    } else {
+      idleSubscription?.cancel()
+      idleSubscription = null
+    }
+  }
+
   fun setup(messenger: BinaryMessenger) {
     onPointAnnotationClickListener = FLTPointAnnotationMessager.OnPointAnnotationClickListener(messenger)
     onCircleAnnotationClickListener = FLTCircleAnnotationMessager.OnCircleAnnotationClickListener(messenger)
     onPolygonAnnotationClickListener = FLTPolygonAnnotationMessager.OnPolygonAnnotationClickListener(messenger)
     onPolylineAnnotationController = FLTPolylineAnnotationMessager.OnPolylineAnnotationClickListener(messenger)
+    annotationInteractionListener = FLTAnnotationInteractions._AnnotationInteractionListener(messenger)
+    mapView.gestures.addOnMapClickListener(tapRecorder)
+    mapView.gestures.addOnMapLongClickListener(longTapRecorder)
     FLTPointAnnotationMessager._PointAnnotationMessager.setup(messenger, pointAnnotationController)
     FLTCircleAnnotationMessager._CircleAnnotationMessager.setup(
       messenger,
@@ -103,6 +302,14 @@ class AnnotationController(private val mapView: MapView, private val mapboxMap:
   }
 
   fun dispose(messenger: BinaryMessenger) {
+    mapView.gestures.removeOnMapClickListener(tapRecorder)
+    mapView.gestures.removeOnMapLongClickListener(longTapRecorder)
+    cameraSubscription?.cancel()
+    cameraSubscription = null
+    idleSubscription?.cancel()
+    idleSubscription = null
+    pointAnnotationController.dispose()
+    circleAnnotationController.dispose()
     FLTPointAnnotationMessager._PointAnnotationMessager.setup(messenger, null)
     FLTCircleAnnotationMessager._CircleAnnotationMessager.setup(messenger, null)
     FLTPolylineAnnotationMessager._PolylineAnnotationMessager.setup(messenger, null)
@@ -115,4 +322,7 @@ class AnnotationController(private val mapView: MapView, private val mapboxMap:
     }
     return managerMap[managerId]!!
   }
+
+  override fun visibleBounds(): CoordinateBounds =
+    mapboxMap.coordinateBoundsForCamera(mapboxMap.cameraState.toCameraOptions())
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import com.mapbox.maps.plugin.annotation.Annotation
+
+/**
+ * The annotations created through a messager, indexed by the manager that created them.
+ *
+ * Every manager owns a map from annotation id to annotation, so adding, looking up and removing
+ * an annotation are constant time, and clearing a manager drops its map at once instead of
+ * removing its annotations one by one.
+ */
+class AnnotationRegistry<T : Annotation<*>> {
+  private val managers = HashMap<String, HashMap<String, T>>()
+
+  fun add(managerId: String, annotation: T) {
+    managers.getOrPut(managerId) { HashMap() }[annotation.id] = annotation
+  }
+
+  fun addAll(managerId: String, annotations: List<T>) {
+    val managerAnnotations = managers.getOrPut(managerId) { HashMap(annotations.size * 4 / 3 + 1) }
+    annotations.forEach { managerAnnotations[it.id] = it }
+  }
+
+  operator fun get(managerId: String, id: String): T? = managers[managerId]?.get(id)
+
+  fun contains(managerId: String, id: String): Boolean = managers[managerId]?.containsKey(id) == true
+
+  fun remove(managerId: String, id: String): T? = managers[managerId]?.remove(id)
+
+  fun clear(managerId: String) {
+    managers.remove(managerId)
+  }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 // This file is generated.
 package com.mapbox.maps.mapbox_maps.annotation
 
+import com.mapbox.geojson.Point
 import com.mapbox.maps.extension.style.layers.properties.generated.*
+import com.mapbox.maps.mapbox_maps.runOnMainThread
+import com.mapbox.maps.mapbox_maps.runOnWorkerThread
 import com.mapbox.maps.mapbox_maps.toMap
 import com.mapbox.maps.mapbox_maps.toPoint
 import com.mapbox.maps.pigeons.FLTCircleAnnotationMessager
@@ -17,8 +20,12 @@ import toFLTCircleTranslateAnchor
 
 class CircleAnnotationController(private val delegate: ControllerDelegate) :
   FLTCircleAnnotationMessager._CircleAnnotationMessager {
-  private val annotationMap = mutableMapOf<String, CircleAnnotation>()
-  private val managerCreateAnnotationMap = mutableMapOf<String, MutableList<String>>()
+  private val registry = AnnotationRegistry<CircleAnnotation>()
+  private val animator = GeometryAnimator<CircleAnnotation>(
+    { it.point },
+    { annotation, point -> annotation.point = point },
+    { managerId, annotations -> (delegate.getManager(managerId) as CircleAnnotationManager).update(annotations) }
+  )
 
   override fun create(
     managerId: String,
@@ -28,40 +35,35 @@ class CircleAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as CircleAnnotationManager
       val annotation = manager.create(annotationOption.toCircleAnnotationOptions())
-      annotationMap[annotation.id] = annotation
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = mutableListOf(annotation.id)
-      } else {
-        managerCreateAnnotationMap[managerId]!!.add(annotation.id)
-      }
+      registry.add(managerId, annotation)
       result.success(annotation.toFLTCircleAnnotation())
     } catch (e: Exception) {
       result.error(e)
     }
   }
 
+  // Runs on the background task queue, only the manager is called on the main thread.
   override fun createMulti(
     managerId: String,
     annotationOptions: MutableList<FLTCircleAnnotationMessager.CircleAnnotationOptions>,
     result: FLTCircleAnnotationMessager.Result<MutableList<FLTCircleAnnotationMessager.CircleAnnotation>>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as CircleAnnotationManager
-      val annotations = manager.create(annotationOptions.map { it.toCircleAnnotationOptions() })
-      annotations.forEach {
-        annotationMap[it.id] = it
-      }
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = annotations.map { it.id }.toMutableList()
-      } else {
-        managerCreateAnnotationMap[managerId]!!.addAll(
-          annotations.map { it.id }
-            .toList()
-        )
-      }
-      result.success(annotations.map { it.toFLTCircleAnnotation() }.toMutableList())
+    val options = try {
+      annotationOptions.map { it.toCircleAnnotationOptions() }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as CircleAnnotationManager
+        val annotations = manager.create(options)
+        registry.addAll(managerId, annotations)
+        val fltAnnotations = annotations.map { it.toFLTCircleAnnotation() }.toMutableList()
+        runOnWorkerThread { result.success(fltAnnotations) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
@@ -73,14 +75,13 @@ class CircleAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as CircleAnnotationManager
 
-      if (!annotationMap.containsKey(annotation.id)) {
+      if (!registry.contains(managerId, annotation.id)) {
         result?.error(Throwable("Annotation has not been added on the map: $annotation."))
         return
       }
-      val originalAnnotation = updateAnnotation(annotation)
+      val originalAnnotation = updateAnnotation(managerId, annotation)
 
       manager.update(originalAnnotation)
-      annotationMap[annotation.id] = originalAnnotation
       result.success(null)
     } catch (e: Exception) {
       result.error(e)
@@ -95,29 +96,140 @@ class CircleAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as CircleAnnotationManager
 
-      if (!annotationMap.containsKey(annotation.id)) {
+      if (!registry.contains(managerId, annotation.id)) {
         result.error(Throwable("Annotation has not been added on the map: $annotation."))
         return
       }
 
       manager.delete(
-        annotationMap[annotation.id]!!
+        registry[managerId, annotation.id]!!
       )
-      annotationMap.remove(annotation.id)
-      managerCreateAnnotationMap[managerId]?.remove(annotation.id)
+      registry.remove(managerId, annotation.id)
+      animator.cancel(managerId, annotation.id)
       result.success(null)
     } catch (e: Exception) {
       result.error(e)
     }
   }
 
+  // Runs on the background task queue, the whole batch is applied with one manager update.
+  override fun updateMulti(
+    managerId: String,
+    annotations: MutableList<FLTCircleAnnotationMessager.CircleAnnotation>,
+    result: FLTCircleAnnotationMessager.Result<Void>
+  ) {
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as CircleAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val originalAnnotations = annotations.map { updateAnnotation(managerId, it) }
+        manager.update(originalAnnotations)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the whole batch is removed with one manager update.
+  override fun deleteMulti(
+    managerId: String,
+    annotations: MutableList<FLTCircleAnnotationMessager.CircleAnnotation>,
+    result: FLTCircleAnnotationMessager.Result<Void>
+  ) {
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as CircleAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val ids = annotations.mapTo(HashSet()) { it.id }
+        manager.delete(ids.map { registry[managerId, it]!! })
+        ids.forEach {
+          registry.remove(managerId, it)
+          animator.cancel(managerId, it)
+        }
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the coordinates are unpacked here and all positions are
+  // applied with one manager update.
+  override fun updateGeometries(
+    managerId: String,
+    ids: MutableList<String>,
+    coordinates: DoubleArray,
+    result: FLTCircleAnnotationMessager.Result<Void>
+  ) {
+    if (coordinates.size != ids.size * 2) {
+      result.error(Throwable("Expected ${ids.size * 2} coordinates for ${ids.size} annotations, got ${coordinates.size}."))
+      return
+    }
+    val points = List(ids.size) { Point.fromLngLat(coordinates[it * 2], coordinates[it * 2 + 1]) }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as CircleAnnotationManager
+        val missing = ids.filterNot { registry.contains(managerId, it) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: $missing."))
+          return@runOnMainThread
+        }
+        val annotations = ids.mapIndexed { index, id ->
+          animator.cancel(managerId, id)
+          registry[managerId, id]!!.apply { point = points[index] }
+        }
+        manager.update(annotations)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the annotations are then moved on every frame until they
+  // reach their targets.
+  override fun animateGeometries(
+    managerId: String,
+    ids: MutableList<String>,
+    coordinates: DoubleArray,
+    durationMillis: Long,
+    result: FLTCircleAnnotationMessager.Result<Void>
+  ) {
+    if (coordinates.size != ids.size * 2) {
+      result.error(Throwable("Expected ${ids.size * 2} coordinates for ${ids.size} annotations, got ${coordinates.size}."))
+      return
+    }
+    val points = List(ids.size) { Point.fromLngLat(coordinates[it * 2], coordinates[it * 2 + 1]) }
+    runOnMainThread {
+      try {
+        delegate.getManager(managerId) as CircleAnnotationManager
+        val missing = ids.filterNot { registry.contains(managerId, it) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: $missing."))
+          return@runOnMainThread
+        }
+        animator.animate(managerId, ids.map { registry[managerId, it]!! }, points, durationMillis)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
   override fun deleteAll(managerId: String, result: FLTCircleAnnotationMessager.Result<Void>) {
     try {
       val manager = delegate.getManager(managerId) as CircleAnnotationManager
-      managerCreateAnnotationMap[managerId]?.apply {
-        forEach { annotationMap.remove(it) }
-        clear()
-      }
+      registry.clear(managerId)
+      animator.clear(managerId)
       manager.deleteAll()
       result.success(null)
     } catch (e: Exception) {
@@ -125,8 +237,67 @@ class CircleAnnotationController(private val delegate: ControllerDelegate) :
     }
   }
 
-  private fun updateAnnotation(annotation: FLTCircleAnnotationMessager.CircleAnnotation): CircleAnnotation {
-    val originalAnnotation = annotationMap[annotation.id]!!
+  // Every property is converted before any is applied, so an invalid value leaves the layer unchanged.
+  override fun setProperties(
+    managerId: String,
+    properties: MutableMap<String, Any>,
+    result: FLTCircleAnnotationMessager.Result<Void>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as CircleAnnotationManager
+      val setters = properties.map { (key, value) -> manager.propertySetter(key, value) }
+      setters.forEach { it() }
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  override fun getProperties(
+    managerId: String,
+    result: FLTCircleAnnotationMessager.Result<MutableMap<String, Any>>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as CircleAnnotationManager
+      result.success(manager.layerProperties())
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  private fun CircleAnnotationManager.propertySetter(key: String, value: Any?): () -> Unit = when (key) {
+    "circle-emissive-strength" -> (value?.toPropertyDouble()).let { { circleEmissiveStrength = it } }
+    "circle-pitch-alignment" -> (value?.let { CirclePitchAlignment.valueOf(it.toPropertyEnumName()) }).let { { circlePitchAlignment = it } }
+    "circle-pitch-scale" -> (value?.let { CirclePitchScale.valueOf(it.toPropertyEnumName()) }).let { { circlePitchScale = it } }
+    "circle-translate" -> (value?.toPropertyDoubles()).let { { circleTranslate = it } }
+    "circle-translate-anchor" -> (value?.let { CircleTranslateAnchor.valueOf(it.toPropertyEnumName()) }).let { { circleTranslateAnchor = it } }
+    else -> throw IllegalArgumentException("Unsupported layer property: $key.")
+  }
+
+  private fun CircleAnnotationManager.layerProperties(): MutableMap<String, Any> = listOfNotNull(
+    circleEmissiveStrength?.let { "circle-emissive-strength" to it },
+    circlePitchAlignment?.let { "circle-pitch-alignment" to it.value },
+    circlePitchScale?.let { "circle-pitch-scale" to it.value },
+    circleTranslate?.let { "circle-translate" to it },
+    circleTranslateAnchor?.let { "circle-translate-anchor" to it.value },
+  ).toMap().toMutableMap()
+
+  fun removeManager(managerId: String) {
+    registry.clear(managerId)
+    animator.clear(managerId)
+  }
+
+  // Stops the motions in flight, called when the map is disposed.
+  fun dispose() {
+    animator.dispose()
+  }
+
+  private fun updateAnnotation(
+    managerId: String,
+    annotation: FLTCircleAnnotationMessager.CircleAnnotation
+  ): CircleAnnotation {
+    animator.cancel(managerId, annotation.id)
+    val originalAnnotation = registry[managerId, annotation.id]!!
     annotation.geometry?.let {
       originalAnnotation.geometry = it.toPoint()
     }
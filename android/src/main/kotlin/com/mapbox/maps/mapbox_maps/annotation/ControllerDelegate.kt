@@ -1,7 +1,13 @@
 package com.mapbox.maps.mapbox_maps.annotation
 
+import com.mapbox.maps.CoordinateBounds
 import com.mapbox.maps.plugin.annotation.AnnotationManager
 
 interface ControllerDelegate {
   fun getManager(managerId: String): AnnotationManager<*, *, *, *, *, *, *>
+
+  fun visibleBounds(): CoordinateBounds
+
+  /** Follows the camera only while a controller needs it, called whenever that may have changed. */
+  fun updateCameraSubscriptions()
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import android.view.Choreographer
+import com.mapbox.geojson.Point
+import com.mapbox.maps.plugin.annotation.Annotation
+
+/**
+ * Moves point geometries towards their latest target on every frame, on the main thread.
+ *
+ * A new target starts from the position the annotation is drawn at, so targets that arrive at the
+ * data rate give continuous motion as long as their duration covers the interval until the next
+ * target. The annotations of a manager that moved in a frame are applied with one [update].
+ */
+class GeometryAnimator<T : Annotation<*>>(
+  private val getPoint: (T) -> Point,
+  private val setPoint: (T, Point) -> Unit,
+  private val update: (managerId: String, annotations: List<T>) -> Unit
+) : Choreographer.FrameCallback {
+  private val managers = HashMap<String, HashMap<String, Motion<T>>>()
+  private var scheduled = false
+  private var disposed = false
+
+  private class Motion<T>(
+    val annotation: T,
+    val from: Point,
+    val to: Point,
+    val durationNanos: Long
+  ) {
+    // Set on the first frame, so that the time spent waiting for it is not skipped.
+    var startNanos = -1L
+  }
+
+  fun animate(managerId: String, annotations: List<T>, targets: List<Point>, durationMillis: Long) {
+    val motions = managers.getOrPut(managerId) { HashMap() }
+    val durationNanos = durationMillis * 1_000_000
+    annotations.forEachIndexed { index, annotation ->
+      motions[annotation.id] = Motion(annotation, getPoint(annotation), targets[index], durationNanos)
+    }
+    if (!scheduled && !disposed) {
+      scheduled = true
+      Choreographer.getInstance().postFrameCallback(this)
+    }
+  }
+
+  fun cancel(managerId: String, id: String) {
+    managers[managerId]?.remove(id)
+  }
+
+  fun clear(managerId: String) {
+    managers.remove(managerId)
+  }
+
+  // Calls already posted to the main thread may still animate, they no longer schedule frames.
+  fun dispose() {
+    disposed = true
+    if (scheduled) {
+      Choreographer.getInstance().removeFrameCallback(this)
+      scheduled = false
+    }
+    managers.clear()
+  }
+
+  override fun doFrame(frameTimeNanos: Long) {
+    scheduled = false
+    val managerIterator = managers.iterator()
+    while (managerIterator.hasNext()) {
+      val (managerId, motions) = managerIterator.next()
+      val moved = ArrayList<T>(motions.size)
+      val iterator = motions.values.iterator()
+      while (iterator.hasNext()) {
+        val motion = iterator.next()
+        if (motion.startNanos < 0) {
+          motion.startNanos = frameTimeNanos
+        }
+        val elapsed = frameTimeNanos - motion.startNanos
+        if (elapsed >= motion.durationNanos) {
+          setPoint(motion.annotation, motion.to)
+          iterator.remove()
+        } else {
+          val fraction = elapsed.toDouble() / motion.durationNanos
+          setPoint(motion.annotation, interpolate(motion.from, motion.to, fraction))
+        }
+        moved.add(motion.annotation)
+      }
+      if (moved.isNotEmpty()) {
+        update(managerId, moved)
+      }
+      if (motions.isEmpty()) {
+        managerIterator.remove()
+      }
+    }
+    if (managers.isNotEmpty()) {
+      scheduled = true
+      Choreographer.getInstance().postFrameCallback(this)
+    }
+  }
+
+  private fun interpolate(from: Point, to: Point, fraction: Double): Point {
+    var deltaLongitude = to.longitude() - from.longitude()
+    // Cross the antimeridian along the shorter way.
+    if (deltaLongitude > 180.0) {
+      deltaLongitude -= 360.0
+    } else if (deltaLongitude < -180.0) {
+      deltaLongitude += 360.0
+    }
+    return Point.fromLngLat(
+      from.longitude() + deltaLongitude * fraction,
+      from.latitude() + (to.latitude() - from.latitude()) * fraction
+    )
+  }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import kotlin.math.sqrt
+
+/**
+ * Uniform longitude/latitude grid over packed coordinates, immutable once built.
+ *
+ * The items of every cell are stored contiguously in one array, so the whole index costs two
+ * int arrays and can be built off the main thread in linear time.
+ */
+class GridIndex(private val coordinates: DoubleArray) {
+  private val rows: Int
+  private val columns: Int
+  private val cellStarts: IntArray
+  private val cellItems: IntArray
+
+  init {
+    val count = coordinates.size / 2
+    rows = sqrt(count / (2.0 * ITEMS_PER_CELL)).toInt().coerceIn(1, MAX_ROWS)
+    columns = rows * 2
+    val cells = IntArray(count) { cellOf(coordinates[it * 2], coordinates[it * 2 + 1]) }
+    cellStarts = IntArray(rows * columns + 1)
+    cells.forEach { cellStarts[it + 1]++ }
+    for (cell in 1 until cellStarts.size) {
+      cellStarts[cell] += cellStarts[cell - 1]
+    }
+    val next = cellStarts.copyOf()
+    cellItems = IntArray(count)
+    cells.forEachIndexed { item, cell -> cellItems[next[cell]++] = item }
+  }
+
+  /** Calls [action] for every item inside the box, which must not cross the antimeridian. */
+  fun query(west: Double, south: Double, east: Double, north: Double, action: (Int) -> Unit) {
+    for (row in row(south)..row(north)) {
+      for (column in column(west)..column(east)) {
+        val cell = row * columns + column
+        for (position in cellStarts[cell] until cellStarts[cell + 1]) {
+          val item = cellItems[position]
+          val longitude = coordinates[item * 2]
+          val latitude = coordinates[item * 2 + 1]
+          if (longitude in west..east && latitude in south..north) {
+            action(item)
+          }
+        }
+      }
+    }
+  }
+
+  private fun cellOf(longitude: Double, latitude: Double): Int = row(latitude) * columns + column(longitude)
+
+  private fun column(longitude: Double): Int = ((longitude + 180.0) / 360.0 * columns).toInt().coerceIn(0, columns - 1)
+
+  private fun row(latitude: Double): Int = ((latitude + 90.0) / 180.0 * rows).toInt().coerceIn(0, rows - 1)
+
+  companion object {
+    private const val ITEMS_PER_CELL = 16
+    private const val MAX_ROWS = 1024
+  }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import java.util.Locale
+
+// Values of layer properties set by their style specification key, as decoded from Flutter.
+
+internal fun Any.toPropertyDouble(): Double = (this as Number).toDouble()
+
+internal fun Any.toPropertyDoubles(): List<Double> = (this as List<*>).map { (it as Number).toDouble() }
+
+internal fun Any.toPropertyStrings(): List<String> = (this as List<*>).map { it as String }
+
+// Enum values are written like in the style specification, "viewport-y" is the constant VIEWPORT_Y.
+internal fun Any.toPropertyEnumName(): String = (this as String).uppercase(Locale.US).replace('-', '_')
\ No newline at end of file
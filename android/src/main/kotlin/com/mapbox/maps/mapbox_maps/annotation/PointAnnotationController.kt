@@ -1,8 +1,12 @@
 // This file is generated.
 package com.mapbox.maps.mapbox_maps.annotation
 
-import android.graphics.BitmapFactory
+import android.graphics.Bitmap
+import com.mapbox.geojson.Point
 import com.mapbox.maps.extension.style.layers.properties.generated.*
+import com.mapbox.maps.logE
+import com.mapbox.maps.mapbox_maps.runOnMainThread
+import com.mapbox.maps.mapbox_maps.runOnWorkerThread
 import com.mapbox.maps.mapbox_maps.toMap
 import com.mapbox.maps.mapbox_maps.toPoint
 import com.mapbox.maps.pigeons.FLTPointAnnotationMessager
@@ -36,11 +40,22 @@ import toTextRotationAlignment
 import toTextTransform
 import toTextTranslateAnchor
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 
 class PointAnnotationController(private val delegate: ControllerDelegate) :
   FLTPointAnnotationMessager._PointAnnotationMessager {
-  private val annotationMap = mutableMapOf<String, PointAnnotation>()
-  private val managerCreateAnnotationMap = mutableMapOf<String, MutableList<String>>()
+  private val registry = AnnotationRegistry<PointAnnotation>()
+  private val animator = GeometryAnimator<PointAnnotation>(
+    { it.point },
+    { annotation, point -> annotation.point = point },
+    { managerId, annotations -> (delegate.getManager(managerId) as PointAnnotationManager).update(annotations) }
+  )
+
+  // Icon images registered per manager, read while converting options on the background task queue.
+  private val iconImages = ConcurrentHashMap<String, ConcurrentHashMap<String, Bitmap>>()
+
+  // Virtualized datasets per manager, their annotations are not kept in the registry.
+  private val datasets = HashMap<String, VirtualPointDataset>()
 
   override fun create(
     managerId: String,
@@ -49,41 +64,67 @@ class PointAnnotationController(private val delegate: ControllerDelegate) :
   ) {
     try {
       val manager = delegate.getManager(managerId) as PointAnnotationManager
-      val annotation = manager.create(annotationOption.toPointAnnotationOptions())
-      annotationMap[annotation.id] = annotation
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = mutableListOf(annotation.id)
-      } else {
-        managerCreateAnnotationMap[managerId]!!.add(annotation.id)
-      }
+      val annotation = manager.create(annotationOption.toPointAnnotationOptions(iconImages[managerId]))
+      registry.add(managerId, annotation)
       result.success(annotation.toFLTPointAnnotation())
     } catch (e: Exception) {
       result.error(e)
     }
   }
 
+  // Runs on the background task queue, only the manager is called on the main thread.
   override fun createMulti(
     managerId: String,
     annotationOptions: MutableList<FLTPointAnnotationMessager.PointAnnotationOptions>,
     result: FLTPointAnnotationMessager.Result<MutableList<FLTPointAnnotationMessager.PointAnnotation>>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PointAnnotationManager
-      val annotations = manager.create(annotationOptions.map { it.toPointAnnotationOptions() })
-      annotations.forEach {
-        annotationMap[it.id] = it
-      }
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = annotations.map { it.id }.toMutableList()
-      } else {
-        managerCreateAnnotationMap[managerId]!!.addAll(
-          annotations.map { it.id }
-            .toList()
-        )
+    val options = try {
+      val managerIconImages = iconImages[managerId]
+      annotationOptions.map { it.toPointAnnotationOptions(managerIconImages) }
+    } catch (e: Exception) {
+      result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PointAnnotationManager
+        val annotations = manager.create(options)
+        registry.addAll(managerId, annotations)
+        val fltAnnotations = annotations.map { it.toFLTPointAnnotation() }.toMutableList()
+        runOnWorkerThread { result.success(fltAnnotations) }
+      } catch (e: Exception) {
+        result.error(e)
       }
-      result.success(annotations.map { it.toFLTPointAnnotation() }.toMutableList())
+    }
+  }
+
+  // Runs on the background task queue, only the manager is called on the main thread.
+  override fun createMultiPacked(
+    managerId: String,
+    annotationOptions: FLTPointAnnotationMessager.PointAnnotationOptionsBatch,
+    result: FLTPointAnnotationMessager.Result<FLTPointAnnotationMessager.PointAnnotationBatchResult>
+  ) {
+    val options = try {
+      annotationOptions.toPointAnnotationOptions(iconImages[managerId])
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PointAnnotationManager
+        val annotations = manager.create(options)
+        // Icons created from an image get their id from the manager, the other fields are known in Flutter.
+        val images = annotationOptions.image
+        val batchResult = FLTPointAnnotationMessager.PointAnnotationBatchResult.Builder()
+          .setIds(annotations.map { it.id })
+          .setIconImages(annotations.mapIndexed { index, annotation -> if (images != null && images[index] >= 0) annotation.iconImage else null })
+          .build()
+        registry.addAll(managerId, annotations)
+        runOnWorkerThread { result.success(batchResult) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
@@ -95,14 +136,13 @@ class PointAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as PointAnnotationManager
 
-      if (!annotationMap.containsKey(annotation.id)) {
+      if (!registry.contains(managerId, annotation.id)) {
         result?.error(Throwable("Annotation has not been added on the map: $annotation."))
         return
       }
-      val originalAnnotation = updateAnnotation(annotation)
+      val originalAnnotation = updateAnnotation(managerId, annotation)
 
       manager.update(originalAnnotation)
-      annotationMap[annotation.id] = originalAnnotation
       result.success(null)
     } catch (e: Exception) {
       result.error(e)
@@ -117,29 +157,233 @@ class PointAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as PointAnnotationManager
 
-      if (!annotationMap.containsKey(annotation.id)) {
+      if (!registry.contains(managerId, annotation.id)) {
         result.error(Throwable("Annotation has not been added on the map: $annotation."))
         return
       }
 
       manager.delete(
-        annotationMap[annotation.id]!!
+        registry[managerId, annotation.id]!!
       )
-      annotationMap.remove(annotation.id)
-      managerCreateAnnotationMap[managerId]?.remove(annotation.id)
+      registry.remove(managerId, annotation.id)
+      animator.cancel(managerId, annotation.id)
       result.success(null)
     } catch (e: Exception) {
       result.error(e)
     }
   }
 
-  override fun deleteAll(managerId: String, result: FLTPointAnnotationMessager.Result<Void>) {
+  // Runs on the background task queue, the whole batch is applied with one manager update.
+  override fun updateMulti(
+    managerId: String,
+    annotations: MutableList<FLTPointAnnotationMessager.PointAnnotation>,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PointAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val originalAnnotations = annotations.map { updateAnnotation(managerId, it) }
+        manager.update(originalAnnotations)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the whole batch is removed with one manager update.
+  override fun deleteMulti(
+    managerId: String,
+    annotations: MutableList<FLTPointAnnotationMessager.PointAnnotation>,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PointAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val ids = annotations.mapTo(HashSet()) { it.id }
+        manager.delete(ids.map { registry[managerId, it]!! })
+        ids.forEach {
+          registry.remove(managerId, it)
+          animator.cancel(managerId, it)
+        }
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the coordinates are unpacked here and all positions are
+  // applied with one manager update.
+  override fun updateGeometries(
+    managerId: String,
+    ids: MutableList<String>,
+    coordinates: DoubleArray,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    if (coordinates.size != ids.size * 2) {
+      result.error(Throwable("Expected ${ids.size * 2} coordinates for ${ids.size} annotations, got ${coordinates.size}."))
+      return
+    }
+    val points = List(ids.size) { Point.fromLngLat(coordinates[it * 2], coordinates[it * 2 + 1]) }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PointAnnotationManager
+        val missing = ids.filterNot { registry.contains(managerId, it) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: $missing."))
+          return@runOnMainThread
+        }
+        val annotations = ids.mapIndexed { index, id ->
+          animator.cancel(managerId, id)
+          registry[managerId, id]!!.apply { point = points[index] }
+        }
+        manager.update(annotations)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the annotations are then moved on every frame until they
+  // reach their targets.
+  override fun animateGeometries(
+    managerId: String,
+    ids: MutableList<String>,
+    coordinates: DoubleArray,
+    durationMillis: Long,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    if (coordinates.size != ids.size * 2) {
+      result.error(Throwable("Expected ${ids.size * 2} coordinates for ${ids.size} annotations, got ${coordinates.size}."))
+      return
+    }
+    val points = List(ids.size) { Point.fromLngLat(coordinates[it * 2], coordinates[it * 2 + 1]) }
+    runOnMainThread {
+      try {
+        delegate.getManager(managerId) as PointAnnotationManager
+        val missing = ids.filterNot { registry.contains(managerId, it) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: $missing."))
+          return@runOnMainThread
+        }
+        animator.animate(managerId, ids.map { registry[managerId, it]!! }, points, durationMillis)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, where the items are validated and indexed. Only the items
+  // around the viewport are created as annotations, on every sync.
+  override fun setVirtualDataset(
+    managerId: String,
+    coordinates: DoubleArray,
+    templateIndices: IntArray?,
+    templates: MutableList<FLTPointAnnotationMessager.PointAnnotationOptions>,
+    maxAnnotations: Long,
+    margin: Double,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    val dataset = try {
+      val cappedMaxAnnotations = maxAnnotations.coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+      VirtualPointDataset(coordinates, templateIndices, templates.toList(), cappedMaxAnnotations, margin)
+    } catch (e: IllegalArgumentException) {
+      result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PointAnnotationManager
+        datasets.remove(managerId)?.clear(manager)
+        dataset.sync(manager, delegate.visibleBounds(), iconImages[managerId])
+        // Registered once synced, so that a failing dataset never reaches the camera callbacks.
+        datasets[managerId] = dataset
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+      delegate.updateCameraSubscriptions()
+    }
+  }
+
+  override fun clearVirtualDataset(managerId: String, result: FLTPointAnnotationMessager.Result<Void>) {
     try {
       val manager = delegate.getManager(managerId) as PointAnnotationManager
-      managerCreateAnnotationMap[managerId]?.apply {
-        forEach { annotationMap.remove(it) }
-        clear()
+      datasets.remove(managerId)?.clear(manager)
+      delegate.updateCameraSubscriptions()
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  /** The dataset item shown by an annotation, if the annotation belongs to a virtualized dataset. */
+  fun virtualItemOf(managerId: String, annotationId: String): Int? = datasets[managerId]?.itemOf(annotationId)
+
+  /** Whether a manager has a virtualized dataset, so that the viewport needs to be followed. */
+  val followsViewport: Boolean
+    get() = datasets.isNotEmpty()
+
+  // Syncs only the datasets whose synced region no longer covers the viewport, so that panning
+  // within the margin costs nothing. Runs on every frame of a gesture or animation, so each sync
+  // creates a bounded number of annotations and the rest follow on the next frames or once idle.
+  fun onCameraChanged() {
+    if (datasets.isEmpty()) {
+      return
+    }
+    syncDatasets(MAX_CREATES_PER_FRAME, onlyOutdated = true)
+  }
+
+  // Recenters the synced region once the camera settles, creating every missing annotation.
+  fun onMapIdle() {
+    if (datasets.isEmpty()) {
+      return
+    }
+    syncDatasets(Int.MAX_VALUE, onlyOutdated = false)
+  }
+
+  // Called from the map callbacks, so a dataset that fails to sync is logged and dropped instead of
+  // throwing into the map on every frame. Its annotations stay as they were last synced.
+  private fun syncDatasets(maxCreates: Int, onlyOutdated: Boolean) {
+    val bounds = delegate.visibleBounds()
+    val failed = ArrayList<String>()
+    for ((managerId, dataset) in datasets) {
+      if (onlyOutdated && !dataset.needsSync(bounds)) {
+        continue
+      }
+      try {
+        dataset.sync(delegate.getManager(managerId) as PointAnnotationManager, bounds, iconImages[managerId], maxCreates)
+      } catch (e: Exception) {
+        logE(TAG, "Dropping the virtual dataset of manager $managerId, it failed to sync: ${e.message}")
+        failed.add(managerId)
       }
+    }
+    if (failed.isNotEmpty()) {
+      failed.forEach { datasets.remove(it) }
+      delegate.updateCameraSubscriptions()
+    }
+  }
+
+  override fun deleteAll(managerId: String, result: FLTPointAnnotationMessager.Result<Void>) {
+    try {
+      val manager = delegate.getManager(managerId) as PointAnnotationManager
+      registry.clear(managerId)
+      animator.clear(managerId)
+      datasets.remove(managerId)
+      delegate.updateCameraSubscriptions()
       manager.deleteAll()
       result.success(null)
     } catch (e: Exception) {
@@ -147,19 +391,155 @@ class PointAnnotationController(private val delegate: ControllerDelegate) :
     }
   }
 
-  private fun updateAnnotation(annotation: FLTPointAnnotationMessager.PointAnnotation): PointAnnotation {
-    val originalAnnotation = annotationMap[annotation.id]!!
+  // Every property is converted before any is applied, so an invalid value leaves the layer unchanged.
+  override fun setProperties(
+    managerId: String,
+    properties: MutableMap<String, Any>,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as PointAnnotationManager
+      val setters = properties.map { (key, value) -> manager.propertySetter(key, value) }
+      setters.forEach { it() }
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  override fun getProperties(
+    managerId: String,
+    result: FLTPointAnnotationMessager.Result<MutableMap<String, Any>>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as PointAnnotationManager
+      result.success(manager.layerProperties())
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  private fun PointAnnotationManager.propertySetter(key: String, value: Any?): () -> Unit = when (key) {
+    "icon-allow-overlap" -> (value as Boolean?).let { { iconAllowOverlap = it } }
+    "icon-ignore-placement" -> (value as Boolean?).let { { iconIgnorePlacement = it } }
+    "icon-keep-upright" -> (value as Boolean?).let { { iconKeepUpright = it } }
+    "icon-optional" -> (value as Boolean?).let { { iconOptional = it } }
+    "icon-padding" -> (value?.toPropertyDouble()).let { { iconPadding = it } }
+    "icon-pitch-alignment" -> (value?.let { IconPitchAlignment.valueOf(it.toPropertyEnumName()) }).let { { iconPitchAlignment = it } }
+    "icon-rotation-alignment" -> (value?.let { IconRotationAlignment.valueOf(it.toPropertyEnumName()) }).let { { iconRotationAlignment = it } }
+    "symbol-avoid-edges" -> (value as Boolean?).let { { symbolAvoidEdges = it } }
+    "symbol-placement" -> (value?.let { SymbolPlacement.valueOf(it.toPropertyEnumName()) }).let { { symbolPlacement = it } }
+    "symbol-spacing" -> (value?.toPropertyDouble()).let { { symbolSpacing = it } }
+    "symbol-z-elevate" -> (value as Boolean?).let { { symbolZElevate = it } }
+    "symbol-z-order" -> (value?.let { SymbolZOrder.valueOf(it.toPropertyEnumName()) }).let { { symbolZOrder = it } }
+    "text-allow-overlap" -> (value as Boolean?).let { { textAllowOverlap = it } }
+    "text-font" -> (value?.toPropertyStrings()).let { { textFont = it } }
+    "text-ignore-placement" -> (value as Boolean?).let { { textIgnorePlacement = it } }
+    "text-keep-upright" -> (value as Boolean?).let { { textKeepUpright = it } }
+    "text-max-angle" -> (value?.toPropertyDouble()).let { { textMaxAngle = it } }
+    "text-optional" -> (value as Boolean?).let { { textOptional = it } }
+    "text-padding" -> (value?.toPropertyDouble()).let { { textPadding = it } }
+    "text-pitch-alignment" -> (value?.let { TextPitchAlignment.valueOf(it.toPropertyEnumName()) }).let { { textPitchAlignment = it } }
+    "text-rotation-alignment" -> (value?.let { TextRotationAlignment.valueOf(it.toPropertyEnumName()) }).let { { textRotationAlignment = it } }
+    "icon-translate" -> (value?.toPropertyDoubles()).let { { iconTranslate = it } }
+    "icon-translate-anchor" -> (value?.let { IconTranslateAnchor.valueOf(it.toPropertyEnumName()) }).let { { iconTranslateAnchor = it } }
+    "text-translate" -> (value?.toPropertyDoubles()).let { { textTranslate = it } }
+    "text-translate-anchor" -> (value?.let { TextTranslateAnchor.valueOf(it.toPropertyEnumName()) }).let { { textTranslateAnchor = it } }
+    else -> throw IllegalArgumentException("Unsupported layer property: $key.")
+  }
+
+  private fun PointAnnotationManager.layerProperties(): MutableMap<String, Any> = listOfNotNull(
+    iconAllowOverlap?.let { "icon-allow-overlap" to it },
+    iconIgnorePlacement?.let { "icon-ignore-placement" to it },
+    iconKeepUpright?.let { "icon-keep-upright" to it },
+    iconOptional?.let { "icon-optional" to it },
+    iconPadding?.let { "icon-padding" to it },
+    iconPitchAlignment?.let { "icon-pitch-alignment" to it.value },
+    iconRotationAlignment?.let { "icon-rotation-alignment" to it.value },
+    symbolAvoidEdges?.let { "symbol-avoid-edges" to it },
+    symbolPlacement?.let { "symbol-placement" to it.value },
+    symbolSpacing?.let { "symbol-spacing" to it },
+    symbolZElevate?.let { "symbol-z-elevate" to it },
+    symbolZOrder?.let { "symbol-z-order" to it.value },
+    textAllowOverlap?.let { "text-allow-overlap" to it },
+    textFont?.let { "text-font" to it },
+    textIgnorePlacement?.let { "text-ignore-placement" to it },
+    textKeepUpright?.let { "text-keep-upright" to it },
+    textMaxAngle?.let { "text-max-angle" to it },
+    textOptional?.let { "text-optional" to it },
+    textPadding?.let { "text-padding" to it },
+    textPitchAlignment?.let { "text-pitch-alignment" to it.value },
+    textRotationAlignment?.let { "text-rotation-alignment" to it.value },
+    iconTranslate?.let { "icon-translate" to it },
+    iconTranslateAnchor?.let { "icon-translate-anchor" to it.value },
+    textTranslate?.let { "text-translate" to it },
+    textTranslateAnchor?.let { "text-translate-anchor" to it.value },
+  ).toMap().toMutableMap()
+
+  // Runs on the background task queue, so the image is decoded off the main thread.
+  override fun addIconImage(
+    managerId: String,
+    imageId: String,
+    image: ByteArray,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    val bitmap = AnnotationBitmapCache.decode(image)
+    if (bitmap == null) {
+      result.error(Throwable("Unable to decode the icon image: $imageId."))
+      return
+    }
+    runOnMainThread {
+      try {
+        delegate.getManager(managerId) as PointAnnotationManager
+        iconImages.getOrPut(managerId) { ConcurrentHashMap() }[imageId] = bitmap
+        result.success(null)
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  override fun removeIconImage(
+    managerId: String,
+    imageId: String,
+    result: FLTPointAnnotationMessager.Result<Void>
+  ) {
+    iconImages[managerId]?.remove(imageId)
+    result.success(null)
+  }
+
+  fun removeManager(managerId: String) {
+    registry.clear(managerId)
+    animator.clear(managerId)
+    iconImages.remove(managerId)
+    datasets.remove(managerId)
+  }
+
+  // Stops the motions in flight, called when the map is disposed.
+  fun dispose() {
+    animator.dispose()
+  }
+
+  private fun updateAnnotation(
+    managerId: String,
+    annotation: FLTPointAnnotationMessager.PointAnnotation
+  ): PointAnnotation {
+    animator.cancel(managerId, annotation.id)
+    val originalAnnotation = registry[managerId, annotation.id]!!
     annotation.geometry?.let {
       originalAnnotation.geometry = it.toPoint()
     }
     annotation.image?.let {
-      originalAnnotation.iconImageBitmap = (BitmapFactory.decodeByteArray(it, 0, it.size))
+      originalAnnotation.iconImageBitmap = AnnotationBitmapCache.decode(it)
     }
     annotation.iconAnchor?.let {
       originalAnnotation.iconAnchor = it.toIconAnchor()
     }
     annotation.iconImage?.let {
       originalAnnotation.iconImage = it
+      iconImages[managerId]?.get(it)?.let { bitmap ->
+        originalAnnotation.iconImageBitmap = bitmap
+      }
     }
     annotation.iconOffset?.let {
       originalAnnotation.iconOffset = it
@@ -803,6 +1183,13 @@ class PointAnnotationController(private val delegate: ControllerDelegate) :
       result.success(null)
     }
   }
+
+  companion object {
+    private const val TAG = "PointAnnotationController"
+
+    // Enough to fill a typical viewport within a few frames while keeping each frame short.
+    private const val MAX_CREATES_PER_FRAME = 200
+  }
 }
 
 fun PointAnnotation.toFLTPointAnnotation(): FLTPointAnnotationMessager.PointAnnotation {
@@ -916,19 +1303,24 @@ fun PointAnnotation.toFLTPointAnnotation(): FLTPointAnnotationMessager.PointAnno
   return builder.build()
 }
 
-fun FLTPointAnnotationMessager.PointAnnotationOptions.toPointAnnotationOptions(): PointAnnotationOptions {
+// [imageBitmap] lets callers converting the same options repeatedly decode their image only once.
+fun FLTPointAnnotationMessager.PointAnnotationOptions.toPointAnnotationOptions(
+  iconImages: Map<String, Bitmap>? = null,
+  imageBitmap: Bitmap? = image?.let { AnnotationBitmapCache.decode(it) }
+): PointAnnotationOptions {
   val options = PointAnnotationOptions()
   this.geometry?.let {
     options.withPoint(it.toPoint())
   }
-  this.image?.let {
-    options.withIconImage(BitmapFactory.decodeByteArray(it, 0, it.size))
+  imageBitmap?.let {
+    options.withIconImage(it)
   }
   this.iconAnchor?.let {
     options.withIconAnchor(it.toIconAnchor())
   }
   this.iconImage?.let {
     options.withIconImage(it)
+    iconImages?.get(it)?.let { bitmap -> options.withIconImage(bitmap) }
   }
   this.iconOffset?.let {
     options.withIconOffset(it)
@@ -0,0 +1,165 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import android.graphics.Bitmap
+import com.mapbox.geojson.Point
+import com.mapbox.maps.pigeons.FLTPointAnnotationMessager
+import com.mapbox.maps.plugin.annotation.generated.PointAnnotationOptions
+import toIconAnchor
+import toIconTextFit
+import toTextAnchor
+import toTextJustify
+import toTextTransform
+
+private val iconAnchors = FLTPointAnnotationMessager.IconAnchor.values().map { it.toIconAnchor() }
+private val iconTextFits = FLTPointAnnotationMessager.IconTextFit.values().map { it.toIconTextFit() }
+private val textAnchors = FLTPointAnnotationMessager.TextAnchor.values().map { it.toTextAnchor() }
+private val textJustifies = FLTPointAnnotationMessager.TextJustify.values().map { it.toTextJustify() }
+private val textTransforms = FLTPointAnnotationMessager.TextTransform.values().map { it.toTextTransform() }
+
+/**
+ * Builds the [PointAnnotationOptions] of every annotation in the batch, reading the properties
+ * straight from the packed columns.
+ *
+ * Images are looked up once per dictionary entry, so annotations sharing an image share the bitmap.
+ * Icon image names found in [iconImages] are resolved to the registered bitmap the same way.
+ */
+fun FLTPointAnnotationMessager.PointAnnotationOptionsBatch.toPointAnnotationOptions(
+  iconImages: Map<String, Bitmap>? = null
+): List<PointAnnotationOptions> {
+  val bitmaps = imageDictionary?.map { AnnotationBitmapCache.decode(it) }
+  val iconImageBitmaps = iconImages?.let { images -> iconImageDictionary?.map { images[it] } }
+  return List(count) { index ->
+    val options = PointAnnotationOptions()
+    val longitude = coordinates[index * 2]
+    val latitude = coordinates[index * 2 + 1]
+    if (!longitude.isNaN() && !latitude.isNaN()) {
+      options.withPoint(Point.fromLngLat(longitude, latitude))
+    }
+    image?.entryAt(index, bitmaps)?.let {
+      options.withIconImage(it)
+    }
+    iconAnchor?.enumAt(index, iconAnchors)?.let {
+      options.withIconAnchor(it)
+    }
+    iconImage?.entryAt(index, iconImageDictionary?.asList())?.let {
+      options.withIconImage(it)
+    }
+    iconImage?.entryAt(index, iconImageBitmaps)?.let {
+      options.withIconImage(it)
+    }
+    iconOffset?.listAt(index, 2)?.let {
+      options.withIconOffset(it)
+    }
+    iconRotate?.valueAt(index)?.let {
+      options.withIconRotate(it)
+    }
+    iconSize?.valueAt(index)?.let {
+      options.withIconSize(it)
+    }
+    iconTextFit?.enumAt(index, iconTextFits)?.let {
+      options.withIconTextFit(it)
+    }
+    iconTextFitPadding?.listAt(index, 4)?.let {
+      options.withIconTextFitPadding(it)
+    }
+    symbolSortKey?.valueAt(index)?.let {
+      options.withSymbolSortKey(it)
+    }
+    textAnchor?.enumAt(index, textAnchors)?.let {
+      options.withTextAnchor(it)
+    }
+    textField?.entryAt(index, textFieldDictionary?.asList())?.let {
+      options.withTextField(it)
+    }
+    textJustify?.enumAt(index, textJustifies)?.let {
+      options.withTextJustify(it)
+    }
+    textLetterSpacing?.valueAt(index)?.let {
+      options.withTextLetterSpacing(it)
+    }
+    textLineHeight?.valueAt(index)?.let {
+      options.withTextLineHeight(it)
+    }
+    textMaxWidth?.valueAt(index)?.let {
+      options.withTextMaxWidth(it)
+    }
+    textOffset?.listAt(index, 2)?.let {
+      options.withTextOffset(it)
+    }
+    textRadialOffset?.valueAt(index)?.let {
+      options.withTextRadialOffset(it)
+    }
+    textRotate?.valueAt(index)?.let {
+      options.withTextRotate(it)
+    }
+    textSize?.valueAt(index)?.let {
+      options.withTextSize(it)
+    }
+    textTransform?.enumAt(index, textTransforms)?.let {
+      options.withTextTransform(it)
+    }
+    iconColor?.colorAt(index)?.let {
+      options.withIconColor(it)
+    }
+    iconEmissiveStrength?.valueAt(index)?.let {
+      options.withIconEmissiveStrength(it)
+    }
+    iconHaloBlur?.valueAt(index)?.let {
+      options.withIconHaloBlur(it)
+    }
+    iconHaloColor?.colorAt(index)?.let {
+      options.withIconHaloColor(it)
+    }
+    iconHaloWidth?.valueAt(index)?.let {
+      options.withIconHaloWidth(it)
+    }
+    iconImageCrossFade?.valueAt(index)?.let {
+      options.withIconImageCrossFade(it)
+    }
+    iconOpacity?.valueAt(index)?.let {
+      options.withIconOpacity(it)
+    }
+    textColor?.colorAt(index)?.let {
+      options.withTextColor(it)
+    }
+    textEmissiveStrength?.valueAt(index)?.let {
+      options.withTextEmissiveStrength(it)
+    }
+    textHaloBlur?.valueAt(index)?.let {
+      options.withTextHaloBlur(it)
+    }
+    textHaloColor?.colorAt(index)?.let {
+      options.withTextHaloColor(it)
+    }
+    textHaloWidth?.valueAt(index)?.let {
+      options.withTextHaloWidth(it)
+    }
+    textOpacity?.valueAt(index)?.let {
+      options.withTextOpacity(it)
+    }
+    options
+  }
+}
+
+private fun DoubleArray.valueAt(index: Int): Double? = this[index].takeUnless { it.isNaN() }
+
+// Colors are ARGB values beyond the Int range, narrow them the same way as the boxed Long values.
+private fun DoubleArray.colorAt(index: Int): Int? = valueAt(index)?.toLong()?.toInt()
+
+private fun DoubleArray.listAt(index: Int, arity: Int): List<Double>? {
+  val offset = index * arity
+  if (this[offset].isNaN()) {
+    return null
+  }
+  return List(arity) { this[offset + it] }
+}
+
+private fun <T> ByteArray.enumAt(index: Int, values: List<T>): T? {
+  val value = this[index].toInt() and 0xFF
+  return if (value == (FLTPointAnnotationMessager.PointAnnotationOptionsBatch.NO_VALUE.toInt() and 0xFF)) null else values[value]
+}
+
+private fun <T> IntArray.entryAt(index: Int, dictionary: List<T>?): T? {
+  val entry = this[index]
+  return if (entry < 0 || dictionary == null) null else dictionary[entry]
+}
\ No newline at end of file
@@ -1,7 +1,11 @@
 // This file is generated.
 package com.mapbox.maps.mapbox_maps.annotation
 
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.Polygon
 import com.mapbox.maps.extension.style.layers.properties.generated.*
+import com.mapbox.maps.mapbox_maps.runOnMainThread
+import com.mapbox.maps.mapbox_maps.runOnWorkerThread
 import com.mapbox.maps.mapbox_maps.toMap
 import com.mapbox.maps.mapbox_maps.toPointsList
 import com.mapbox.maps.mapbox_maps.toPolygon
@@ -14,73 +18,101 @@ import toFillTranslateAnchor
 
 class PolygonAnnotationController(private val delegate: ControllerDelegate) :
   FLTPolygonAnnotationMessager._PolygonAnnotationMessager {
-  private val annotationMap = mutableMapOf<String, PolygonAnnotation>()
-  private val managerCreateAnnotationMap = mutableMapOf<String, MutableList<String>>()
+  private val registry = AnnotationRegistry<PolygonAnnotation>()
+  private val simplification = ZoomSimplification<PolygonAnnotation, List<List<Point>>>(
+    { geometry, tolerance -> geometry.simplifiedRings(tolerance) },
+    { annotation, points -> annotation.points = points },
+    { managerId, annotations -> (delegate.getManager(managerId) as PolygonAnnotationManager).update(annotations) }
+  )
 
+  // Runs on the background task queue, where the geometry is simplified.
   override fun create(
     managerId: String,
     annotationOption: FLTPolygonAnnotationMessager.PolygonAnnotationOptions,
     result: FLTPolygonAnnotationMessager.Result<FLTPolygonAnnotationMessager.PolygonAnnotation>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PolygonAnnotationManager
-      val annotation = manager.create(annotationOption.toPolygonAnnotationOptions())
-      annotationMap[annotation.id] = annotation
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = mutableListOf(annotation.id)
-      } else {
-        managerCreateAnnotationMap[managerId]!!.add(annotation.id)
-      }
-      result.success(annotation.toFLTPolygonAnnotation())
+    val (options, pyramid) = try {
+      annotationOption.toPolygonAnnotationOptions().let { it to it.pyramid(managerId) }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+        pyramid?.let { options.withPoints(simplification.drawn(it)) }
+        val annotation = manager.create(options)
+        registry.add(managerId, annotation)
+        pyramid?.let { simplification.add(managerId, annotation, it) }
+        val fltAnnotation = annotation.toFLTPolygonAnnotation().withFullGeometry(pyramid?.full)
+        runOnWorkerThread { result.success(fltAnnotation) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
+  // Runs on the background task queue, only the manager is called on the main thread.
   override fun createMulti(
     managerId: String,
     annotationOptions: MutableList<FLTPolygonAnnotationMessager.PolygonAnnotationOptions>,
     result: FLTPolygonAnnotationMessager.Result<MutableList<FLTPolygonAnnotationMessager.PolygonAnnotation>>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PolygonAnnotationManager
-      val annotations = manager.create(annotationOptions.map { it.toPolygonAnnotationOptions() })
-      annotations.forEach {
-        annotationMap[it.id] = it
-      }
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = annotations.map { it.id }.toMutableList()
-      } else {
-        managerCreateAnnotationMap[managerId]!!.addAll(
-          annotations.map { it.id }
-            .toList()
-        )
-      }
-      result.success(annotations.map { it.toFLTPolygonAnnotation() }.toMutableList())
+    val options = try {
+      annotationOptions.map { it.toPolygonAnnotationOptions() }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    val pyramids = options.map { it.pyramid(managerId) }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+        options.forEachIndexed { index, option ->
+          pyramids[index]?.let { option.withPoints(simplification.drawn(it)) }
+        }
+        val annotations = manager.create(options)
+        registry.addAll(managerId, annotations)
+        annotations.forEachIndexed { index, annotation ->
+          pyramids[index]?.let { simplification.add(managerId, annotation, it) }
+        }
+        val fltAnnotations = annotations.mapIndexed { index, annotation ->
+          annotation.toFLTPolygonAnnotation().withFullGeometry(pyramids[index]?.full)
+        }.toMutableList()
+        runOnWorkerThread { result.success(fltAnnotations) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
+  // Runs on the background task queue, where the geometry is simplified.
   override fun update(
     managerId: String,
     annotation: FLTPolygonAnnotationMessager.PolygonAnnotation,
     result: FLTPolygonAnnotationMessager.Result<Void>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PolygonAnnotationManager
-
-      if (!annotationMap.containsKey(annotation.id)) {
-        result?.error(Throwable("Annotation has not been added on the map: $annotation."))
-        return
-      }
-      val originalAnnotation = updateAnnotation(annotation)
-
-      manager.update(originalAnnotation)
-      annotationMap[annotation.id] = originalAnnotation
-      result.success(null)
+    val pyramid = try {
+      annotation.geometry?.let { simplification.pyramid(managerId, it.toPolygon().coordinates()) }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+
+        if (!registry.contains(managerId, annotation.id)) {
+          result.error(Throwable("Annotation has not been added on the map: $annotation."))
+          return@runOnMainThread
+        }
+        val originalAnnotation = updateAnnotation(managerId, annotation, pyramid)
+
+        manager.update(originalAnnotation)
+        result.success(null)
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
@@ -92,29 +124,119 @@ class PolygonAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as PolygonAnnotationManager
 
-      if (!annotationMap.containsKey(annotation.id)) {
+      if (!registry.contains(managerId, annotation.id)) {
         result.error(Throwable("Annotation has not been added on the map: $annotation."))
         return
       }
 
       manager.delete(
-        annotationMap[annotation.id]!!
+        registry[managerId, annotation.id]!!
       )
-      annotationMap.remove(annotation.id)
-      managerCreateAnnotationMap[managerId]?.remove(annotation.id)
+      registry.remove(managerId, annotation.id)
+      simplification.remove(managerId, annotation.id)
       result.success(null)
     } catch (e: Exception) {
       result.error(e)
     }
   }
 
+  // Runs on the background task queue, the whole batch is applied with one manager update.
+  override fun updateMulti(
+    managerId: String,
+    annotations: MutableList<FLTPolygonAnnotationMessager.PolygonAnnotation>,
+    result: FLTPolygonAnnotationMessager.Result<Void>
+  ) {
+    val pyramids = try {
+      annotations.map { annotation ->
+        annotation.geometry?.let { simplification.pyramid(managerId, it.toPolygon().coordinates()) }
+      }
+    } catch (e: Exception) {
+      result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val originalAnnotations = annotations.mapIndexed { index, annotation ->
+          updateAnnotation(managerId, annotation, pyramids[index])
+        }
+        manager.update(originalAnnotations)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the whole batch is removed with one manager update.
+  override fun deleteMulti(
+    managerId: String,
+    annotations: MutableList<FLTPolygonAnnotationMessager.PolygonAnnotation>,
+    result: FLTPolygonAnnotationMessager.Result<Void>
+  ) {
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val ids = annotations.mapTo(HashSet()) { it.id }
+        manager.delete(ids.map { registry[managerId, it]!! })
+        ids.forEach {
+          registry.remove(managerId, it)
+          simplification.remove(managerId, it)
+        }
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  override fun setSimplification(
+    managerId: String,
+    minZooms: MutableList<Double>,
+    tolerances: MutableList<Double>,
+    result: FLTPolygonAnnotationMessager.Result<Void>
+  ) {
+    try {
+      delegate.getManager(managerId) as PolygonAnnotationManager
+      simplification.setBands(managerId, minZooms, tolerances)
+      delegate.updateCameraSubscriptions()
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  // Builds the pyramid of the options geometry, the version to draw is picked on the main thread.
+  private fun PolygonAnnotationOptions.pyramid(managerId: String): ZoomSimplification.Pyramid<List<List<Point>>>? =
+    geometry?.let { simplification.pyramid(managerId, it.coordinates()) }
+
+  // Flutter receives the geometry it sent, not the simplified version.
+  private fun FLTPolygonAnnotationMessager.PolygonAnnotation.withFullGeometry(
+    points: List<List<Point>>?
+  ): FLTPolygonAnnotationMessager.PolygonAnnotation {
+    points?.let { geometry = Polygon.fromLngLats(it).toMap() }
+    return this
+  }
+
+  /** Converts an annotation for Flutter, with its full geometry when it is drawn simplified. */
+  fun toFLTPolygonAnnotation(managerId: String, annotation: PolygonAnnotation): FLTPolygonAnnotationMessager.PolygonAnnotation =
+    annotation.toFLTPolygonAnnotation().withFullGeometry(simplification.full(managerId, annotation.id))
+
   override fun deleteAll(managerId: String, result: FLTPolygonAnnotationMessager.Result<Void>) {
     try {
       val manager = delegate.getManager(managerId) as PolygonAnnotationManager
-      managerCreateAnnotationMap[managerId]?.apply {
-        forEach { annotationMap.remove(it) }
-        clear()
-      }
+      registry.clear(managerId)
+      simplification.removeAll(managerId)
       manager.deleteAll()
       result.success(null)
     } catch (e: Exception) {
@@ -122,10 +244,75 @@ class PolygonAnnotationController(private val delegate: ControllerDelegate) :
     }
   }
 
-  private fun updateAnnotation(annotation: FLTPolygonAnnotationMessager.PolygonAnnotation): PolygonAnnotation {
-    val originalAnnotation = annotationMap[annotation.id]!!
-    annotation.geometry?.let {
-      originalAnnotation.geometry = it.toPolygon()
+  // Every property is converted before any is applied, so an invalid value leaves the layer unchanged.
+  override fun setProperties(
+    managerId: String,
+    properties: MutableMap<String, Any>,
+    result: FLTPolygonAnnotationMessager.Result<Void>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+      val setters = properties.map { (key, value) -> manager.propertySetter(key, value) }
+      setters.forEach { it() }
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  override fun getProperties(
+    managerId: String,
+    result: FLTPolygonAnnotationMessager.Result<MutableMap<String, Any>>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as PolygonAnnotationManager
+      result.success(manager.layerProperties())
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  private fun PolygonAnnotationManager.propertySetter(key: String, value: Any?): () -> Unit = when (key) {
+    "fill-antialias" -> (value as Boolean?).let { { fillAntialias = it } }
+    "fill-emissive-strength" -> (value?.toPropertyDouble()).let { { fillEmissiveStrength = it } }
+    "fill-translate" -> (value?.toPropertyDoubles()).let { { fillTranslate = it } }
+    "fill-translate-anchor" -> (value?.let { FillTranslateAnchor.valueOf(it.toPropertyEnumName()) }).let { { fillTranslateAnchor = it } }
+    else -> throw IllegalArgumentException("Unsupported layer property: $key.")
+  }
+
+  private fun PolygonAnnotationManager.layerProperties(): MutableMap<String, Any> = listOfNotNull(
+    fillAntialias?.let { "fill-antialias" to it },
+    fillEmissiveStrength?.let { "fill-emissive-strength" to it },
+    fillTranslate?.let { "fill-translate" to it },
+    fillTranslateAnchor?.let { "fill-translate-anchor" to it.value },
+  ).toMap().toMutableMap()
+
+  /** Whether a manager has zoom bands, so that the zoom needs to be followed. */
+  val followsZoom: Boolean
+    get() = simplification.hasBands
+
+  fun onZoomChanged(zoom: Double) {
+    simplification.onZoomChanged(zoom)
+  }
+
+  fun removeManager(managerId: String) {
+    registry.clear(managerId)
+    simplification.clear(managerId)
+  }
+
+  private fun updateAnnotation(
+    managerId: String,
+    annotation: FLTPolygonAnnotationMessager.PolygonAnnotation,
+    pyramid: ZoomSimplification.Pyramid<List<List<Point>>>?
+  ): PolygonAnnotation {
+    val originalAnnotation = registry[managerId, annotation.id]!!
+    if (pyramid != null) {
+      originalAnnotation.points = simplification.drawn(pyramid)
+      simplification.add(managerId, originalAnnotation, pyramid)
+    } else {
+      annotation.geometry?.let {
+        originalAnnotation.geometry = it.toPolygon()
+      }
     }
     annotation.fillSortKey?.let {
       originalAnnotation.fillSortKey = it
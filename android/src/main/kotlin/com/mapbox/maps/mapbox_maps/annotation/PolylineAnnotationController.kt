@@ -1,7 +1,11 @@
 // This file is generated.
 package com.mapbox.maps.mapbox_maps.annotation
 
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
 import com.mapbox.maps.extension.style.layers.properties.generated.*
+import com.mapbox.maps.mapbox_maps.runOnMainThread
+import com.mapbox.maps.mapbox_maps.runOnWorkerThread
 import com.mapbox.maps.mapbox_maps.toLineString
 import com.mapbox.maps.mapbox_maps.toMap
 import com.mapbox.maps.mapbox_maps.toPoints
@@ -15,76 +19,110 @@ import toFLTLineTranslateAnchor
 import toLineCap
 import toLineJoin
 import toLineTranslateAnchor
+import java.util.concurrent.ConcurrentHashMap
 
 class PolylineAnnotationController(private val delegate: ControllerDelegate) :
   FLTPolylineAnnotationMessager._PolylineAnnotationMessager {
-  private val annotationMap = mutableMapOf<String, PolylineAnnotation>()
-  private val managerCreateAnnotationMap = mutableMapOf<String, MutableList<String>>()
+  private val registry = AnnotationRegistry<PolylineAnnotation>()
+  private val simplification = ZoomSimplification<PolylineAnnotation, List<Point>>(
+    { geometry, tolerance -> geometry.simplified(tolerance) },
+    { annotation, points -> annotation.points = points },
+    { managerId, annotations -> (delegate.getManager(managerId) as PolylineAnnotationManager).update(annotations) }
+  )
 
+  // The full geometry of every line, written on the background task queue where vertices are appended,
+  // so that appending never waits for the main thread to read the current line.
+  private val fullGeometries = ConcurrentHashMap<String, ConcurrentHashMap<String, Line>>()
+
+  // A full line with the pyramid built from it, when its manager has zoom bands.
+  private class Line(val points: List<Point>, val pyramid: ZoomSimplification.Pyramid<List<Point>>?)
+
+  // Runs on the background task queue, where the geometry is simplified.
   override fun create(
     managerId: String,
     annotationOption: FLTPolylineAnnotationMessager.PolylineAnnotationOptions,
     result: FLTPolylineAnnotationMessager.Result<FLTPolylineAnnotationMessager.PolylineAnnotation>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PolylineAnnotationManager
-      val annotation = manager.create(annotationOption.toPolylineAnnotationOptions())
-      annotationMap[annotation.id] = annotation
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = mutableListOf(annotation.id)
-      } else {
-        managerCreateAnnotationMap[managerId]!!.add(annotation.id)
-      }
-      result.success(annotation.toFLTPolylineAnnotation())
+    val (options, pyramid) = try {
+      annotationOption.toPolylineAnnotationOptions().let { it to it.pyramid(managerId) }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+        pyramid?.let { options.withPoints(simplification.drawn(it)) }
+        val annotation = manager.create(options)
+        registry.add(managerId, annotation)
+        track(managerId, annotation, pyramid)
+        val fltAnnotation = annotation.toFLTPolylineAnnotation().withFullGeometry(pyramid?.full)
+        runOnWorkerThread { result.success(fltAnnotation) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
+  // Runs on the background task queue, only the manager is called on the main thread.
   override fun createMulti(
     managerId: String,
     annotationOptions: MutableList<FLTPolylineAnnotationMessager.PolylineAnnotationOptions>,
     result: FLTPolylineAnnotationMessager.Result<MutableList<FLTPolylineAnnotationMessager.PolylineAnnotation>>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PolylineAnnotationManager
-      val annotations = manager.create(annotationOptions.map { it.toPolylineAnnotationOptions() })
-      annotations.forEach {
-        annotationMap[it.id] = it
-      }
-      if (managerCreateAnnotationMap[managerId].isNullOrEmpty()) {
-        managerCreateAnnotationMap[managerId] = annotations.map { it.id }.toMutableList()
-      } else {
-        managerCreateAnnotationMap[managerId]!!.addAll(
-          annotations.map { it.id }
-            .toList()
-        )
-      }
-      result.success(annotations.map { it.toFLTPolylineAnnotation() }.toMutableList())
+    val options = try {
+      annotationOptions.map { it.toPolylineAnnotationOptions() }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    val pyramids = options.map { it.pyramid(managerId) }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+        options.forEachIndexed { index, option ->
+          pyramids[index]?.let { option.withPoints(simplification.drawn(it)) }
+        }
+        val annotations = manager.create(options)
+        registry.addAll(managerId, annotations)
+        annotations.forEachIndexed { index, annotation -> track(managerId, annotation, pyramids[index]) }
+        val fltAnnotations = annotations.mapIndexed { index, annotation ->
+          annotation.toFLTPolylineAnnotation().withFullGeometry(pyramids[index]?.full)
+        }.toMutableList()
+        runOnWorkerThread { result.success(fltAnnotations) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
+  // Runs on the background task queue, where the geometry is simplified.
   override fun update(
     managerId: String,
     annotation: FLTPolylineAnnotationMessager.PolylineAnnotation,
     result: FLTPolylineAnnotationMessager.Result<Void>
   ) {
-    try {
-      val manager = delegate.getManager(managerId) as PolylineAnnotationManager
-
-      if (!annotationMap.containsKey(annotation.id)) {
-        result?.error(Throwable("Annotation has not been added on the map: $annotation."))
-        return
-      }
-      val originalAnnotation = updateAnnotation(annotation)
-
-      manager.update(originalAnnotation)
-      annotationMap[annotation.id] = originalAnnotation
-      result.success(null)
+    val pyramid = try {
+      annotation.geometry?.let { annotation.setFullGeometry(managerId, it.toLineString().coordinates()) }
     } catch (e: Exception) {
       result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+
+        if (!registry.contains(managerId, annotation.id)) {
+          result.error(Throwable("Annotation has not been added on the map: $annotation."))
+          return@runOnMainThread
+        }
+        val originalAnnotation = updateAnnotation(managerId, annotation, pyramid)
+
+        manager.update(originalAnnotation)
+        result.success(null)
+      } catch (e: Exception) {
+        result.error(e)
+      }
     }
   }
 
@@ -96,29 +134,225 @@ class PolylineAnnotationController(private val delegate: ControllerDelegate) :
     try {
       val manager = delegate.getManager(managerId) as PolylineAnnotationManager
 
-      if (!annotationMap.containsKey(annotation.id)) {
+      if (!registry.contains(managerId, annotation.id)) {
         result.error(Throwable("Annotation has not been added on the map: $annotation."))
         return
       }
 
       manager.delete(
-        annotationMap[annotation.id]!!
+        registry[managerId, annotation.id]!!
       )
-      annotationMap.remove(annotation.id)
-      managerCreateAnnotationMap[managerId]?.remove(annotation.id)
+      registry.remove(managerId, annotation.id)
+      simplification.remove(managerId, annotation.id)
+      fullGeometries[managerId]?.remove(annotation.id)
       result.success(null)
     } catch (e: Exception) {
       result.error(e)
     }
   }
 
+  // Runs on the background task queue, the whole batch is applied with one manager update.
+  override fun updateMulti(
+    managerId: String,
+    annotations: MutableList<FLTPolylineAnnotationMessager.PolylineAnnotation>,
+    result: FLTPolylineAnnotationMessager.Result<Void>
+  ) {
+    val pyramids = try {
+      annotations.map { annotation ->
+        annotation.geometry?.let { annotation.setFullGeometry(managerId, it.toLineString().coordinates()) }
+      }
+    } catch (e: Exception) {
+      result.error(e)
+      return
+    }
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val originalAnnotations = annotations.mapIndexed { index, annotation ->
+          updateAnnotation(managerId, annotation, pyramids[index])
+        }
+        manager.update(originalAnnotations)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, the whole batch is removed with one manager update.
+  override fun deleteMulti(
+    managerId: String,
+    annotations: MutableList<FLTPolylineAnnotationMessager.PolylineAnnotation>,
+    result: FLTPolylineAnnotationMessager.Result<Void>
+  ) {
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+        val missing = annotations.filterNot { registry.contains(managerId, it.id) }
+        if (missing.isNotEmpty()) {
+          result.error(Throwable("Annotations have not been added on the map: ${missing.map { it.id }}."))
+          return@runOnMainThread
+        }
+        val ids = annotations.mapTo(HashSet()) { it.id }
+        manager.delete(ids.map { registry[managerId, it]!! })
+        ids.forEach {
+          registry.remove(managerId, it)
+          simplification.remove(managerId, it)
+          fullGeometries[managerId]?.remove(it)
+        }
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Runs on the background task queue, only the new vertices are sent and the line is extended here.
+  override fun appendVertices(
+    managerId: String,
+    annotationId: String,
+    coordinates: DoubleArray,
+    maxVertexCount: Long?,
+    downsample: Boolean,
+    result: FLTPolylineAnnotationMessager.Result<Void>
+  ) {
+    if (coordinates.size % 2 != 0) {
+      result.error(Throwable("Expected longitude and latitude pairs, got ${coordinates.size} coordinates."))
+      return
+    }
+    if (maxVertexCount != null && maxVertexCount < 2) {
+      result.error(Throwable("A line needs at least 2 vertices, got a maximum of $maxVertexCount."))
+      return
+    }
+    val lines = fullGeometries[managerId]
+    val line = lines?.get(annotationId)
+    if (line == null) {
+      result.error(Throwable("Annotation has not been added on the map: $annotationId."))
+      return
+    }
+    // The whole line is copied, as the manager is handed the whole line on every update anyway.
+    var points: List<Point> = ArrayList<Point>(line.points.size + coordinates.size / 2).apply {
+      addAll(line.points)
+      for (index in coordinates.indices step 2) {
+        add(Point.fromLngLat(coordinates[index], coordinates[index + 1]))
+      }
+    }
+    var trimmed = false
+    if (maxVertexCount != null) {
+      val max = maxVertexCount.coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+      if (points.size > max) {
+        points = if (downsample) points.downsampled(max) else points.takeLast(max)
+        trimmed = true
+      }
+    }
+    // Unless the start of the line changed, only the end of each simplified version is simplified again.
+    val pyramid = if (trimmed) {
+      simplification.pyramid(managerId, points)
+    } else {
+      simplification.extended(managerId, line.pyramid, points) { previous, geometry, tolerance ->
+        geometry.simplifiedExtending(previous, tolerance)
+      }
+    }
+    lines[annotationId] = Line(points, pyramid)
+    runOnMainThread {
+      try {
+        val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+        val annotation = registry[managerId, annotationId]
+        if (annotation == null) {
+          fullGeometries[managerId]?.remove(annotationId)
+          result.error(Throwable("Annotation has not been added on the map: $annotationId."))
+          return@runOnMainThread
+        }
+        if (pyramid != null) {
+          annotation.points = simplification.drawn(pyramid)
+          simplification.add(managerId, annotation, pyramid)
+        } else {
+          annotation.points = points
+        }
+        manager.update(annotation)
+        runOnWorkerThread { result.success(null) }
+      } catch (e: Exception) {
+        result.error(e)
+      }
+    }
+  }
+
+  // Halves the resolution of the older half of the line until it fits, keeping its first and
+  // latest vertices, so that the line keeps its whole extent and the recent part stays detailed.
+  private fun List<Point>.downsampled(maxVertexCount: Int): List<Point> {
+    var points = this
+    while (points.size > maxVertexCount) {
+      val older = points.size / 2
+      val thinned = points.subList(0, older).filterIndexed { index, _ -> index % 2 == 0 }
+      points = thinned + points.subList(older, points.size)
+      if (thinned.size == older) {
+        // Not enough vertices left to thin, fall back to dropping the oldest ones.
+        return points.takeLast(maxVertexCount)
+      }
+    }
+    return points
+  }
+
+  override fun setSimplification(
+    managerId: String,
+    minZooms: MutableList<Double>,
+    tolerances: MutableList<Double>,
+    result: FLTPolylineAnnotationMessager.Result<Void>
+  ) {
+    try {
+      delegate.getManager(managerId) as PolylineAnnotationManager
+      simplification.setBands(managerId, minZooms, tolerances)
+      delegate.updateCameraSubscriptions()
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  // Builds the pyramid of the options geometry, the version to draw is picked on the main thread.
+  private fun PolylineAnnotationOptions.pyramid(managerId: String): ZoomSimplification.Pyramid<List<Point>>? =
+    geometry?.let { simplification.pyramid(managerId, it.coordinates()) }
+
+  // Records the new geometry of an added line and builds its pyramid, on the background task queue.
+  private fun FLTPolylineAnnotationMessager.PolylineAnnotation.setFullGeometry(
+    managerId: String,
+    points: List<Point>
+  ): ZoomSimplification.Pyramid<List<Point>>? {
+    val pyramid = simplification.pyramid(managerId, points)
+    fullGeometries[managerId]?.replace(id, Line(points, pyramid))
+    return pyramid
+  }
+
+  // Registers the full geometry of a created line, on the main thread.
+  private fun track(managerId: String, annotation: PolylineAnnotation, pyramid: ZoomSimplification.Pyramid<List<Point>>?) {
+    fullGeometries.getOrPut(managerId) { ConcurrentHashMap() }[annotation.id] =
+      Line(pyramid?.full ?: annotation.points, pyramid)
+    pyramid?.let { simplification.add(managerId, annotation, it) }
+  }
+
+  // Flutter receives the geometry it sent, not the simplified version.
+  private fun FLTPolylineAnnotationMessager.PolylineAnnotation.withFullGeometry(
+    points: List<Point>?
+  ): FLTPolylineAnnotationMessager.PolylineAnnotation {
+    points?.let { geometry = LineString.fromLngLats(it).toMap() }
+    return this
+  }
+
+  /** Converts an annotation for Flutter, with its full geometry when it is drawn simplified. */
+  fun toFLTPolylineAnnotation(managerId: String, annotation: PolylineAnnotation): FLTPolylineAnnotationMessager.PolylineAnnotation =
+    annotation.toFLTPolylineAnnotation().withFullGeometry(simplification.full(managerId, annotation.id))
+
   override fun deleteAll(managerId: String, result: FLTPolylineAnnotationMessager.Result<Void>) {
     try {
       val manager = delegate.getManager(managerId) as PolylineAnnotationManager
-      managerCreateAnnotationMap[managerId]?.apply {
-        forEach { annotationMap.remove(it) }
-        clear()
-      }
+      registry.clear(managerId)
+      simplification.removeAll(managerId)
+      fullGeometries.remove(managerId)
       manager.deleteAll()
       result.success(null)
     } catch (e: Exception) {
@@ -126,10 +360,86 @@ class PolylineAnnotationController(private val delegate: ControllerDelegate) :
     }
   }
 
-  private fun updateAnnotation(annotation: FLTPolylineAnnotationMessager.PolylineAnnotation): PolylineAnnotation {
-    val originalAnnotation = annotationMap[annotation.id]!!
-    annotation.geometry?.let {
-      originalAnnotation.geometry = it.toLineString()
+  // Every property is converted before any is applied, so an invalid value leaves the layer unchanged.
+  override fun setProperties(
+    managerId: String,
+    properties: MutableMap<String, Any>,
+    result: FLTPolylineAnnotationMessager.Result<Void>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+      val setters = properties.map { (key, value) -> manager.propertySetter(key, value) }
+      setters.forEach { it() }
+      result.success(null)
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  override fun getProperties(
+    managerId: String,
+    result: FLTPolylineAnnotationMessager.Result<MutableMap<String, Any>>
+  ) {
+    try {
+      val manager = delegate.getManager(managerId) as PolylineAnnotationManager
+      result.success(manager.layerProperties())
+    } catch (e: Exception) {
+      result.error(e)
+    }
+  }
+
+  private fun PolylineAnnotationManager.propertySetter(key: String, value: Any?): () -> Unit = when (key) {
+    "line-cap" -> (value?.let { LineCap.valueOf(it.toPropertyEnumName()) }).let { { lineCap = it } }
+    "line-miter-limit" -> (value?.toPropertyDouble()).let { { lineMiterLimit = it } }
+    "line-round-limit" -> (value?.toPropertyDouble()).let { { lineRoundLimit = it } }
+    "line-dasharray" -> (value?.toPropertyDoubles()).let { { lineDasharray = it } }
+    "line-depth-occlusion-factor" -> (value?.toPropertyDouble()).let { { lineDepthOcclusionFactor = it } }
+    "line-emissive-strength" -> (value?.toPropertyDouble()).let { { lineEmissiveStrength = it } }
+    "line-translate" -> (value?.toPropertyDoubles()).let { { lineTranslate = it } }
+    "line-translate-anchor" -> (value?.let { LineTranslateAnchor.valueOf(it.toPropertyEnumName()) }).let { { lineTranslateAnchor = it } }
+    "line-trim-offset" -> (value?.toPropertyDoubles()).let { { lineTrimOffset = it } }
+    else -> throw IllegalArgumentException("Unsupported layer property: $key.")
+  }
+
+  private fun PolylineAnnotationManager.layerProperties(): MutableMap<String, Any> = listOfNotNull(
+    lineCap?.let { "line-cap" to it.value },
+    lineMiterLimit?.let { "line-miter-limit" to it },
+    lineRoundLimit?.let { "line-round-limit" to it },
+    lineDasharray?.let { "line-dasharray" to it },
+    lineDepthOcclusionFactor?.let { "line-depth-occlusion-factor" to it },
+    lineEmissiveStrength?.let { "line-emissive-strength" to it },
+    lineTranslate?.let { "line-translate" to it },
+    lineTranslateAnchor?.let { "line-translate-anchor" to it.value },
+    lineTrimOffset?.let { "line-trim-offset" to it },
+  ).toMap().toMutableMap()
+
+  /** Whether a manager has zoom bands, so that the zoom needs to be followed. */
+  val followsZoom: Boolean
+    get() = simplification.hasBands
+
+  fun onZoomChanged(zoom: Double) {
+    simplification.onZoomChanged(zoom)
+  }
+
+  fun removeManager(managerId: String) {
+    registry.clear(managerId)
+    simplification.clear(managerId)
+    fullGeometries.remove(managerId)
+  }
+
+  private fun updateAnnotation(
+    managerId: String,
+    annotation: FLTPolylineAnnotationMessager.PolylineAnnotation,
+    pyramid: ZoomSimplification.Pyramid<List<Point>>?
+  ): PolylineAnnotation {
+    val originalAnnotation = registry[managerId, annotation.id]!!
+    if (pyramid != null) {
+      originalAnnotation.points = simplification.drawn(pyramid)
+      simplification.add(managerId, originalAnnotation, pyramid)
+    } else {
+      annotation.geometry?.let {
+        originalAnnotation.geometry = it.toLineString()
+      }
     }
     annotation.lineJoin?.let {
       originalAnnotation.lineJoin = it.toLineJoin()
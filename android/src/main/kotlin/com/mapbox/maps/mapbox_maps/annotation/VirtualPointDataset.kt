@@ -0,0 +1,150 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import android.graphics.Bitmap
+import com.mapbox.geojson.Point
+import com.mapbox.maps.CoordinateBounds
+import com.mapbox.maps.pigeons.FLTPointAnnotationMessager
+import com.mapbox.maps.plugin.annotation.generated.PointAnnotation
+import com.mapbox.maps.plugin.annotation.generated.PointAnnotationManager
+
+/**
+ * A large set of points of which only the ones around the viewport exist as annotations.
+ *
+ * The items are kept as packed coordinates and template indices, indexed by a [GridIndex] built
+ * with the dataset. [sync] creates the annotations of the items that entered the viewport plus a
+ * margin and deletes the ones that left it, each with one manager call, so that memory and render
+ * cost follow what is visible instead of the size of the dataset.
+ */
+class VirtualPointDataset(
+  private val coordinates: DoubleArray,
+  private val templateIndices: IntArray?,
+  private val templates: List<FLTPointAnnotationMessager.PointAnnotationOptions>,
+  private val maxAnnotations: Int,
+  private val margin: Double
+) {
+  private val index = GridIndex(coordinates)
+  private val annotations = HashMap<Int, PointAnnotation>()
+  private val items = HashMap<String, Int>()
+
+  // The region synced last, including the margin.
+  private var syncedWest = 0.0
+  private var syncedSouth = 0.0
+  private var syncedEast = -1.0
+  private var syncedNorth = -1.0
+
+  // Whether the last sync was capped before creating every item of its region.
+  private var pending = false
+
+  init {
+    require(coordinates.size % 2 == 0) { "Expected longitude and latitude pairs, got ${coordinates.size} coordinates." }
+    require(templates.isNotEmpty()) { "Expected at least one template." }
+    require(maxAnnotations > 0) { "maxAnnotations must be positive, got $maxAnnotations." }
+    require(margin >= 0.0) { "margin must not be negative, got $margin." }
+    templateIndices?.let { indices ->
+      require(indices.size == coordinates.size / 2) { "Expected one template index per item." }
+      require(indices.all { it in templates.indices }) { "Template indices must be below ${templates.size}." }
+    }
+  }
+
+  // Decoded once with the dataset, so that converting a template for every created item stays cheap.
+  private val templateImages = templates.map { template -> template.image?.let { AnnotationBitmapCache.decode(it) } }
+
+  /** The item shown by an annotation of this dataset. */
+  fun itemOf(annotationId: String): Int? = items[annotationId]
+
+  /** Whether [bounds] reach outside the region synced last, or the last sync left items to create. */
+  fun needsSync(bounds: CoordinateBounds): Boolean {
+    if (pending) {
+      return true
+    }
+    val west = bounds.southwest.longitude()
+    val east = bounds.northeast.longitude()
+    return west < syncedWest || east > syncedEast ||
+      bounds.southwest.latitude() < syncedSouth || bounds.northeast.latitude() > syncedNorth
+  }
+
+  /**
+   * Creates and deletes annotations so that the items of [bounds] plus the margin are shown, creating
+   * at most [maxCreates] of them, the rest are left to the next sync.
+   */
+  fun sync(
+    manager: PointAnnotationManager,
+    bounds: CoordinateBounds,
+    iconImages: Map<String, Bitmap>?,
+    maxCreates: Int = Int.MAX_VALUE
+  ) {
+    val width = bounds.northeast.longitude() - bounds.southwest.longitude()
+    val height = bounds.northeast.latitude() - bounds.southwest.latitude()
+    syncedWest = bounds.southwest.longitude() - width * margin
+    syncedEast = bounds.northeast.longitude() + width * margin
+    syncedSouth = (bounds.southwest.latitude() - height * margin).coerceAtLeast(-90.0)
+    syncedNorth = (bounds.northeast.latitude() + height * margin).coerceAtMost(90.0)
+
+    val visible = visibleItems()
+    val removed = annotations.keys.filterNot { it in visible }
+    val missing = visible.filterNot { it in annotations }
+    pending = missing.size > maxCreates
+    val added = if (pending) missing.subList(0, maxCreates) else missing
+    if (removed.isNotEmpty()) {
+      manager.delete(removed.map { item -> annotations.remove(item)!!.also { items.remove(it.id) } })
+    }
+    if (added.isNotEmpty()) {
+      // Every annotation needs options of its own, as the options are mutable builders.
+      val options = added.map { item ->
+        val template = templateIndices?.get(item) ?: 0
+        templates[template].toPointAnnotationOptions(iconImages, templateImages[template])
+          .withPoint(Point.fromLngLat(coordinates[item * 2], coordinates[item * 2 + 1]))
+      }
+      manager.create(options).forEachIndexed { position, annotation ->
+        annotations[added[position]] = annotation
+        items[annotation.id] = added[position]
+      }
+    }
+  }
+
+  fun clear(manager: PointAnnotationManager) {
+    manager.delete(annotations.values.toList())
+    annotations.clear()
+    items.clear()
+  }
+
+  // Caps the items of the synced region to maxAnnotations. The items already shown are kept, so that
+  // they are not recreated on every sync, and the free slots are filled evenly from the others.
+  private fun visibleItems(): Set<Int> {
+    val found = ArrayList<Int>()
+    if (syncedEast - syncedWest >= 360.0) {
+      index.query(-180.0, syncedSouth, 180.0, syncedNorth) { found.add(it) }
+    } else {
+      val west = wrap(syncedWest)
+      val east = wrap(syncedEast)
+      if (west <= east) {
+        index.query(west, syncedSouth, east, syncedNorth) { found.add(it) }
+      } else {
+        index.query(west, syncedSouth, 180.0, syncedNorth) { found.add(it) }
+        index.query(-180.0, syncedSouth, east, syncedNorth) { found.add(it) }
+      }
+    }
+    if (found.size <= maxAnnotations) {
+      return found.toHashSet()
+    }
+    val selected = HashSet<Int>()
+    val others = ArrayList<Int>(found.size)
+    for (item in found) {
+      if (item in annotations && selected.size < maxAnnotations) {
+        selected.add(item)
+      } else {
+        others.add(item)
+      }
+    }
+    val free = maxAnnotations - selected.size
+    if (free > 0) {
+      val step = others.size.toDouble() / free
+      for (position in 0 until free) {
+        selected.add(others[(position * step).toInt()])
+      }
+    }
+    return selected
+  }
+
+  private fun wrap(longitude: Double): Double = ((longitude + 180.0) % 360.0 + 360.0) % 360.0 - 180.0
+}
\ No newline at end of file
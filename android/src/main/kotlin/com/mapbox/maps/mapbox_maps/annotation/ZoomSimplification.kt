@@ -0,0 +1,276 @@
+package com.mapbox.maps.mapbox_maps.annotation
+
+import com.mapbox.geojson.Point
+import com.mapbox.maps.plugin.annotation.Annotation
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.PI
+import kotlin.math.ln
+import kotlin.math.pow
+import kotlin.math.tan
+
+/**
+ * Opt-in simplification of line and polygon annotations, with one tolerance per zoom band.
+ *
+ * Every annotation of a manager with zoom bands keeps a [Pyramid] of its geometry with one version
+ * per band, built from the finest band to the coarsest so that every level simplifies the previous
+ * one instead of the full geometry. Pyramids can be built on any thread, only swapping the drawn
+ * versions happens on the main thread, with one manager update whenever the zoom enters another band.
+ */
+class ZoomSimplification<T : Annotation<*>, G>(
+  private val simplify: (geometry: G, tolerance: Double) -> G,
+  private val setGeometry: (T, G) -> Unit,
+  private val update: (managerId: String, annotations: List<T>) -> Unit
+) {
+  class Bands(private val minZooms: DoubleArray, val tolerances: DoubleArray) {
+    fun indexOf(zoom: Double): Int {
+      var index = 0
+      while (index + 1 < minZooms.size && zoom >= minZooms[index + 1]) {
+        index++
+      }
+      return index
+    }
+  }
+
+  class Pyramid<G>(val full: G, val levels: List<G>, val bands: Bands)
+
+  private class Entry<T, G>(val annotation: T, val pyramid: Pyramid<G>)
+
+  // Read from the background task queue while building pyramids.
+  private val bands = ConcurrentHashMap<String, Bands>()
+  private val entries = HashMap<String, HashMap<String, Entry<T, G>>>()
+  private val drawnLevels = HashMap<String, Int>()
+
+  var zoom = 0.0
+    private set
+
+  /** Whether any manager has zoom bands, only then the zoom needs to be followed. */
+  val hasBands: Boolean
+    get() = bands.isNotEmpty()
+
+  /**
+   * Sets the zoom bands of a manager, empty lists turn the simplification off.
+   *
+   * [tolerances] are in screen pixels at the minimum zoom of their band. The annotations that were
+   * simplified with the previous bands get their full geometry back.
+   */
+  fun setBands(managerId: String, minZooms: List<Double>, tolerances: List<Double>) {
+    require(minZooms.size == tolerances.size) { "Expected one tolerance per zoom band." }
+    require(minZooms.zipWithNext().all { (a, b) -> a < b }) { "Zoom bands must be in ascending order." }
+    entries.remove(managerId)?.let { managerEntries ->
+      val annotations = managerEntries.values.map { entry ->
+        setGeometry(entry.annotation, entry.pyramid.full)
+        entry.annotation
+      }
+      if (annotations.isNotEmpty()) {
+        update(managerId, annotations)
+      }
+    }
+    drawnLevels.remove(managerId)
+    if (minZooms.isEmpty()) {
+      bands.remove(managerId)
+      return
+    }
+    // A pixel at zoom z covers 1 / (512 * 2^z) of the world in normalized Mercator coordinates.
+    val worldTolerances = DoubleArray(minZooms.size) { tolerances[it] / (TILE_SIZE * 2.0.pow(minZooms[it])) }
+    bands[managerId] = Bands(minZooms.toDoubleArray(), worldTolerances)
+  }
+
+  /** Builds the pyramid of a geometry, or returns null when the manager has no zoom bands. */
+  fun pyramid(managerId: String, geometry: G): Pyramid<G>? {
+    val managerBands = bands[managerId] ?: return null
+    val tolerances = managerBands.tolerances
+    val levels = ArrayList<G>(tolerances.size)
+    var level = geometry
+    for (index in tolerances.indices.reversed()) {
+      level = simplify(level, tolerances[index])
+      levels.add(level)
+    }
+    levels.reverse()
+    return Pyramid(geometry, levels, managerBands)
+  }
+
+  /**
+   * Builds the pyramid of a geometry that extends the one [previous] was built from, or returns null
+   * when the manager has no zoom bands.
+   *
+   * Every level is extended from the same level of [previous] instead of being simplified again from
+   * scratch, the whole pyramid is only rebuilt when the bands changed since [previous] was built.
+   */
+  fun extended(
+    managerId: String,
+    previous: Pyramid<G>?,
+    geometry: G,
+    extend: (previousLevel: G, geometry: G, tolerance: Double) -> G
+  ): Pyramid<G>? {
+    val managerBands = bands[managerId] ?: return null
+    if (previous == null || previous.bands !== managerBands) {
+      return pyramid(managerId, geometry)
+    }
+    val tolerances = managerBands.tolerances
+    val levels = ArrayList<G>(tolerances.size)
+    var level = geometry
+    for (index in tolerances.indices.reversed()) {
+      level = extend(previous.levels[index], level, tolerances[index])
+      levels.add(level)
+    }
+    levels.reverse()
+    return Pyramid(geometry, levels, managerBands)
+  }
+
+  /**
+   * The version of the pyramid to draw at the current zoom, on the main thread.
+   *
+   * Picked right before the annotation is created or updated with it, so that a zoom band change
+   * while the pyramid was built off the main thread is never missed.
+   */
+  fun drawn(pyramid: Pyramid<G>): G = pyramid.levels[pyramid.bands.indexOf(zoom)]
+
+  fun full(managerId: String, id: String): G? = entries[managerId]?.get(id)?.pyramid?.full
+
+  /** Tracks an annotation drawn with [drawn] version of [pyramid]. */
+  fun add(managerId: String, annotation: T, pyramid: Pyramid<G>) {
+    if (bands[managerId] !== pyramid.bands) {
+      // The bands changed while the pyramid was built.
+      setGeometry(annotation, pyramid.full)
+      update(managerId, listOf(annotation))
+      return
+    }
+    entries.getOrPut(managerId) { HashMap() }[annotation.id] = Entry(annotation, pyramid)
+  }
+
+  fun remove(managerId: String, id: String) {
+    entries[managerId]?.remove(id)
+  }
+
+  fun removeAll(managerId: String) {
+    entries.remove(managerId)
+  }
+
+  /** Forgets the manager, including its zoom bands. */
+  fun clear(managerId: String) {
+    entries.remove(managerId)
+    drawnLevels.remove(managerId)
+    bands.remove(managerId)
+  }
+
+  fun onZoomChanged(zoom: Double) {
+    this.zoom = zoom
+    for ((managerId, managerBands) in bands) {
+      val level = managerBands.indexOf(zoom)
+      if (drawnLevels.put(managerId, level) == level) {
+        continue
+      }
+      val managerEntries = entries[managerId] ?: continue
+      val annotations = managerEntries.values.map { entry ->
+        setGeometry(entry.annotation, entry.pyramid.levels[level])
+        entry.annotation
+      }
+      if (annotations.isNotEmpty()) {
+        update(managerId, annotations)
+      }
+    }
+  }
+
+  companion object {
+    private const val TILE_SIZE = 512.0
+  }
+}
+
+/**
+ * Simplifies a line with the Douglas–Peucker algorithm, [tolerance] is in normalized Mercator
+ * coordinates. The first and last vertices are always kept.
+ */
+fun List<Point>.simplified(tolerance: Double): List<Point> {
+  if (size <= 2 || tolerance <= 0.0) {
+    return this
+  }
+  val x = DoubleArray(size) { (this[it].longitude() + 180.0) / 360.0 }
+  val y = DoubleArray(size) {
+    val latitude = this[it].latitude().coerceIn(-MAX_LATITUDE, MAX_LATITUDE) * PI / 180.0
+    0.5 - ln(tan(PI / 4 + latitude / 2)) / (2 * PI)
+  }
+  val keep = BooleanArray(size)
+  keep[0] = true
+  keep[size - 1] = true
+  val squaredTolerance = tolerance * tolerance
+  val stack = ArrayDeque<Int>()
+  stack.addLast(0)
+  stack.addLast(size - 1)
+  while (stack.isNotEmpty()) {
+    val last = stack.removeLast()
+    val first = stack.removeLast()
+    var maxDistance = 0.0
+    var farthest = -1
+    for (index in first + 1 until last) {
+      val distance = squaredSegmentDistance(x[index], y[index], x[first], y[first], x[last], y[last])
+      if (distance > maxDistance) {
+        maxDistance = distance
+        farthest = index
+      }
+    }
+    if (maxDistance > squaredTolerance) {
+      keep[farthest] = true
+      stack.addLast(first)
+      stack.addLast(farthest)
+      stack.addLast(farthest)
+      stack.addLast(last)
+    }
+  }
+  return filterIndexed { index, _ -> keep[index] }
+}
+
+/**
+ * Simplifies a line that extends the line [previous] was simplified from with the same [tolerance].
+ *
+ * [previous] is kept up to its second to last vertex and only the vertices after that one are
+ * simplified again, so the cost grows with the vertices since that settled vertex rather than with the
+ * whole line. Every dropped vertex still stays within [tolerance] of the result, which may keep a few
+ * more vertices than simplifying the whole line would. Falls back to [simplified] when the settled
+ * vertex is not part of this line.
+ */
+fun List<Point>.simplifiedExtending(previous: List<Point>, tolerance: Double): List<Point> {
+  if (previous.size < 2) {
+    return simplified(tolerance)
+  }
+  // Vertices are shared between a line and its simplified versions, so the settled vertex is found by identity.
+  val settled = previous[previous.size - 2]
+  var start = size - 2
+  while (start >= 0 && this[start] !== settled) {
+    start--
+  }
+  if (start < 0) {
+    return simplified(tolerance)
+  }
+  val tail = subList(start, size).simplified(tolerance)
+  val points = ArrayList<Point>(previous.size - 2 + tail.size)
+  points.addAll(previous.subList(0, previous.size - 2))
+  points.addAll(tail)
+  return points
+}
+
+/** Simplifies every ring of a polygon, rings that would collapse are kept as they are. */
+fun List<List<Point>>.simplifiedRings(tolerance: Double): List<List<Point>> = map { ring ->
+  ring.simplified(tolerance).takeIf { it.size >= 4 } ?: ring
+}
+
+private const val MAX_LATITUDE = 85.051128779806604
+
+private fun squaredSegmentDistance(px: Double, py: Double, ax: Double, ay: Double, bx: Double, by: Double): Double {
+  var x = ax
+  var y = ay
+  val dx = bx - ax
+  val dy = by - ay
+  if (dx != 0.0 || dy != 0.0) {
+    val t = ((px - ax) * dx + (py - ay) * dy) / (dx * dx + dy * dy)
+    if (t > 1) {
+      x = bx
+      y = by
+    } else if (t > 0) {
+      x += dx * t
+      y += dy * t
+    }
+  }
+  val ex = px - x
+  val ey = py - y
+  return ex * ex + ey * ey
+}
\ No newline at end of file
@@ -1,4 +1,8 @@
 // This file is generated.
+import 'dart:async';
+import 'dart:io';
+import 'dart:typed_data';
+
 import 'package:flutter/material.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:integration_test/integration_test.dart';
@@ -71,5 +75,113 @@ void main() {
     await manager.deleteAll();
     await addDelay(1000);
   });
+
+  testWidgets('updateMulti and deleteMulti CircleAnnotation',
+      (WidgetTester tester) async {
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createCircleAnnotationManager();
+    final annotations = (await manager.createMulti([
+      for (var i = 0; i < 10; i++)
+        CircleAnnotationOptions(
+          geometry: Point(coordinates: Position(i.toDouble(), 2.0)).toJson(),
+        )
+    ]))
+        .cast<CircleAnnotation>();
+
+    for (final annotation in annotations) {
+      annotation.geometry = Point(coordinates: Position(0.0, 3.0)).toJson();
+      annotation.circleRadius = 2.0;
+    }
+    await manager.updateMulti(annotations);
+    await manager.deleteMulti(annotations.sublist(0, 5));
+    await expectLater(
+        manager.deleteMulti(annotations.sublist(0, 1)), throwsException);
+
+    await manager.deleteMulti(annotations.sublist(5));
+    await addDelay(1000);
+  });
+
+  testWidgets('updateGeometries and animateGeometries CircleAnnotation',
+      (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createCircleAnnotationManager();
+    final annotations = (await manager.createMulti([
+      for (var i = 0; i < 10; i++)
+        CircleAnnotationOptions(
+          geometry: Point(coordinates: Position(i.toDouble(), 2.0)).toJson(),
+        )
+    ]))
+        .cast<CircleAnnotation>();
+    final ids = annotations.map((annotation) => annotation.id).toList();
+
+    await manager.updateGeometries(ids, Float64List.fromList([
+      for (var i = 0; i < 10; i++) ...[i.toDouble(), 3.0]
+    ]));
+    await expectLater(
+        manager.updateGeometries(ids, Float64List(2)), throwsException);
+
+    await manager.animateGeometries(
+        ids,
+        Float64List.fromList([
+          for (var i = 0; i < 10; i++) ...[i.toDouble(), 4.0]
+        ]),
+        Duration(milliseconds: 500));
+    await addDelay(250);
+    await manager.animateGeometries(
+        ids,
+        Float64List.fromList([
+          for (var i = 0; i < 10; i++) ...[i.toDouble(), 5.0]
+        ]),
+        Duration(milliseconds: 500));
+    await expectLater(
+        manager.animateGeometries(ids, Float64List(2), Duration.zero),
+        throwsException);
+
+    await manager.deleteAll();
+    await addDelay(1000);
+  });
+
+  testWidgets('tap listener CircleAnnotation', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    await app.events.onMapLoaded.future;
+    final center = Point(coordinates: Position(10.0, 20.0));
+    await mapboxMap.setCamera(CameraOptions(center: center.toJson(), zoom: 10));
+    final manager = await mapboxMap.annotations.createCircleAnnotationManager();
+    final annotation = await manager.create(CircleAnnotationOptions(
+      geometry: center.toJson(),
+      circleRadius: 40.0,
+    ));
+
+    // The tapped coordinate is recorded by a map listener, which must see the
+    // tap before the manager resolves it to the annotation.
+    final tapped = Completer<Point>();
+    String? tappedId;
+    await manager.setOnAnnotationTapListener((annotationId, point) {
+      tappedId = annotationId;
+      tapped.complete(point);
+    });
+    await addDelay(1000);
+    await tester.tapAt(tester.getCenter(find.byKey(ValueKey("mapWidget"))));
+    final point = await tapped.future.timeout(Duration(seconds: 5));
+    expect(tappedId, annotation.id);
+    expect(point.coordinates.lng, closeTo(10.0, 0.01));
+    expect(point.coordinates.lat, closeTo(20.0, 0.01));
+
+    await manager.setOnAnnotationTapListener(null);
+    await mapboxMap.annotations.removeAnnotationManager(manager);
+    await addDelay(1000);
+  });
 }
 // End of generated file.
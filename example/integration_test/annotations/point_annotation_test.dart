@@ -1,5 +1,9 @@
 // This file is generated.
+import 'dart:io';
+import 'dart:typed_data';
+
 import 'package:flutter/material.dart';
+import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:integration_test/integration_test.dart';
 import 'package:mapbox_maps_flutter/mapbox_maps_flutter.dart';
@@ -118,5 +122,201 @@ void main() {
     await manager.deleteAll();
     await addDelay(1000);
   });
+
+  testWidgets('createMulti PointAnnotation', (WidgetTester tester) async {
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createPointAnnotationManager();
+
+    final options = [
+      PointAnnotationOptions(
+        geometry: Point(coordinates: Position(1.0, 2.0)).toJson(),
+        iconAnchor: IconAnchor.BOTTOM,
+        iconImage: "abc",
+        iconOffset: [0.0, 1.0],
+        textField: "abc",
+        iconColor: Colors.red.value,
+      ),
+      PointAnnotationOptions(
+        geometry: Point(coordinates: Position(3.0, 4.0)).toJson(),
+        textField: "def",
+        textOpacity: 0.5,
+      ),
+    ];
+    final annotations = await manager.createMulti(options);
+    expect(annotations.length, 2);
+    expect(annotations[0]!.id, isNot(annotations[1]!.id));
+
+    var point = Point.fromJson((annotations[1]!.geometry)!.cast());
+    expect(3.0, point.coordinates.lng);
+    expect(4.0, point.coordinates.lat);
+    expect(IconAnchor.BOTTOM, annotations[0]!.iconAnchor);
+    expect("abc", annotations[0]!.iconImage);
+    expect([0.0, 1.0], annotations[0]!.iconOffset);
+    expect("abc", annotations[0]!.textField);
+    expect(Colors.red.value, annotations[0]!.iconColor);
+    expect(null, annotations[1]!.iconAnchor);
+    expect("def", annotations[1]!.textField);
+    expect(0.5, annotations[1]!.textOpacity);
+
+    await manager.delete(annotations[0]!);
+    await manager.deleteAll();
+    await addDelay(1000);
+  });
+
+  testWidgets('icon images PointAnnotation', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createPointAnnotationManager();
+    final ByteData bytes =
+        await rootBundle.load('assets/symbols/custom-icon.png');
+    await manager.addIconImage('custom-icon', bytes.buffer.asUint8List());
+
+    final annotations = await manager.createMulti([
+      for (var i = 0; i < 10; i++)
+        PointAnnotationOptions(
+          geometry: Point(coordinates: Position(i.toDouble(), 2.0)).toJson(),
+          iconImage: 'custom-icon',
+        )
+    ]);
+    expect(annotations.length, 10);
+    final annotation = annotations[0]!;
+    annotation.iconSize = 2.0;
+    await manager.update(annotation);
+
+    final imageAnnotations = await manager.createMulti([
+      PointAnnotationOptions(
+        geometry: Point(coordinates: Position(1.0, 2.0)).toJson(),
+        image: bytes.buffer.asUint8List(),
+      )
+    ]);
+    expect(imageAnnotations[0]!.image, isNotNull);
+    expect(imageAnnotations[0]!.iconImage, isNotNull);
+
+    await manager.removeIconImage('custom-icon');
+    await expectLater(
+        manager.addIconImage('broken', Uint8List.fromList([1, 2, 3])),
+        throwsException);
+    await manager.deleteAll();
+    await addDelay(1000);
+  });
+
+  testWidgets('clustered PointAnnotation', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createPointAnnotationManager(
+        clusterOptions: AnnotationClusterOptions(
+      clusterRadius: 60,
+      clusterMaxZoom: 12,
+      colorLevels: {0: Colors.green.value, 50: Colors.red.value},
+      textField: '["get", "point_count_abbreviated"]',
+    ));
+    final annotations = await manager.createMulti([
+      for (var i = 0; i < 100; i++)
+        PointAnnotationOptions(
+          geometry: Point(coordinates: Position(i * 0.001, 0.0)).toJson(),
+          textField: '$i',
+        )
+    ]);
+    expect(annotations.length, 100);
+
+    await manager.deleteAll();
+    await addDelay(1000);
+  });
+
+  testWidgets('setProperties PointAnnotation', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createPointAnnotationManager();
+    await manager.setProperties({
+      'icon-allow-overlap': true,
+      'icon-padding': 2,
+      'symbol-placement': 'line-center',
+      'symbol-z-order': 'viewport-y',
+      'text-font': ['Open Sans Regular'],
+      'text-translate': [1.0, 2.0],
+    });
+    final properties = await manager.getProperties();
+    expect(properties['icon-allow-overlap'], true);
+    expect(properties['icon-padding'], 2.0);
+    expect(properties['symbol-placement'], 'line-center');
+    expect(properties['symbol-z-order'], 'viewport-y');
+    expect(properties['text-font'], ['Open Sans Regular']);
+    expect(properties['text-translate'], [1.0, 2.0]);
+    expect(await manager.getIconAllowOverlap(), true);
+
+    await expectLater(
+        manager.setProperties({'icon-padding': 4.0, 'line-cap': 'round'}),
+        throwsException);
+    expect(await manager.getIconPadding(), 2.0);
+
+    await manager.setProperties({'icon-allow-overlap': null});
+  });
+
+  testWidgets('virtual dataset PointAnnotation', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager = await mapboxMap.annotations.createPointAnnotationManager();
+    const count = 100000;
+    final coordinates = Float64List(count * 2);
+    for (var i = 0; i < count; i++) {
+      coordinates[i * 2] = (i % 1000) * 0.36 - 180.0;
+      coordinates[i * 2 + 1] = (i ~/ 1000) * 1.7 - 85.0;
+    }
+    final templates = [
+      PointAnnotationOptions(
+          geometry: Point(coordinates: Position(0, 0)).toJson(),
+          textField: 'a'),
+      PointAnnotationOptions(
+          geometry: Point(coordinates: Position(0, 0)).toJson(),
+          textField: 'b'),
+    ];
+    await manager.setVirtualDataset(coordinates, templates,
+        templateIndices:
+            Int32List.fromList(List.generate(count, (index) => index % 2)),
+        maxAnnotations: 500);
+    await addDelay(1000);
+    await mapboxMap.setCamera(CameraOptions(
+        center: Point(coordinates: Position(120.0, 30.0)).toJson(),
+        zoom: 6));
+    await addDelay(1000);
+
+    await expectLater(
+        manager.setVirtualDataset(
+            Float64List.fromList([1.0, 2.0, 3.0]), templates),
+        throwsException);
+    await expectLater(
+        manager.setVirtualDataset(Float64List.fromList([1.0, 2.0]), templates,
+            templateIndices: Int32List.fromList([2])),
+        throwsException);
+    await expectLater(
+        manager.setVirtualDataset(Float64List.fromList([1.0, 2.0]), templates,
+            maxAnnotations: 0),
+        throwsException);
+    await expectLater(
+        manager.setVirtualDataset(Float64List.fromList([1.0, 2.0]), templates,
+            margin: -1.0),
+        throwsException);
+
+    await manager.clearVirtualDataset();
+    await manager.deleteAll();
+  });
 }
 // End of generated file.
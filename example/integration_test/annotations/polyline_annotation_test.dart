@@ -1,4 +1,7 @@
 // This file is generated.
+import 'dart:io';
+import 'dart:typed_data';
+
 import 'package:flutter/material.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:integration_test/integration_test.dart';
@@ -86,5 +89,66 @@ void main() {
     await manager.deleteAll();
     await addDelay(1000);
   });
+
+  testWidgets('appendVertices PolylineAnnotation', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager =
+        await mapboxMap.annotations.createPolylineAnnotationManager();
+    final annotation = await manager.create(PolylineAnnotationOptions(
+      geometry: LineString(coordinates: [Position(1.0, 2.0), Position(2.0, 2.0)])
+          .toJson(),
+    ));
+
+    for (var i = 3; i < 10; i++) {
+      await manager.appendVertices(
+          annotation, Float64List.fromList([i.toDouble(), 2.0]));
+    }
+    await manager.appendVertices(
+        annotation, Float64List.fromList([10.0, 2.0, 11.0, 2.0]),
+        maxVertexCount: 8);
+    await manager.appendVertices(
+        annotation, Float64List.fromList([12.0, 2.0]),
+        maxVertexCount: 4, downsample: true);
+    await expectLater(
+        manager.appendVertices(annotation, Float64List(1)), throwsException);
+
+    await manager.delete(annotation);
+    await expectLater(
+        manager.appendVertices(annotation, Float64List(2)), throwsException);
+    await addDelay(1000);
+  });
+
+  testWidgets('setSimplification PolylineAnnotation',
+      (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    final manager =
+        await mapboxMap.annotations.createPolylineAnnotationManager();
+    await manager.setSimplification({0: 2.0, 10: 1.0, 16: 0});
+    final geometry = LineString(coordinates: [
+      for (var i = 0; i < 1000; i++) Position(i * 0.001, (i % 2) * 0.00001)
+    ]);
+    final annotation = await manager
+        .create(PolylineAnnotationOptions(geometry: geometry.toJson()));
+    expect(
+        LineString.fromJson(annotation.geometry!.cast()).coordinates.length,
+        1000);
+
+    await mapboxMap.setCamera(CameraOptions(zoom: 12));
+    await mapboxMap.setCamera(CameraOptions(zoom: 2));
+    await manager.setSimplification({});
+
+    await manager.deleteAll();
+    await addDelay(1000);
+  });
 }
 // End of generated file.
@@ -38,6 +38,106 @@ void main() {
     await addDelay(1000);
   });
 
+  testWidgets('messengerMetrics', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    await mapboxMap.setMessengerMetricsEnabled(true);
+    await mapboxMap.style.getStyleURI();
+
+    var metrics = await mapboxMap.getMessengerMetrics(reset: true);
+    final styleURI = metrics.firstWhere((metric) =>
+        metric!.channel.endsWith('StyleManager.getStyleURI'))!;
+    expect(styleURI.incoming, isTrue);
+    expect(styleURI.messageCount, 1);
+    expect(styleURI.requestBytes, greaterThan(0));
+    expect(styleURI.responseBytes, greaterThan(0));
+    expect(styleURI.latencyHistogram.length, 11);
+    expect(styleURI.latencyHistogram.fold<int>(0, (sum, count) => sum + count!),
+        1);
+
+    await mapboxMap.setMessengerMetricsEnabled(false);
+    await mapboxMap.style.getStyleURI();
+    metrics = await mapboxMap.getMessengerMetrics();
+    expect(
+        metrics.where((metric) =>
+            metric!.channel.endsWith('StyleManager.getStyleURI')),
+        isEmpty);
+  });
+
+  testWidgets('setOnCameraChangeListener', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    var events = 0;
+    await mapboxMap.setOnCameraChangeListener((event) => events++);
+    await mapboxMap.setCamera(CameraOptions(zoom: 3));
+    await addDelay(1000);
+    expect(events, greaterThan(0));
+
+    await mapboxMap.setOnCameraChangeListener(null);
+    events = 0;
+    await mapboxMap.setCamera(CameraOptions(zoom: 5));
+    await addDelay(1000);
+    expect(events, 0);
+  });
+
+  testWidgets('resourceTelemetry', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    await mapboxMap.startResourceTelemetry();
+    await mapboxMap.loadStyleURI(MapboxStyles.DARK);
+    await addDelay(1000);
+
+    var stats = await mapboxMap.getResourceRequestStats(reset: true);
+    expect(stats, isNotEmpty);
+    final style = stats.firstWhere((stat) => stat!.kind == RequestType.STYLE)!;
+    expect(style.requestCount + style.cancelledCount, greaterThan(0));
+    expect(style.cacheHits, lessThanOrEqualTo(style.requestCount));
+
+    await mapboxMap.stopResourceTelemetry();
+    await mapboxMap.loadStyleURI(MapboxStyles.LIGHT);
+    await addDelay(1000);
+    stats = await mapboxMap.getResourceRequestStats();
+    expect(stats, isEmpty);
+  });
+
+  testWidgets('renderStats', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    await mapboxMap.setRenderStatsEnabled(true);
+    await mapboxMap.loadStyleURI(MapboxStyles.DARK);
+    await addDelay(1000);
+
+    var stats = await mapboxMap.getRenderStats(reset: true);
+    expect(stats.frameCount, greaterThan(0));
+    expect(stats.frameTimeHistogram.fold<int>(0, (a, b) => a + b!),
+        stats.frameCount);
+    expect(stats.overBudgetCount, lessThanOrEqualTo(stats.frameCount));
+    expect(stats.frameTimeP50Millis,
+        lessThanOrEqualTo(stats.frameTimeP99Millis));
+
+    await mapboxMap.setRenderStatsEnabled(false);
+    await mapboxMap.loadStyleURI(MapboxStyles.LIGHT);
+    await addDelay(1000);
+    stats = await mapboxMap.getRenderStats();
+    expect(stats.frameCount, 0);
+  });
+
   testWidgets('clearData', (WidgetTester tester) async {
     final mapFuture = app.main();
     await tester.pumpAndSettle();
@@ -472,6 +472,32 @@ void main() {
     expect(getImage, isNull);
   });
 
+  testWidgets('handleRawImage', (WidgetTester tester) async {
+    if (!Platform.isAndroid) {
+      return;
+    }
+    final mapFuture = app.main();
+    await tester.pumpAndSettle();
+    final mapboxMap = await mapFuture;
+    var style = mapboxMap.style;
+
+    final Uint8List pixels = Uint8List(4 * 20 * 10);
+    for (var i = 0; i < pixels.length; i++) {
+      pixels[i] = i % 4 == 3 ? 255 : i % 256;
+    }
+    await style.addStyleRawImage('raw-icon', 1.0,
+        MbxRawImage(width: 20, height: 10, data: pixels), false, [], [], null);
+
+    final getImage = await style.getStyleRawImage('raw-icon');
+    expect(getImage, isNotNull);
+    expect(getImage!.width, 20);
+    expect(getImage.height, 10);
+    expect(getImage.data, pixels);
+
+    await style.removeStyleImage('raw-icon');
+    expect(await style.getStyleRawImage('raw-icon'), isNull);
+  });
+
   testWidgets('MapProjection', (WidgetTester tester) async {
     final mapFuture = app.main();
     await tester.pumpAndSettle();
@@ -3,6 +3,7 @@ library mapbox_maps_flutter;
 import 'dart:async';
 import 'dart:convert';
 import 'dart:io';
+import 'dart:typed_data';
 
 import 'package:enum_to_string/enum_to_string.dart';
 import 'package:flutter/foundation.dart';
@@ -32,6 +33,10 @@ part 'src/pigeons/polyline_annotation_messager.dart';
 part 'src/pigeons/map_interfaces.dart';
 part 'src/pigeons/settings.dart';
 part 'src/pigeons/gesture_listeners.dart';
+part 'src/pigeons/messenger_metrics.dart';
+part 'src/pigeons/map_events.dart';
+part 'src/pigeons/resource_telemetry.dart';
+part 'src/pigeons/annotation_interactions.dart';
 part 'src/style/layer/background_layer.dart';
 part 'src/style/layer/circle_layer.dart';
 part 'src/style/layer/fill_extrusion_layer.dart';
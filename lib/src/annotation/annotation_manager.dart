@@ -7,37 +7,147 @@ class _AnnotationManager {
       : _mapboxMapsPlatform = mapboxMapsPlatform;
 
   /// Create a PointAnnotationManager to add/remove/update PointAnnotations on the map.
-  Future<PointAnnotationManager> createPointAnnotationManager() async {
-    return _mapboxMapsPlatform.createAnnotationManager('point').then((value) =>
-        PointAnnotationManager(
-            id: value, messenger: _mapboxMapsPlatform.binaryMessenger));
+  ///
+  /// With [clusterOptions] dense annotations are collapsed into clusters by
+  /// the map, only supported on Android.
+  Future<PointAnnotationManager> createPointAnnotationManager(
+      {AnnotationClusterOptions? clusterOptions}) async {
+    return _mapboxMapsPlatform
+        .createAnnotationManager('point',
+            clusterOptions: clusterOptions?._toMap())
+        .then((value) => PointAnnotationManager(
+            id: value, messenger: _mapboxMapsPlatform.binaryMessenger)
+          .._owner = this);
   }
 
   /// Create a CircleAnnotationManager to add/remove/update CircleAnnotations on the map.
-  Future<CircleAnnotationManager> createCircleAnnotationManager() async {
-    return _mapboxMapsPlatform.createAnnotationManager('circle').then((value) =>
-        CircleAnnotationManager(
-            id: value, messenger: _mapboxMapsPlatform.binaryMessenger));
+  ///
+  /// With [clusterOptions] dense annotations are collapsed into clusters by
+  /// the map, only supported on Android.
+  Future<CircleAnnotationManager> createCircleAnnotationManager(
+      {AnnotationClusterOptions? clusterOptions}) async {
+    return _mapboxMapsPlatform
+        .createAnnotationManager('circle',
+            clusterOptions: clusterOptions?._toMap())
+        .then((value) => CircleAnnotationManager(
+            id: value, messenger: _mapboxMapsPlatform.binaryMessenger)
+          .._owner = this);
   }
 
   /// Create a PolylineAnnotationManager to add/remove/update PolylineAnnotations on the map.
   Future<PolylineAnnotationManager> createPolylineAnnotationManager() async {
     return _mapboxMapsPlatform.createAnnotationManager('polyline').then(
         (value) => PolylineAnnotationManager(
-            id: value, messenger: _mapboxMapsPlatform.binaryMessenger));
+            id: value, messenger: _mapboxMapsPlatform.binaryMessenger)
+          .._owner = this);
   }
 
   /// Create a PolygonAnnotationManager to add/remove/update PolygonAnnotations on the map.
   Future<PolygonAnnotationManager> createPolygonAnnotationManager() async {
     return _mapboxMapsPlatform.createAnnotationManager('polygon').then(
         (value) => PolygonAnnotationManager(
-            id: value, messenger: _mapboxMapsPlatform.binaryMessenger));
+            id: value, messenger: _mapboxMapsPlatform.binaryMessenger)
+          .._owner = this);
   }
 
   /// Remove an AnnotationManager and all the annotations created by it.
   Future<void> removeAnnotationManager(BaseAnnotationManager manager) async {
+    _interactions?.tapListeners.remove(manager.id);
+    _interactions?.longTapListeners.remove(manager.id);
     _mapboxMapsPlatform.removeAnnotationManager(manager.id);
   }
+
+  _AnnotationInteractionsHandler? _interactions;
+
+  Future<void> _setTapListeners(String managerId,
+      OnAnnotationTapListener? tap, OnAnnotationTapListener? longTap) {
+    final interactions = _interactions ??= _AnnotationInteractionsHandler()
+      ..setUp(_mapboxMapsPlatform.binaryMessenger);
+    if (tap != null) {
+      interactions.tapListeners[managerId] = tap;
+    } else {
+      interactions.tapListeners.remove(managerId);
+    }
+    if (longTap != null) {
+      interactions.longTapListeners[managerId] = longTap;
+    } else {
+      interactions.longTapListeners.remove(managerId);
+    }
+    return _mapboxMapsPlatform.setAnnotationTapListeners(
+        managerId, tap != null, longTap != null);
+  }
+}
+
+/// Dispatches the taps received as ids to the listeners of each manager.
+class _AnnotationInteractionsHandler extends _AnnotationInteractionListener {
+  final Map<String, OnAnnotationTapListener> tapListeners = {};
+  final Map<String, OnAnnotationTapListener> longTapListeners = {};
+
+  void setUp(BinaryMessenger messenger) =>
+      _AnnotationInteractionListener.setup(this, binaryMessenger: messenger);
+
+  @override
+  void onAnnotationTap(String managerId, String annotationId,
+      double longitude, double latitude) {
+    tapListeners[managerId]?.call(annotationId,
+        Point(coordinates: Position(longitude, latitude)));
+  }
+
+  @override
+  void onAnnotationLongTap(String managerId, String annotationId,
+      double longitude, double latitude) {
+    longTapListeners[managerId]?.call(annotationId,
+        Point(coordinates: Position(longitude, latitude)));
+  }
+}
+
+/// Options of the clustering of point and circle annotations, done natively
+/// by the GeoJSON source of the annotation manager.
+class AnnotationClusterOptions {
+  AnnotationClusterOptions({
+    this.clusterRadius = 50,
+    this.clusterMaxZoom = 14,
+    this.colorLevels = const {0: 0xFF0000FF},
+    this.circleRadius = 18.0,
+    this.textColor = 0xFFFFFFFF,
+    this.textSize = 12.0,
+    this.textField,
+  });
+
+  /// Radius of each cluster when clustering points, in screen pixels.
+  final int clusterRadius;
+
+  /// Max zoom on which to cluster points.
+  final int clusterMaxZoom;
+
+  /// The color of the clusters, from the minimum point count of a cluster to
+  /// the color used from that count on.
+  final Map<int, int> colorLevels;
+
+  /// The radius of the circles drawn for the clusters, in screen pixels.
+  final double circleRadius;
+
+  /// The color of the point count of the clusters.
+  final int textColor;
+
+  /// The size of the point count of the clusters.
+  final double textSize;
+
+  /// A style expression in JSON for the text of the clusters, the point count
+  /// is shown when null.
+  final String? textField;
+
+  Map<String, dynamic> _toMap() => <String, dynamic>{
+        'clusterRadius': clusterRadius,
+        'clusterMaxZoom': clusterMaxZoom,
+        'colorLevels': [
+          for (final level in colorLevels.entries) [level.key, level.value]
+        ],
+        'circleRadius': circleRadius,
+        'textColor': textColor,
+        'textSize': textSize,
+        'textField': textField,
+      };
 }
 
 /// The super class for all AnnotationManagers.
@@ -48,4 +158,30 @@ class BaseAnnotationManager {
         _messenger = messenger;
   final String id;
   final BinaryMessenger _messenger;
+  _AnnotationManager? _owner;
+  OnAnnotationTapListener? _tapListener;
+  OnAnnotationTapListener? _longTapListener;
+
+  /// Sets a listener that receives only the id of a tapped annotation and the
+  /// tapped coordinate, pass null to remove it.
+  ///
+  /// While set, taps are no longer sent to the click listener of the manager,
+  /// which avoids serializing the whole annotation on every tap. Read the
+  /// annotation from your own state when the properties are needed.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setOnAnnotationTapListener(OnAnnotationTapListener? listener) {
+    _tapListener = listener;
+    return _owner!._setTapListeners(id, _tapListener, _longTapListener);
+  }
+
+  /// Sets a listener that receives only the id of a long tapped annotation
+  /// and the tapped coordinate, pass null to remove it.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setOnAnnotationLongTapListener(
+      OnAnnotationTapListener? listener) {
+    _longTapListener = listener;
+    return _owner!._setTapListeners(id, _tapListener, _longTapListener);
+  }
 }
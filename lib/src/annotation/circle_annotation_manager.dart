@@ -34,9 +34,81 @@ class CircleAnnotationManager extends BaseAnnotationManager {
   Future<void> delete(CircleAnnotation annotation) =>
       messager.delete(id, annotation);
 
+  /// Update added annotations with new properties.
+  ///
+  /// On Android the whole batch is applied with a single call and a single
+  /// update of the annotation manager.
+  Future<void> updateMulti(List<CircleAnnotation> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await Future.wait(
+          annotations.map((annotation) => messager.update(id, annotation)));
+      return;
+    }
+    return messager.updateMulti(id, annotations);
+  }
+
+  /// Delete added annotations.
+  ///
+  /// On Android the whole batch is removed with a single call and a single
+  /// update of the annotation manager.
+  Future<void> deleteMulti(List<CircleAnnotation> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await Future.wait(
+          annotations.map((annotation) => messager.delete(id, annotation)));
+      return;
+    }
+    return messager.deleteMulti(id, annotations);
+  }
+
+  /// Move added annotations to new positions.
+  ///
+  /// [coordinates] holds the longitude and latitude of each annotation of
+  /// [ids], in the same order, so its length must be twice the number of ids.
+  /// All the positions are applied with a single update of the annotation
+  /// manager, which suits tracking thousands of moving objects several times
+  /// per second.
+  ///
+  /// Note : only supported on Android.
+  Future<void> updateGeometries(List<String> ids, Float64List coordinates) =>
+      messager.updateGeometries(id, ids, coordinates);
+
+  /// Move added annotations smoothly to new positions.
+  ///
+  /// [coordinates] holds the target longitude and latitude of each annotation
+  /// of [ids], like in [updateGeometries]. Every annotation moves from where it
+  /// is drawn to its target over [duration], interpolated natively on every
+  /// frame. Send new positions at the rate they arrive with a [duration] close
+  /// to the interval until the next one, and the motion stays continuous
+  /// without a message per frame.
+  ///
+  /// Note : only supported on Android.
+  Future<void> animateGeometries(
+          List<String> ids, Float64List coordinates, Duration duration) =>
+      messager.animateGeometries(
+          id, ids, coordinates, duration.inMilliseconds);
+
   /// Delete all the annotation added by this manager.
   Future<void> deleteAll() => messager.deleteAll(id);
 
+  /// Set several layer properties at once, keyed like in the style
+  /// specification, for example `{'circle-pitch-alignment': 'map'}`.
+  ///
+  /// All the properties are sent and applied with a single call instead of one
+  /// call per setter. Enum values are written like in the style specification
+  /// and a null value resets a property to its default. Nothing is applied if
+  /// any of the properties is not supported by this manager.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setProperties(Map<String, Object?> properties) =>
+      messager.setProperties(id, properties);
+
+  /// The layer properties that were set on this manager, keyed like in the
+  /// style specification.
+  ///
+  /// Note : only supported on Android.
+  Future<Map<String, Object?>> getProperties() async =>
+      (await messager.getProperties(id)).cast<String, Object?>();
+
   /// Controls the intensity of light emitted on the source features. This property works only with 3D light, i.e. when `lights` root property is defined.
   Future<void> setCircleEmissiveStrength(double circleEmissiveStrength) =>
       messager.setCircleEmissiveStrength(id, circleEmissiveStrength);
@@ -21,9 +21,25 @@ class PointAnnotationManager extends BaseAnnotationManager {
       messager.create(id, annotation);
 
   /// Create multi annotations with the options.
+  ///
+  /// On Android the options are sent in a packed columnar form, which keeps
+  /// encoding and decoding cheap for batches of thousands of annotations.
+  /// Only the ids are sent back, together with the icon image id the native
+  /// manager gave to every annotation created from an `image`, and the
+  /// returned annotations are completed from [annotations].
   Future<List<PointAnnotation?>> createMulti(
-          List<PointAnnotationOptions> annotations) =>
-      messager.createMulti(id, annotations);
+      List<PointAnnotationOptions> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return messager.createMulti(id, annotations);
+    }
+    final created = await messager.createMultiPacked(
+        id, _PointAnnotationOptionsBatch(annotations));
+    return [
+      for (var i = 0; i < created.ids.length; i++)
+        _annotationFromOptions(
+            created.ids[i]!, created.iconImages[i], annotations[i])
+    ];
+  }
 
   /// Update an added annotation with new properties.
   Future<void> update(PointAnnotation annotation) =>
@@ -33,9 +49,134 @@ class PointAnnotationManager extends BaseAnnotationManager {
   Future<void> delete(PointAnnotation annotation) =>
       messager.delete(id, annotation);
 
+  /// Update added annotations with new properties.
+  ///
+  /// On Android the whole batch is applied with a single call and a single
+  /// update of the annotation manager.
+  Future<void> updateMulti(List<PointAnnotation> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await Future.wait(
+          annotations.map((annotation) => messager.update(id, annotation)));
+      return;
+    }
+    return messager.updateMulti(id, annotations);
+  }
+
+  /// Delete added annotations.
+  ///
+  /// On Android the whole batch is removed with a single call and a single
+  /// update of the annotation manager.
+  Future<void> deleteMulti(List<PointAnnotation> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await Future.wait(
+          annotations.map((annotation) => messager.delete(id, annotation)));
+      return;
+    }
+    return messager.deleteMulti(id, annotations);
+  }
+
+  /// Move added annotations to new positions.
+  ///
+  /// [coordinates] holds the longitude and latitude of each annotation of
+  /// [ids], in the same order, so its length must be twice the number of ids.
+  /// All the positions are applied with a single update of the annotation
+  /// manager, which suits tracking thousands of moving objects several times
+  /// per second.
+  ///
+  /// Note : only supported on Android.
+  Future<void> updateGeometries(List<String> ids, Float64List coordinates) =>
+      messager.updateGeometries(id, ids, coordinates);
+
+  /// Move added annotations smoothly to new positions.
+  ///
+  /// [coordinates] holds the target longitude and latitude of each annotation
+  /// of [ids], like in [updateGeometries]. Every annotation moves from where it
+  /// is drawn to its target over [duration], interpolated natively on every
+  /// frame. Send new positions at the rate they arrive with a [duration] close
+  /// to the interval until the next one, and the motion stays continuous
+  /// without a message per frame.
+  ///
+  /// Note : only supported on Android.
+  Future<void> animateGeometries(
+          List<String> ids, Float64List coordinates, Duration duration) =>
+      messager.animateGeometries(
+          id, ids, coordinates, duration.inMilliseconds);
+
+  /// Show a large set of points, of which only the ones around the viewport
+  /// are created as annotations.
+  ///
+  /// [coordinates] holds the longitude and latitude of each item. Items are
+  /// drawn with one of [templates], picked per item by [templateIndices], or
+  /// with the first template when [templateIndices] is null. The geometry of
+  /// the templates is ignored.
+  ///
+  /// The items are indexed natively once. When the camera leaves the region
+  /// synced last, the annotations of the items within the visible bounds
+  /// extended by [margin], a fraction of the visible size, are created and the
+  /// others deleted. At most [maxAnnotations] items are shown: when more are
+  /// in the region, the items already shown stay and the others are sampled
+  /// evenly. While the camera moves, only a bounded number of annotations is
+  /// created per frame and the rest follow on the next frames.
+  /// [maxAnnotations] must be positive and [margin] must not be negative. A
+  /// dataset that fails to sync while the camera moves is dropped, its
+  /// annotations stay as they were. Taps listened for with
+  /// [setOnAnnotationTapListener] report the index of the tapped item as its
+  /// id. Setting a dataset replaces the previous one, [deleteAll] removes it.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setVirtualDataset(
+          Float64List coordinates, List<PointAnnotationOptions> templates,
+          {Int32List? templateIndices,
+          int maxAnnotations = 2000,
+          double margin = 0.5}) =>
+      messager.setVirtualDataset(id, coordinates, templateIndices, templates,
+          maxAnnotations, margin);
+
+  /// Remove the dataset set with [setVirtualDataset] and its annotations.
+  ///
+  /// Note : only supported on Android.
+  Future<void> clearVirtualDataset() => messager.clearVirtualDataset(id);
+
   /// Delete all the annotation added by this manager.
   Future<void> deleteAll() => messager.deleteAll(id);
 
+  /// Set several layer properties at once, keyed like in the style
+  /// specification, for example `{'icon-allow-overlap': true}`.
+  ///
+  /// All the properties are sent and applied with a single call instead of one
+  /// call per setter. Enum values are written like in the style specification
+  /// and a null value resets a property to its default. Nothing is applied if
+  /// any of the properties is not supported by this manager.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setProperties(Map<String, Object?> properties) =>
+      messager.setProperties(id, properties);
+
+  /// The layer properties that were set on this manager, keyed like in the
+  /// style specification.
+  ///
+  /// Note : only supported on Android.
+  Future<Map<String, Object?>> getProperties() async =>
+      (await messager.getProperties(id)).cast<String, Object?>();
+
+  /// Registers the encoded [image] as an icon of this manager under [imageId].
+  ///
+  /// Annotations whose `iconImage` is [imageId] show the registered image, so
+  /// the image is sent and decoded once instead of travelling with every
+  /// annotation in `image`. Registered icons take precedence over style images
+  /// with the same name, annotations created before the icon was registered
+  /// pick it up on their next update.
+  /// Note : only supported on Android.
+  Future<void> addIconImage(String imageId, Uint8List image) =>
+      messager.addIconImage(id, imageId, image);
+
+  /// Unregisters the icon registered under [imageId].
+  ///
+  /// Annotations already showing the icon keep it.
+  /// Note : only supported on Android.
+  Future<void> removeIconImage(String imageId) =>
+      messager.removeIconImage(id, imageId);
+
   /// If true, the icon will be visible even if it collides with other previously drawn symbols.
   Future<void> setIconAllowOverlap(bool iconAllowOverlap) =>
       messager.setIconAllowOverlap(id, iconAllowOverlap);
@@ -221,5 +362,45 @@ class PointAnnotationManager extends BaseAnnotationManager {
   /// Controls the frame of reference for `text-translate`.
   Future<TextTranslateAnchor?> getTextTranslateAnchor() =>
       messager.getTextTranslateAnchor(id);
+
+  PointAnnotation _annotationFromOptions(String annotationId,
+          String? nativeIconImage, PointAnnotationOptions options) =>
+      PointAnnotation(
+        id: annotationId,
+        geometry: options.geometry,
+        image: options.image,
+        iconAnchor: options.iconAnchor,
+        iconImage: nativeIconImage ?? options.iconImage,
+        iconOffset: options.iconOffset,
+        iconRotate: options.iconRotate,
+        iconSize: options.iconSize,
+        iconTextFit: options.iconTextFit,
+        iconTextFitPadding: options.iconTextFitPadding,
+        symbolSortKey: options.symbolSortKey,
+        textAnchor: options.textAnchor,
+        textField: options.textField,
+        textJustify: options.textJustify,
+        textLetterSpacing: options.textLetterSpacing,
+        textLineHeight: options.textLineHeight,
+        textMaxWidth: options.textMaxWidth,
+        textOffset: options.textOffset,
+        textRadialOffset: options.textRadialOffset,
+        textRotate: options.textRotate,
+        textSize: options.textSize,
+        textTransform: options.textTransform,
+        iconColor: options.iconColor,
+        iconEmissiveStrength: options.iconEmissiveStrength,
+        iconHaloBlur: options.iconHaloBlur,
+        iconHaloColor: options.iconHaloColor,
+        iconHaloWidth: options.iconHaloWidth,
+        iconImageCrossFade: options.iconImageCrossFade,
+        iconOpacity: options.iconOpacity,
+        textColor: options.textColor,
+        textEmissiveStrength: options.textEmissiveStrength,
+        textHaloBlur: options.textHaloBlur,
+        textHaloColor: options.textHaloColor,
+        textHaloWidth: options.textHaloWidth,
+        textOpacity: options.textOpacity,
+      );
 }
 // End of generated file.
@@ -34,9 +34,96 @@ class PolylineAnnotationManager extends BaseAnnotationManager {
   Future<void> delete(PolylineAnnotation annotation) =>
       messager.delete(id, annotation);
 
+  /// Update added annotations with new properties.
+  ///
+  /// On Android the whole batch is applied with a single call and a single
+  /// update of the annotation manager.
+  Future<void> updateMulti(List<PolylineAnnotation> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await Future.wait(
+          annotations.map((annotation) => messager.update(id, annotation)));
+      return;
+    }
+    return messager.updateMulti(id, annotations);
+  }
+
+  /// Delete added annotations.
+  ///
+  /// On Android the whole batch is removed with a single call and a single
+  /// update of the annotation manager.
+  Future<void> deleteMulti(List<PolylineAnnotation> annotations) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      await Future.wait(
+          annotations.map((annotation) => messager.delete(id, annotation)));
+      return;
+    }
+    return messager.deleteMulti(id, annotations);
+  }
+
+  /// Append vertices to the end of an added annotation.
+  ///
+  /// [coordinates] holds the longitude and latitude of each new vertex, only
+  /// these are sent and the line is extended natively, which keeps growing
+  /// tracks cheap to update. When [maxVertexCount] is set and the line grows
+  /// beyond it, the oldest vertices are dropped, or with [downsample] the
+  /// older half of the line is thinned so that it keeps its whole extent.
+  ///
+  /// The geometry of [annotation] itself is not changed.
+  ///
+  /// The whole line is still handed to the annotation manager, so every call
+  /// costs time proportional to the length of the line, set [maxVertexCount]
+  /// to bound it. With zoom bands set by [setSimplification], only the end of
+  /// each simplified version is simplified again.
+  ///
+  /// Note : only supported on Android.
+  Future<void> appendVertices(
+          PolylineAnnotation annotation, Float64List coordinates,
+          {int? maxVertexCount, bool downsample = false}) =>
+      messager.appendVertices(
+          id, annotation.id, coordinates, maxVertexCount, downsample);
+
+  /// Simplify the geometries of the annotations natively, with one tolerance
+  /// per zoom band.
+  ///
+  /// [tolerances] maps the minimum zoom of every band to its tolerance in
+  /// screen pixels, measured at that zoom. A tolerance of 0 draws the full
+  /// geometry. Every annotation keeps a pyramid with one simplified version per
+  /// band, built off the main thread for batches, and the drawn versions are
+  /// swapped whenever the zoom enters another band. The annotations returned to
+  /// Flutter keep their full geometry.
+  ///
+  /// Applies to annotations created or updated afterwards. An empty map turns
+  /// the simplification off and restores the full geometries.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setSimplification(Map<double, double> tolerances) {
+    final minZooms = tolerances.keys.toList()..sort();
+    return messager.setSimplification(
+        id, minZooms, [for (final zoom in minZooms) tolerances[zoom]!]);
+  }
+
   /// Delete all the annotation added by this manager.
   Future<void> deleteAll() => messager.deleteAll(id);
 
+  /// Set several layer properties at once, keyed like in the style
+  /// specification, for example `{'line-cap': 'round'}`.
+  ///
+  /// All the properties are sent and applied with a single call instead of one
+  /// call per setter. Enum values are written like in the style specification
+  /// and a null value resets a property to its default. Nothing is applied if
+  /// any of the properties is not supported by this manager.
+  ///
+  /// Note : only supported on Android.
+  Future<void> setProperties(Map<String, Object?> properties) =>
+      messager.setProperties(id, properties);
+
+  /// The layer properties that were set on this manager, keyed like in the
+  /// style specification.
+  ///
+  /// Note : only supported on Android.
+  Future<Map<String, Object?>> getProperties() async =>
+      (await messager.getProperties(id)).cast<String, Object?>();
+
   /// The display of line endings.
   Future<void> setLineCap(LineCap lineCap) => messager.setLineCap(id, lineCap);
 
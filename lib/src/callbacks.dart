@@ -100,6 +100,12 @@ typedef void OnStyleImageMissingListener(
 typedef void OnStyleImageUnusedListener(
     StyleImageUnusedEventData styleImageUnusedEventData);
 
+/// Definition for listener invoked when a resource request has completed or was cancelled.
+typedef void OnResourceRequestListener(ResourceEventData resourceEventData);
+
+/// Definition for listener invoked with the resource requests aggregated during an interval.
+typedef void OnResourceSummaryListener(List<ResourceRequestStats> stats);
+
 /// Gesture listener called on map tap.
 typedef void OnMapTapListener(ScreenCoordinate coordinate);
 
@@ -108,3 +114,7 @@ typedef void OnMapLongTapListener(ScreenCoordinate coordinate);
 
 /// Gesture listener called on map scroll.
 typedef void OnMapScrollListener(ScreenCoordinate coordinate);
+
+/// Annotation listener called with the id of the tapped annotation and the
+/// tapped coordinate.
+typedef void OnAnnotationTapListener(String annotationId, Point point);
@@ -85,6 +85,10 @@ class EventTimeInterval {
       : begin = DateTime.fromMicrosecondsSinceEpoch(json['begin']),
         end = DateTime.fromMicrosecondsSinceEpoch(json['end']);
 
+  EventTimeInterval._(int begin, int end)
+      : begin = DateTime.fromMicrosecondsSinceEpoch(begin),
+        end = DateTime.fromMicrosecondsSinceEpoch(end);
+
   @override
   String toString() {
     return "EventTimeInterval begin: $begin, end: $end";
@@ -98,6 +102,8 @@ class CameraChangedEventData {
 
   CameraChangedEventData.fromJson(Map<String, dynamic> json)
       : timestamp = json['timestamp'];
+
+  CameraChangedEventData._(this.timestamp);
 }
 
 /// The class for map-idle event in Observer
@@ -107,6 +113,8 @@ class MapIdleEventData {
 
   MapIdleEventData.fromJson(Map<String, dynamic> json)
       : timestamp = json['timestamp'];
+
+  MapIdleEventData._(this.timestamp);
 }
 
 /// The class for map-loaded event in Observer
@@ -117,6 +125,8 @@ class MapLoadedEventData {
 
   MapLoadedEventData.fromJson(Map<String, dynamic> json)
       : timeInterval = EventTimeInterval.fromJson(json['timeInterval']);
+
+  MapLoadedEventData._(this.timeInterval);
 }
 
 /// The class for map-loading-error event in Observer
@@ -143,6 +153,9 @@ class MapLoadingErrorEventData {
         tileId =
             json['tileId'] != null ? TileID.fromJson(json['tileId']) : null,
         timestamp = json['timestamp'];
+
+  MapLoadingErrorEventData._(
+      this.type, this.message, this.sourceId, this.tileId, this.timestamp);
 }
 
 /// The class for render-frame-finished event in Observer
@@ -165,6 +178,9 @@ class RenderFrameFinishedEventData {
         renderMode = RenderMode.values[json['renderMode']],
         placementChanged = json['placementChanged'],
         needsRepaint = json['needsRepaint'];
+
+  RenderFrameFinishedEventData._(this.timeInterval, this.renderMode,
+      this.needsRepaint, this.placementChanged);
 }
 
 /// Describes whether a map or frame has been fully rendered or not.
@@ -186,6 +202,8 @@ class RenderFrameStartedEventData {
 
   RenderFrameStartedEventData.fromJson(Map<String, dynamic> json)
       : timestamp = json['timestamp'];
+
+  RenderFrameStartedEventData._(this.timestamp);
 }
 
 ///The class for event in Observer
@@ -214,6 +232,9 @@ class ResourceEventData {
             ? Response.fromJson(json['response'])
             : null,
         cancelled = json['cancelled'];
+
+  ResourceEventData._(this.timeInterval, this.dataSource, this.request,
+      this.response, this.cancelled);
 }
 
 /// Describes data source of request for resource-request event.
@@ -246,6 +267,8 @@ class SourceAddedEventData {
   SourceAddedEventData.fromJson(Map<String, dynamic> json)
       : id = json['sourceId'],
         timestamp = json['timestamp'];
+
+  SourceAddedEventData._(this.id, this.timestamp);
 }
 
 /// The class for source-data-loaded event in Observer
@@ -278,6 +301,9 @@ class SourceDataLoadedEventData {
             json['tileId'] != null ? TileID.fromJson(json['tileId']) : null,
         dataId = json['dataId'],
         timeInterval = EventTimeInterval.fromJson(json['timeInterval']);
+
+  SourceDataLoadedEventData._(this.id, this.type, this.loaded, this.tileID,
+      this.dataId, this.timeInterval);
 }
 
 /// The class for source-removed event in Observer
@@ -291,6 +317,8 @@ class SourceRemovedEventData {
   SourceRemovedEventData.fromJson(Map<String, dynamic> json)
       : id = json['sourceId'],
         timestamp = json['timestamp'];
+
+  SourceRemovedEventData._(this.id, this.timestamp);
 }
 
 /// The class for style-data-loaded event in Observer
@@ -304,6 +332,8 @@ class StyleDataLoadedEventData {
   StyleDataLoadedEventData.fromJson(Map<String, dynamic> json)
       : type = StyleDataType.values[json['type']],
         timeInterval = EventTimeInterval.fromJson(json['timeInterval']);
+
+  StyleDataLoadedEventData._(this.type, this.timeInterval);
 }
 
 /// The class for style-image-missing event in Observer
@@ -317,6 +347,8 @@ class StyleImageMissingEventData {
   StyleImageMissingEventData.fromJson(Map<String, dynamic> json)
       : timestamp = json['timestamp'],
         id = json['imageId'];
+
+  StyleImageMissingEventData._(this.id, this.timestamp);
 }
 
 /// The class for style-image-remove-unused event in Observer
@@ -330,6 +362,8 @@ class StyleImageUnusedEventData {
   StyleImageUnusedEventData.fromJson(Map<String, dynamic> json)
       : timestamp = json['timestamp'],
         id = json['imageId'];
+
+  StyleImageUnusedEventData._(this.id, this.timestamp);
 }
 
 /// The class for style-loaded event in Observer
@@ -339,6 +373,8 @@ class StyleLoadedEventData {
 
   StyleLoadedEventData.fromJson(Map<String, dynamic> json)
       : timeInterval = EventTimeInterval.fromJson(json['timeInterval']);
+
+  StyleLoadedEventData._(this.timeInterval);
 }
 
 /// Describes an error type while loading the map.
@@ -399,6 +435,8 @@ class TileID {
         y = json['y'],
         z = json['z'];
 
+  TileID._(this.z, this.x, this.y);
+
   dynamic toMap() => <String, dynamic>{'x': x, 'y': y, 'z': z};
 }
 
@@ -413,6 +451,8 @@ class Error {
   Error.fromJson(Map<String, dynamic> json)
       : reason = ResponseErrorReason.values[json['reason']],
         message = json['message'];
+
+  Error._(this.reason, this.message);
 }
 
 /// The response data class that included in EventData
@@ -454,6 +494,17 @@ class Response {
         expires = json['expires'],
         size = json['size'],
         error = json['error'] != null ? Error.fromJson(json['error']) : null;
+
+  Response._(
+      this.eTag,
+      this.mustRevalidate,
+      this.noContent,
+      this.modified,
+      this.source,
+      this.notModified,
+      this.expires,
+      this.size,
+      this.error);
 }
 
 /// Describes source data type for response in resource-request event.
@@ -502,6 +553,8 @@ class Request {
         url = json['url'],
         kind = RequestType.values[json['resource']],
         priority = RequestPriority.values[json['priority']];
+
+  Request._(this.loadingMethod, this.url, this.kind, this.priority);
 }
 
 /// Describes type for request object.
@@ -544,3 +597,59 @@ enum RequestPriority {
   /// low priority. */
   LOW
 }
+
+/// The types of events emitted by the map.
+enum MapEventType {
+  mapLoaded,
+  mapLoadingError,
+  styleLoaded,
+  styleDataLoaded,
+  cameraChanged,
+  mapIdle,
+  sourceAdded,
+  sourceRemoved,
+  sourceDataLoaded,
+  styleImageMissing,
+  styleImageRemoveUnused,
+  renderFrameStarted,
+  renderFrameFinished,
+  resourceRequest,
+}
+
+enum _EventDeliveryMode { everyEvent, latestPerFrame, throttle, debounce }
+
+/// Defines how often the events of one type are delivered from the map.
+///
+/// Events dropped by a policy are dropped on the host platform, before they
+/// are sent to Flutter. The last event of a burst is never dropped, it is
+/// only delayed.
+class EventDeliveryPolicy {
+  /// Delivers every event as soon as it is emitted.
+  const EventDeliveryPolicy.everyEvent()
+      : _mode = _EventDeliveryMode.everyEvent,
+        interval = Duration.zero;
+
+  /// Delivers only the latest event of every rendered frame.
+  const EventDeliveryPolicy.latestPerFrame()
+      : _mode = _EventDeliveryMode.latestPerFrame,
+        interval = Duration.zero;
+
+  /// Delivers at most [hertz] events per second, the latest event of an
+  /// interval is delivered when the interval ends.
+  EventDeliveryPolicy.maxRate(int hertz)
+      : assert(hertz > 0),
+        _mode = _EventDeliveryMode.throttle,
+        interval = Duration(
+            microseconds: Duration.microsecondsPerSecond ~/ hertz);
+
+  /// Delivers the latest event once no other event was emitted for [delay].
+  const EventDeliveryPolicy.debounce(Duration delay)
+      : _mode = _EventDeliveryMode.debounce,
+        interval = delay;
+
+  final _EventDeliveryMode _mode;
+
+  /// The minimum time between two delivered events, or the quiet time
+  /// required by [EventDeliveryPolicy.debounce].
+  final Duration interval;
+}
@@ -156,6 +156,10 @@ class MapboxMap extends ChangeNotifier {
       _MapInterface(binaryMessenger: _proxyBinaryMessenger);
   late _AnimationManager _animationManager =
       _AnimationManager(binaryMessenger: _proxyBinaryMessenger);
+  late _MessengerMetrics _messengerMetrics =
+      _MessengerMetrics(binaryMessenger: _proxyBinaryMessenger);
+  late _ResourceTelemetry _resourceTelemetry =
+      _ResourceTelemetry(binaryMessenger: _proxyBinaryMessenger);
 
   /// The interface to create and set annotations.
   late final _AnnotationManager annotations;
@@ -566,6 +570,245 @@ class MapboxMap extends ChangeNotifier {
     }
   }
 
+  /// Merges bursts of gesture and annotation click callbacks into at most one
+  /// callback per frame.
+  ///
+  /// While enabled, scroll callbacks deliver only the latest position of each
+  /// frame and repeated clicks on the same annotation within a frame are
+  /// delivered once. Tap and long tap callbacks are never dropped.
+  /// Note : only supported on Android.
+  Future<void> setCallbackCoalescing(bool enabled) =>
+      _mapboxMapsPlatform.setCallbackCoalescing(enabled);
+
+  /// The listeners set at runtime, by event type.
+  final Map<MapEventType, Function> _eventListeners = {};
+
+  /// Replaces the runtime listener of [type] and subscribes to the event
+  /// while a listener is set. The subscription of a listener passed to the
+  /// constructor is kept.
+  Future<void> _setEventListener<T>(MapEventType type,
+      ArgumentCallbacks<T> callbacks, ArgumentCallback<T>? listener,
+      bool hasInitialListener) {
+    final previous = _eventListeners.remove(type);
+    if (previous != null) {
+      callbacks.remove(previous as ArgumentCallback<T>);
+    }
+    if (listener != null) {
+      _eventListeners[type] = listener;
+      callbacks.add(listener);
+      return _mapboxMapsPlatform.addEventListener(type);
+    }
+    if (hasInitialListener) {
+      return Future.value();
+    }
+    return _mapboxMapsPlatform.removeEventListener(type);
+  }
+
+  /// Sets the listener invoked when the style has been fully loaded, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnStyleLoadedListener(OnStyleLoadedListener? listener) =>
+      _setEventListener(
+          MapEventType.styleLoaded,
+          _mapboxMapsPlatform.onStyleLoadedPlatform,
+          listener,
+          onStyleLoadedListener != null);
+
+  /// Sets the listener invoked when the camera position changes, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnCameraChangeListener(OnCameraChangeListener? listener) =>
+      _setEventListener(
+          MapEventType.cameraChanged,
+          _mapboxMapsPlatform.onCameraChangeListenerPlatform,
+          listener,
+          onCameraChangeListener != null);
+
+  /// Sets the listener invoked when the map has entered the idle state, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnMapIdleListener(OnMapIdleListener? listener) =>
+      _setEventListener(
+          MapEventType.mapIdle,
+          _mapboxMapsPlatform.onMapIdlePlatform,
+          listener,
+          onMapIdleListener != null);
+
+  /// Sets the listener invoked when the map has rendered all visible tiles, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnMapLoadedListener(OnMapLoadedListener? listener) =>
+      _setEventListener(
+          MapEventType.mapLoaded,
+          _mapboxMapsPlatform.onMapLoadedPlatform,
+          listener,
+          onMapLoadedListener != null);
+
+  /// Sets the listener invoked when the map load errors out, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnMapLoadErrorListener(OnMapLoadErrorListener? listener) =>
+      _setEventListener(
+          MapEventType.mapLoadingError,
+          _mapboxMapsPlatform.onMapLoadErrorPlatform,
+          listener,
+          onMapLoadErrorListener != null);
+
+  /// Sets the listener invoked when the map started rendering a frame, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnRenderFrameStartedListener(
+          OnRenderFrameStartedListener? listener) =>
+      _setEventListener(
+          MapEventType.renderFrameStarted,
+          _mapboxMapsPlatform.onRenderFrameStartedPlatform,
+          listener,
+          onRenderFrameStartedListener != null);
+
+  /// Sets the listener invoked when the map finished rendering a frame, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnRenderFrameFinishedListener(
+          OnRenderFrameFinishedListener? listener) =>
+      _setEventListener(
+          MapEventType.renderFrameFinished,
+          _mapboxMapsPlatform.onRenderFrameFinishedPlatform,
+          listener,
+          onRenderFrameFinishedListener != null);
+
+  /// Sets the listener invoked when a source has been added, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnSourceAddedListener(OnSourceAddedListener? listener) =>
+      _setEventListener(
+          MapEventType.sourceAdded,
+          _mapboxMapsPlatform.onSourceAddedPlatform,
+          listener,
+          onSourceAddedListener != null);
+
+  /// Sets the listener invoked when source data has been loaded, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnSourceDataLoadedListener(
+          OnSourceDataLoadedListener? listener) =>
+      _setEventListener(
+          MapEventType.sourceDataLoaded,
+          _mapboxMapsPlatform.onSourceDataLoadedPlatform,
+          listener,
+          onSourceDataLoadedListener != null);
+
+  /// Sets the listener invoked when a source has been removed, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnSourceRemovedListener(OnSourceRemovedListener? listener) =>
+      _setEventListener(
+          MapEventType.sourceRemoved,
+          _mapboxMapsPlatform.onSourceRemovedPlatform,
+          listener,
+          onSourceRemovedListener != null);
+
+  /// Sets the listener invoked when style data has been loaded, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnStyleDataLoadedListener(
+          OnStyleDataLoadedListener? listener) =>
+      _setEventListener(
+          MapEventType.styleDataLoaded,
+          _mapboxMapsPlatform.onStyleDataLoadedPlatform,
+          listener,
+          onStyleDataLoadedListener != null);
+
+  /// Sets the listener invoked when the style has a missing image, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnStyleImageMissingListener(
+          OnStyleImageMissingListener? listener) =>
+      _setEventListener(
+          MapEventType.styleImageMissing,
+          _mapboxMapsPlatform.onStyleImageMissingPlatform,
+          listener,
+          onStyleImageMissingListener != null);
+
+  /// Sets the listener invoked when an image added to the style is no longer needed, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnStyleImageUnusedListener(
+          OnStyleImageUnusedListener? listener) =>
+      _setEventListener(
+          MapEventType.styleImageRemoveUnused,
+          _mapboxMapsPlatform.onStyleImageUnusedPlatform,
+          listener,
+          onStyleImageUnusedListener != null);
+
+  /// Sets the listener invoked when a resource request has completed or was cancelled, `null` removes it.
+  /// Note : only supported on Android.
+  Future<void> setOnResourceRequestListener(
+          OnResourceRequestListener? listener) =>
+      _setEventListener(MapEventType.resourceRequest,
+          _mapboxMapsPlatform.onResourceRequestPlatform, listener, false);
+
+  /// Sets how often the events of the given [type] are delivered to their
+  /// listener.
+  ///
+  /// Use it to limit frequent events like [MapEventType.cameraChanged] and
+  /// [MapEventType.renderFrameFinished] while the map is moving.
+  /// Note : only supported on Android.
+  Future<void> setEventDeliveryPolicy(
+          MapEventType type, EventDeliveryPolicy policy) =>
+      _mapboxMapsPlatform.setEventDeliveryPolicy(type, policy);
+
+  /// Starts or stops recording the message traffic of this map.
+  ///
+  /// While enabled, the number of messages, their request and response sizes
+  /// and a latency histogram are recorded for every channel and direction.
+  /// Note : only supported on Android.
+  Future<void> setMessengerMetricsEnabled(bool enabled) =>
+      _messengerMetrics.setEnabled(enabled);
+
+  /// Returns the message traffic recorded since metrics were enabled or last reset.
+  ///
+  /// Pass [reset] to clear the recorded traffic after reading it.
+  /// Note : only supported on Android.
+  Future<List<ChannelMetrics?>> getMessengerMetrics({bool reset = false}) =>
+      _messengerMetrics.getMetrics(reset);
+
+  /// Starts aggregating the resource requests of this map on the host
+  /// platform, per data source and resource type.
+  ///
+  /// When [onSummary] is given, it receives the requests aggregated during
+  /// every [interval]. Use [getResourceRequestStats] to read the aggregated
+  /// requests on demand.
+  /// Note : only supported on Android.
+  Future<void> startResourceTelemetry(
+      {Duration interval = const Duration(seconds: 10),
+      OnResourceSummaryListener? onSummary}) {
+    _ResourceTelemetryListener.setup(
+        onSummary != null ? _ResourceTelemetrySummaryListener(onSummary) : null,
+        binaryMessenger: _proxyBinaryMessenger);
+    return _resourceTelemetry
+        .start(onSummary != null ? interval.inMilliseconds : 0);
+  }
+
+  /// Stops aggregating the resource requests and clears the aggregated values.
+  /// Note : only supported on Android.
+  Future<void> stopResourceTelemetry() {
+    _ResourceTelemetryListener.setup(null,
+        binaryMessenger: _proxyBinaryMessenger);
+    return _resourceTelemetry.stop();
+  }
+
+  /// Returns the resource requests aggregated since the telemetry was started
+  /// or last reset, one entry per data source and resource type.
+  ///
+  /// Pass [reset] to clear the aggregated values after reading them.
+  /// Note : only supported on Android.
+  Future<List<ResourceRequestStats?>> getResourceRequestStats(
+          {bool reset = false}) =>
+      _resourceTelemetry.getSummary(reset);
+
+  /// Starts or stops recording the rendered frames of this map.
+  ///
+  /// While enabled, the render times of the frames are recorded in a
+  /// histogram, together with the frames that exceeded the frame budget of the
+  /// display and the frames that changed the symbol placement.
+  /// Note : only supported on Android.
+  Future<void> setRenderStatsEnabled(bool enabled) =>
+      _mapInterface.setRenderStatsEnabled(enabled);
+
+  /// Returns the frames recorded since render stats were enabled or last reset.
+  ///
+  /// Pass [reset] to clear the recorded frames after reading them.
+  /// Note : only supported on Android.
+  Future<RenderStats> getRenderStats({bool reset = false}) =>
+      _mapInterface.getRenderStats(reset);
+
   void setOnMapTapListener(OnMapTapListener? onMapTapListener) {
     this.onMapTapListener = onMapTapListener;
     _setupGestures();
@@ -608,3 +851,14 @@ class _GestureListener extends GestureListener {
     onMapScrollListener?.call(coordinate);
   }
 }
+
+class _ResourceTelemetrySummaryListener extends _ResourceTelemetryListener {
+  _ResourceTelemetrySummaryListener(this.listener);
+
+  final OnResourceSummaryListener listener;
+
+  @override
+  void onSummary(List<ResourceRequestStats?> stats) {
+    listener.call(stats.cast<ResourceRequestStats>());
+  }
+}
@@ -25,6 +25,7 @@ class _MapboxMapsPlatform {
       ArgumentCallbacks<StyleImageMissingEventData>();
   final onStyleImageUnusedPlatform =
       ArgumentCallbacks<StyleImageUnusedEventData>();
+  final onResourceRequestPlatform = ArgumentCallbacks<ResourceEventData>();
 
   final int _channelSuffix = _suffixesRegistry.getSuffix();
   late MethodChannel _channel;
@@ -108,6 +109,8 @@ class _MapboxMapsPlatform {
     _channel = MethodChannel('plugins.flutter.io', const StandardMethodCodec(),
         this.binaryMessenger);
     _channel.setMethodCallHandler(_handleMethodCall);
+    _MapEvents.setup(_MapEventsHandler(this),
+        binaryMessenger: this.binaryMessenger);
   }
 
   Widget buildView(
@@ -117,6 +120,8 @@ class _MapboxMapsPlatform {
     creationParams['channelSuffix'] = _channelSuffix;
 
     if (defaultTargetPlatform == TargetPlatform.android) {
+      // Events are delivered through _MapEvents instead of JSON method calls.
+      creationParams['typedEvents'] = true;
       return AndroidView(
         viewType: 'plugins.flutter.io/mapbox_maps',
         onPlatformViewCreated: onPlatformViewCreated,
@@ -140,21 +145,54 @@ class _MapboxMapsPlatform {
   void dispose() {
     _suffixesRegistry.releaseSuffix(_channelSuffix);
     _channel.setMethodCallHandler(null);
+    _MapEvents.setup(null, binaryMessenger: this.binaryMessenger);
   }
 
-  Future<void> addEventListener(_MapEvent event) async {
+  Future<void> addEventListener(MapEventType event) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
     try {
-      await _channel
-          .invokeMethod('map#subscribe', <String, dynamic>{'event': event});
+      await _channel.invokeMethod(
+          'map#subscribe', <String, dynamic>{'event': event.index});
     } on PlatformException catch (e) {
       return new Future.error(e);
     }
   }
 
-  Future<dynamic> createAnnotationManager(String type) async {
+  Future<void> removeEventListener(MapEventType event) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
     try {
-      return _channel.invokeMethod(
-          'annotation#create_manager', <String, dynamic>{'type': type});
+      await _channel.invokeMethod(
+          'map#unsubscribe', <String, dynamic>{'event': event.index});
+    } on PlatformException catch (e) {
+      return new Future.error(e);
+    }
+  }
+
+  Future<void> setEventDeliveryPolicy(
+      MapEventType event, EventDeliveryPolicy policy) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    try {
+      return _channel.invokeMethod('map#set_event_delivery', <String, dynamic>{
+        'event': event.index,
+        'mode': policy._mode.index,
+        'intervalMillis': policy.interval.inMilliseconds,
+      });
+    } on PlatformException catch (e) {
+      return new Future.error(e);
+    }
+  }
+
+  Future<dynamic> createAnnotationManager(String type,
+      {Map<String, dynamic>? clusterOptions}) async {
+    try {
+      return _channel.invokeMethod('annotation#create_manager',
+          <String, dynamic>{'type': type, 'clusterOptions': clusterOptions});
     } on PlatformException catch (e) {
       return new Future.error(e);
     }
@@ -169,6 +207,15 @@ class _MapboxMapsPlatform {
     }
   }
 
+  Future<void> setAnnotationTapListeners(String id, bool tap, bool longTap) {
+    try {
+      return _channel.invokeMethod('annotation#set_tap_listeners',
+          <String, dynamic>{'id': id, 'tap': tap, 'longTap': longTap});
+    } on PlatformException catch (e) {
+      return new Future.error(e);
+    }
+  }
+
   Future<dynamic> addGestureListeners() async {
     try {
       return _channel.invokeMethod('gesture#add_listeners');
@@ -184,6 +231,18 @@ class _MapboxMapsPlatform {
       return new Future.error(e);
     }
   }
+
+  Future<dynamic> setCallbackCoalescing(bool enabled) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    try {
+      return _channel.invokeMethod('gesture#coalesce_callbacks',
+          <String, dynamic>{'enabled': enabled});
+    } on PlatformException catch (e) {
+      return new Future.error(e);
+    }
+  }
 }
 
 /// A registry to hold suffixes for Channels.
@@ -215,3 +274,161 @@ class _SuffixesRegistry {
     suffixesAvailable.add(suffix);
   }
 }
+
+
+/// Builds the event data of the typed map events and forwards it to the
+/// platform callbacks.
+class _MapEventsHandler extends _MapEvents {
+  _MapEventsHandler(this._platform);
+
+  final _MapboxMapsPlatform _platform;
+
+  TileID? _tileId(int? z, int? x, int? y) {
+    if (z == null || x == null || y == null) {
+      return null;
+    }
+    return TileID._(z, x, y);
+  }
+
+  @override
+  void onMapLoaded(int begin, int end) {
+    _platform.onMapLoadedPlatform(
+        MapLoadedEventData._(EventTimeInterval._(begin, end)));
+  }
+
+  @override
+  void onMapLoadingError(int type, String message, String? sourceId,
+      int? tileZ, int? tileX, int? tileY, int timestamp) {
+    _platform.onMapLoadErrorPlatform(MapLoadingErrorEventData._(
+        MapLoadErrorType.values[type],
+        message,
+        sourceId,
+        _tileId(tileZ, tileX, tileY),
+        timestamp));
+  }
+
+  @override
+  void onStyleLoaded(int begin, int end) {
+    _platform.onStyleLoadedPlatform(
+        StyleLoadedEventData._(EventTimeInterval._(begin, end)));
+  }
+
+  @override
+  void onStyleDataLoaded(int type, int begin, int end) {
+    _platform.onStyleDataLoadedPlatform(StyleDataLoadedEventData._(
+        StyleDataType.values[type], EventTimeInterval._(begin, end)));
+  }
+
+  @override
+  void onCameraChanged(int timestamp) {
+    _platform
+        .onCameraChangeListenerPlatform(CameraChangedEventData._(timestamp));
+  }
+
+  @override
+  void onMapIdle(int timestamp) {
+    _platform.onMapIdlePlatform(MapIdleEventData._(timestamp));
+  }
+
+  @override
+  void onSourceAdded(String sourceId, int timestamp) {
+    _platform
+        .onSourceAddedPlatform(SourceAddedEventData._(sourceId, timestamp));
+  }
+
+  @override
+  void onSourceRemoved(String sourceId, int timestamp) {
+    _platform
+        .onSourceRemovedPlatform(SourceRemovedEventData._(sourceId, timestamp));
+  }
+
+  @override
+  void onSourceDataLoaded(String sourceId, int type, bool? loaded, int? tileZ,
+      int? tileX, int? tileY, String? dataId, int begin, int end) {
+    _platform.onSourceDataLoadedPlatform(SourceDataLoadedEventData._(
+        sourceId,
+        SourceDataType.values[type],
+        loaded,
+        _tileId(tileZ, tileX, tileY),
+        dataId,
+        EventTimeInterval._(begin, end)));
+  }
+
+  @override
+  void onStyleImageMissing(String imageId, int timestamp) {
+    _platform.onStyleImageMissingPlatform(
+        StyleImageMissingEventData._(imageId, timestamp));
+  }
+
+  @override
+  void onStyleImageRemoveUnused(String imageId, int timestamp) {
+    _platform.onStyleImageUnusedPlatform(
+        StyleImageUnusedEventData._(imageId, timestamp));
+  }
+
+  @override
+  void onRenderFrameStarted(int timestamp) {
+    _platform
+        .onRenderFrameStartedPlatform(RenderFrameStartedEventData._(timestamp));
+  }
+
+  @override
+  void onRenderFrameFinished(int renderMode, bool needsRepaint,
+      bool placementChanged, int begin, int end) {
+    _platform.onRenderFrameFinishedPlatform(RenderFrameFinishedEventData._(
+        EventTimeInterval._(begin, end),
+        RenderMode.values[renderMode],
+        needsRepaint,
+        placementChanged));
+  }
+
+  @override
+  void onResourceRequest(
+      int dataSource,
+      String url,
+      int kind,
+      int priority,
+      List<int?> loadingMethod,
+      bool cancelled,
+      int? responseSource,
+      String? eTag,
+      bool? mustRevalidate,
+      bool? noContent,
+      String? modified,
+      bool? notModified,
+      String? expires,
+      int? size,
+      int? errorReason,
+      String? errorMessage,
+      int begin,
+      int end) {
+    final request = Request._(
+        loadingMethod
+            .map((e) => RequestLoadingMethodType.values[e!])
+            .toList(),
+        url,
+        RequestType.values[kind],
+        RequestPriority.values[priority]);
+    final error = errorReason != null
+        ? Error._(ResponseErrorReason.values[errorReason], errorMessage ?? "")
+        : null;
+    final response = responseSource != null
+        ? Response._(
+            eTag,
+            mustRevalidate ?? false,
+            noContent ?? false,
+            modified,
+            ResponseSourceType.values[responseSource],
+            notModified ?? false,
+            expires,
+            size ?? 0,
+            error)
+        : null;
+    _platform.onResourceRequestPlatform(ResourceEventData._(
+        EventTimeInterval._(begin, end),
+        DataSourceType.values[dataSource],
+        request,
+        response,
+        cancelled));
+  }
+}
@@ -0,0 +1,76 @@
+part of mapbox_maps_flutter;
+
+/// Receives the taps on annotations as ids, without the annotation properties.
+abstract class _AnnotationInteractionListener {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  /// Called when an annotation of a manager listening for taps was tapped.
+  void onAnnotationTap(
+      String managerId, String annotationId, double longitude, double latitude);
+
+  /// Called when an annotation of a manager listening for long taps was held.
+  void onAnnotationLongTap(
+      String managerId, String annotationId, double longitude, double latitude);
+
+  static void setup(_AnnotationInteractionListener? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_managerId = (args[0] as String?);
+          assert(arg_managerId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap was null, expected non-null String.');
+          final String? arg_annotationId = (args[1] as String?);
+          assert(arg_annotationId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap was null, expected non-null String.');
+          final double? arg_longitude = (args[2] as double?);
+          assert(arg_longitude != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap was null, expected non-null double.');
+          final double? arg_latitude = (args[3] as double?);
+          assert(arg_latitude != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationTap was null, expected non-null double.');
+          api.onAnnotationTap(
+              arg_managerId!, arg_annotationId!, arg_longitude!, arg_latitude!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_managerId = (args[0] as String?);
+          assert(arg_managerId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap was null, expected non-null String.');
+          final String? arg_annotationId = (args[1] as String?);
+          assert(arg_annotationId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap was null, expected non-null String.');
+          final double? arg_longitude = (args[2] as double?);
+          assert(arg_longitude != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap was null, expected non-null double.');
+          final double? arg_latitude = (args[3] as double?);
+          assert(arg_latitude != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._AnnotationInteractionListener.onAnnotationLongTap was null, expected non-null double.');
+          api.onAnnotationLongTap(
+              arg_managerId!, arg_annotationId!, arg_longitude!, arg_latitude!);
+          return;
+        });
+      }
+    }
+  }
+}
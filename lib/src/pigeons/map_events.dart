@@ -0,0 +1,491 @@
+part of mapbox_maps_flutter;
+
+/// Map events with their fields sent as primitive values.
+///
+/// Timestamps are in microseconds since the epoch, enums are sent as their
+/// index.
+abstract class _MapEvents {
+  static const MessageCodec<Object?> codec = StandardMessageCodec();
+
+  /// The map has rendered all the visible tiles after a style was set.
+  void onMapLoaded(int begin, int end);
+
+  /// A resource needed by the map could not be loaded.
+  void onMapLoadingError(
+      int type,
+      String message,
+      String? sourceId,
+      int? tileZ,
+      int? tileX,
+      int? tileY,
+      int timestamp);
+
+  /// The style has been fully loaded.
+  void onStyleLoaded(int begin, int end);
+
+  /// A part of the style has been loaded.
+  void onStyleDataLoaded(int type, int begin, int end);
+
+  /// The camera has changed.
+  void onCameraChanged(int timestamp);
+
+  /// The map has entered the idle state.
+  void onMapIdle(int timestamp);
+
+  /// A source has been added to the style.
+  void onSourceAdded(String sourceId, int timestamp);
+
+  /// A source has been removed from the style.
+  void onSourceRemoved(String sourceId, int timestamp);
+
+  /// The metadata or a tile of a source has been loaded.
+  void onSourceDataLoaded(
+      String sourceId,
+      int type,
+      bool? loaded,
+      int? tileZ,
+      int? tileX,
+      int? tileY,
+      String? dataId,
+      int begin,
+      int end);
+
+  /// The style needs an image that is not in the sprite sheet.
+  void onStyleImageMissing(String imageId, int timestamp);
+
+  /// An image added to the style is no longer needed.
+  void onStyleImageRemoveUnused(String imageId, int timestamp);
+
+  /// The map started rendering a frame.
+  void onRenderFrameStarted(int timestamp);
+
+  /// The map finished rendering a frame.
+  void onRenderFrameFinished(
+      int renderMode,
+      bool needsRepaint,
+      bool placementChanged,
+      int begin,
+      int end);
+
+  /// A resource request has completed or was cancelled.
+  /// The response fields are null when there is no response.
+  void onResourceRequest(
+      int dataSource,
+      String url,
+      int kind,
+      int priority,
+      List<int?> loadingMethod,
+      bool cancelled,
+      int? responseSource,
+      String? eTag,
+      bool? mustRevalidate,
+      bool? noContent,
+      String? modified,
+      bool? notModified,
+      String? expires,
+      int? size,
+      int? errorReason,
+      String? errorMessage,
+      int begin,
+      int end);
+
+  static void setup(_MapEvents? api, {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoaded', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoaded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_begin = (args[0] as int?);
+          assert(arg_begin != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoaded was null, expected non-null int.');
+          final int? arg_end = (args[1] as int?);
+          assert(arg_end != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoaded was null, expected non-null int.');
+          api.onMapLoaded(arg_begin!, arg_end!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoadingError', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoadingError was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_type = (args[0] as int?);
+          assert(arg_type != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoadingError was null, expected non-null int.');
+          final String? arg_message = (args[1] as String?);
+          assert(arg_message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoadingError was null, expected non-null String.');
+          final String? arg_sourceId = (args[2] as String?);
+          final int? arg_tileZ = (args[3] as int?);
+          final int? arg_tileX = (args[4] as int?);
+          final int? arg_tileY = (args[5] as int?);
+          final int? arg_timestamp = (args[6] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapLoadingError was null, expected non-null int.');
+          api.onMapLoadingError(
+              arg_type!,
+              arg_message!,
+              arg_sourceId,
+              arg_tileZ,
+              arg_tileX,
+              arg_tileY,
+              arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleLoaded', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleLoaded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_begin = (args[0] as int?);
+          assert(arg_begin != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleLoaded was null, expected non-null int.');
+          final int? arg_end = (args[1] as int?);
+          assert(arg_end != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleLoaded was null, expected non-null int.');
+          api.onStyleLoaded(arg_begin!, arg_end!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleDataLoaded', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleDataLoaded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_type = (args[0] as int?);
+          assert(arg_type != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleDataLoaded was null, expected non-null int.');
+          final int? arg_begin = (args[1] as int?);
+          assert(arg_begin != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleDataLoaded was null, expected non-null int.');
+          final int? arg_end = (args[2] as int?);
+          assert(arg_end != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleDataLoaded was null, expected non-null int.');
+          api.onStyleDataLoaded(arg_type!, arg_begin!, arg_end!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onCameraChanged', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onCameraChanged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_timestamp = (args[0] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onCameraChanged was null, expected non-null int.');
+          api.onCameraChanged(arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapIdle', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapIdle was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_timestamp = (args[0] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onMapIdle was null, expected non-null int.');
+          api.onMapIdle(arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceAdded', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceAdded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_sourceId = (args[0] as String?);
+          assert(arg_sourceId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceAdded was null, expected non-null String.');
+          final int? arg_timestamp = (args[1] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceAdded was null, expected non-null int.');
+          api.onSourceAdded(arg_sourceId!, arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceRemoved', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceRemoved was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_sourceId = (args[0] as String?);
+          assert(arg_sourceId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceRemoved was null, expected non-null String.');
+          final int? arg_timestamp = (args[1] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceRemoved was null, expected non-null int.');
+          api.onSourceRemoved(arg_sourceId!, arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_sourceId = (args[0] as String?);
+          assert(arg_sourceId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded was null, expected non-null String.');
+          final int? arg_type = (args[1] as int?);
+          assert(arg_type != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded was null, expected non-null int.');
+          final bool? arg_loaded = (args[2] as bool?);
+          final int? arg_tileZ = (args[3] as int?);
+          final int? arg_tileX = (args[4] as int?);
+          final int? arg_tileY = (args[5] as int?);
+          final String? arg_dataId = (args[6] as String?);
+          final int? arg_begin = (args[7] as int?);
+          assert(arg_begin != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded was null, expected non-null int.');
+          final int? arg_end = (args[8] as int?);
+          assert(arg_end != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onSourceDataLoaded was null, expected non-null int.');
+          api.onSourceDataLoaded(
+              arg_sourceId!,
+              arg_type!,
+              arg_loaded,
+              arg_tileZ,
+              arg_tileX,
+              arg_tileY,
+              arg_dataId,
+              arg_begin!,
+              arg_end!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageMissing', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageMissing was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_imageId = (args[0] as String?);
+          assert(arg_imageId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageMissing was null, expected non-null String.');
+          final int? arg_timestamp = (args[1] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageMissing was null, expected non-null int.');
+          api.onStyleImageMissing(arg_imageId!, arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageRemoveUnused', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageRemoveUnused was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_imageId = (args[0] as String?);
+          assert(arg_imageId != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageRemoveUnused was null, expected non-null String.');
+          final int? arg_timestamp = (args[1] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onStyleImageRemoveUnused was null, expected non-null int.');
+          api.onStyleImageRemoveUnused(arg_imageId!, arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameStarted', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameStarted was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_timestamp = (args[0] as int?);
+          assert(arg_timestamp != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameStarted was null, expected non-null int.');
+          api.onRenderFrameStarted(arg_timestamp!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_renderMode = (args[0] as int?);
+          assert(arg_renderMode != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished was null, expected non-null int.');
+          final bool? arg_needsRepaint = (args[1] as bool?);
+          assert(arg_needsRepaint != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished was null, expected non-null bool.');
+          final bool? arg_placementChanged = (args[2] as bool?);
+          assert(arg_placementChanged != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished was null, expected non-null bool.');
+          final int? arg_begin = (args[3] as int?);
+          assert(arg_begin != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished was null, expected non-null int.');
+          final int? arg_end = (args[4] as int?);
+          assert(arg_end != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onRenderFrameFinished was null, expected non-null int.');
+          api.onRenderFrameFinished(
+              arg_renderMode!,
+              arg_needsRepaint!,
+              arg_placementChanged!,
+              arg_begin!,
+              arg_end!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_dataSource = (args[0] as int?);
+          assert(arg_dataSource != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null String.');
+          final int? arg_kind = (args[2] as int?);
+          assert(arg_kind != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null int.');
+          final int? arg_priority = (args[3] as int?);
+          assert(arg_priority != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null int.');
+          final List<int?>? arg_loadingMethod =
+              (args[4] as List<Object?>?)?.cast<int?>();
+          assert(arg_loadingMethod != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null List<int?>.');
+          final bool? arg_cancelled = (args[5] as bool?);
+          assert(arg_cancelled != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null bool.');
+          final int? arg_responseSource = (args[6] as int?);
+          final String? arg_eTag = (args[7] as String?);
+          final bool? arg_mustRevalidate = (args[8] as bool?);
+          final bool? arg_noContent = (args[9] as bool?);
+          final String? arg_modified = (args[10] as String?);
+          final bool? arg_notModified = (args[11] as bool?);
+          final String? arg_expires = (args[12] as String?);
+          final int? arg_size = (args[13] as int?);
+          final int? arg_errorReason = (args[14] as int?);
+          final String? arg_errorMessage = (args[15] as String?);
+          final int? arg_begin = (args[16] as int?);
+          assert(arg_begin != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null int.');
+          final int? arg_end = (args[17] as int?);
+          assert(arg_end != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._MapEvents.onResourceRequest was null, expected non-null int.');
+          api.onResourceRequest(
+              arg_dataSource!,
+              arg_url!,
+              arg_kind!,
+              arg_priority!,
+              arg_loadingMethod!,
+              arg_cancelled!,
+              arg_responseSource,
+              arg_eTag,
+              arg_mustRevalidate,
+              arg_noContent,
+              arg_modified,
+              arg_notModified,
+              arg_expires,
+              arg_size,
+              arg_errorReason,
+              arg_errorMessage,
+              arg_begin!,
+              arg_end!);
+          return;
+        });
+      }
+    }
+  }
+}
@@ -1726,6 +1726,49 @@ class MbxImage {
   }
 }
 
+/// Image type whose pixels are transferred without any encoding.
+///
+/// Note : only supported on Android.
+class MbxRawImage {
+  MbxRawImage({
+    required this.width,
+    required this.height,
+    required this.data,
+  });
+
+  /// The width of the image, in screen pixels.
+  int width;
+
+  /// The height of the image, in screen pixels.
+  int height;
+
+  /// 32-bit premultiplied RGBA image data.
+  ///
+  /// This field should contain exactly `4 * width * height` bytes, as produced by
+  /// `Image.toByteData(format: ImageByteFormat.rawRgba)`. It should consist of a
+  /// sequence of scanlines.
+  Uint8List data;
+
+  void _write(StandardMessageCodec codec, WriteBuffer buffer) {
+    codec.writeValue(buffer, width);
+    codec.writeValue(buffer, height);
+    codec.writeSize(buffer, data.length);
+    buffer.putUint8List(data);
+  }
+
+  // The pixels are a view into the reply, they are not copied.
+  static MbxRawImage _read(StandardMessageCodec codec, ReadBuffer buffer) {
+    final int width = codec.readValue(buffer)! as int;
+    final int height = codec.readValue(buffer)! as int;
+    final int length = codec.readSize(buffer);
+    return MbxRawImage(
+      width: width,
+      height: height,
+      data: buffer.getUint8List(length),
+    );
+  }
+}
+
 /// Describes the image stretch areas.
 class ImageStretches {
   ImageStretches({
@@ -1901,6 +1944,106 @@ class StylePropertyValue {
   }
 }
 
+/// Frame statistics aggregated from the render frame events of the map.
+///
+/// Render times are measured by the map between the start and the end of a frame, with millisecond resolution.
+class RenderStats {
+  RenderStats({
+    required this.startedFrameCount,
+    required this.frameCount,
+    required this.fullFrameCount,
+    required this.needsRepaintCount,
+    required this.placementChangedCount,
+    required this.maxConsecutivePlacementChanges,
+    required this.frameBudgetMillis,
+    required this.overBudgetCount,
+    required this.frameTimeHistogram,
+    required this.frameTimeP50Millis,
+    required this.frameTimeP90Millis,
+    required this.frameTimeP99Millis,
+    required this.maxFrameTimeMillis,
+  });
+
+  /// The number of frames the map started rendering.
+  int startedFrameCount;
+
+  /// The number of frames the map finished rendering.
+  int frameCount;
+
+  /// The number of finished frames that had all the data required to render the visible viewport.
+  int fullFrameCount;
+
+  /// The number of finished frames that were followed by another frame because of ongoing transitions.
+  int needsRepaintCount;
+
+  /// The number of finished frames that changed the symbol placement.
+  int placementChangedCount;
+
+  /// The longest run of consecutive frames that changed the symbol placement.
+  int maxConsecutivePlacementChanges;
+
+  /// The time available to render one frame at the refresh rate of the display, in milliseconds.
+  double frameBudgetMillis;
+
+  /// The number of finished frames that took longer than `frameBudgetMillis` to render.
+  int overBudgetCount;
+
+  /// The number of finished frames per render time bucket.
+  ///
+  /// The buckets are bounded by 2, 4, 8, 12, 16, 20, 25, 33, 50 and 100 milliseconds,
+  /// the last bucket counts all the slower frames.
+  List<int?> frameTimeHistogram;
+
+  /// The median render time, estimated as the upper bound of its histogram bucket, in milliseconds.
+  int frameTimeP50Millis;
+
+  /// The 90th percentile of the render time, estimated as the upper bound of its histogram bucket, in milliseconds.
+  int frameTimeP90Millis;
+
+  /// The 99th percentile of the render time, estimated as the upper bound of its histogram bucket, in milliseconds.
+  int frameTimeP99Millis;
+
+  /// The longest render time, in milliseconds.
+  int maxFrameTimeMillis;
+
+  Object encode() {
+    return <Object?>[
+      startedFrameCount,
+      frameCount,
+      fullFrameCount,
+      needsRepaintCount,
+      placementChangedCount,
+      maxConsecutivePlacementChanges,
+      frameBudgetMillis,
+      overBudgetCount,
+      frameTimeHistogram,
+      frameTimeP50Millis,
+      frameTimeP90Millis,
+      frameTimeP99Millis,
+      maxFrameTimeMillis,
+    ];
+  }
+
+  static RenderStats decode(Object result) {
+    result as List<Object?>;
+    return RenderStats(
+      startedFrameCount: result[0]! as int,
+      frameCount: result[1]! as int,
+      fullFrameCount: result[2]! as int,
+      needsRepaintCount: result[3]! as int,
+      placementChangedCount: result[4]! as int,
+      maxConsecutivePlacementChanges: result[5]! as int,
+      frameBudgetMillis: result[6]! as double,
+      overBudgetCount: result[7]! as int,
+      frameTimeHistogram: (result[8] as List<Object?>?)!.cast<int?>(),
+      frameTimeP50Millis: result[9]! as int,
+      frameTimeP90Millis: result[10]! as int,
+      frameTimeP99Millis: result[11]! as int,
+      maxFrameTimeMillis: result[12]! as int,
+    );
+  }
+}
+
 class __AnimationManagerCodec extends StandardMessageCodec {
   const __AnimationManagerCodec();
   @override
@@ -3121,6 +3264,9 @@ class __MapInterfaceCodec extends StandardMessageCodec {
     } else if (value is TransitionOptions) {
       buffer.putUint8(166);
       writeValue(buffer, value.encode());
+    } else if (value is RenderStats) {
+      buffer.putUint8(167);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -3207,6 +3353,8 @@ class __MapInterfaceCodec extends StandardMessageCodec {
         return TileCacheBudgetInTiles.decode(readValue(buffer)!);
       case 166:
         return TransitionOptions.decode(readValue(buffer)!);
+      case 167:
+        return RenderStats.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -4067,6 +4215,63 @@ class _MapInterface {
       return (replyList[0] as double?);
     }
   }
+
+  /// Starts or stops aggregating the render frame events.
+  ///
+  /// @param enabled Whether the render frames should be aggregated.
+  Future<void> setRenderStatsEnabled(bool arg_enabled) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.setRenderStatsEnabled',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_enabled]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the frame statistics aggregated since they were enabled or last reset.
+  ///
+  /// @param reset Whether the aggregated statistics should be cleared.
+  Future<RenderStats> getRenderStats(bool arg_reset) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._MapInterface.getRenderStats',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_reset]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as RenderStats?)!;
+    }
+  }
 }
 
 class _OfflineRegionCodec extends StandardMessageCodec {
@@ -5992,6 +6197,9 @@ class _StyleManagerCodec extends StandardMessageCodec {
     } else if (value is TransitionOptions) {
       buffer.putUint8(166);
       writeValue(buffer, value.encode());
+    } else if (value is MbxRawImage) {
+      buffer.putUint8(167);
+      value._write(this, buffer);
     } else {
       super.writeValue(buffer, value);
     }
@@ -6078,6 +6286,8 @@ class _StyleManagerCodec extends StandardMessageCodec {
         return TileCacheBudgetInTiles.decode(readValue(buffer)!);
       case 166:
         return TransitionOptions.decode(readValue(buffer)!);
+      case 167:
+        return MbxRawImage._read(this, buffer);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -7489,6 +7699,118 @@ class StyleManager {
     }
   }
 
+  /// Adds an image to be used in the style from raw premultiplied RGBA pixels.
+  ///
+  /// Same as [addStyleImage], except that the pixels are handed to the map as they are,
+  /// without being decoded first.
+  ///
+  /// Unlike the other style calls, this one is handled as soon as it arrives
+  /// instead of going through the style task queue, await the calls it depends
+  /// on before making it.
+  ///
+  /// Note : only supported on Android.
+  Future<void> addStyleRawImage(
+      String arg_imageId,
+      double arg_scale,
+      MbxRawImage arg_image,
+      bool arg_sdf,
+      List<ImageStretches?> arg_stretchX,
+      List<ImageStretches?> arg_stretchY,
+      ImageContent? arg_content) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.addStyleRawImage',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_imageId,
+      arg_scale,
+      arg_image,
+      arg_sdf,
+      arg_stretchX,
+      arg_stretchY,
+      arg_content
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Updates the image of an [image style source](https://docs.mapbox.com/mapbox-gl-js/style-spec/#sources-image)
+  /// from raw premultiplied RGBA pixels.
+  ///
+  /// Same as [updateStyleImageSourceImage], except that the pixels are handed to the map as they are,
+  /// without being decoded first.
+  ///
+  /// Unlike the other style calls, this one is handled as soon as it arrives
+  /// instead of going through the style task queue, await the calls it depends
+  /// on before making it.
+  ///
+  /// Note : only supported on Android.
+  Future<void> updateStyleImageSourceRawImage(
+      String arg_sourceId, MbxRawImage arg_image) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.updateStyleImageSourceRawImage',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_sourceId, arg_image]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Get an `image` from the style as raw premultiplied RGBA pixels.
+  ///
+  /// @param imageId The identifier of the `image`.
+  ///
+  /// @return The `image` for the given `imageId`, or empty if no image is associated with the `imageId`.
+  ///
+  /// Note : only supported on Android.
+  Future<MbxRawImage?> getStyleRawImage(String arg_imageId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter.StyleManager.getStyleRawImage',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_imageId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return (replyList[0] as MbxRawImage?);
+    }
+  }
+
   /// Removes an image from the style.
   ///
   /// @param imageId The identifier of the image to remove.
@@ -0,0 +1,150 @@
+part of mapbox_maps_flutter;
+
+/// Traffic recorded for one channel and direction.
+class ChannelMetrics {
+  ChannelMetrics({
+    required this.channel,
+    required this.incoming,
+    required this.messageCount,
+    required this.requestBytes,
+    required this.responseBytes,
+    required this.latencyHistogram,
+  });
+
+  /// The name of the channel, without the map instance suffix.
+  String channel;
+
+  /// Whether these are messages sent from Flutter to the platform, false for messages sent from the platform to Flutter.
+  bool incoming;
+
+  /// The number of messages.
+  int messageCount;
+
+  /// The total size of the messages, in bytes.
+  int requestBytes;
+
+  /// The total size of the replies, in bytes.
+  int responseBytes;
+
+  /// The number of messages per latency bucket, from the moment a message is handed over until its reply arrives.
+  /// Messages sent without a reply only measure the hand over.
+  ///
+  /// The buckets are bounded by 50, 100, 250, 500, 1000, 2500, 5000, 10000, 25000 and 50000 microseconds,
+  /// the last bucket counts all the slower messages.
+  List<int?> latencyHistogram;
+
+  Object encode() {
+    return <Object?>[
+      channel,
+      incoming,
+      messageCount,
+      requestBytes,
+      responseBytes,
+      latencyHistogram,
+    ];
+  }
+
+  static ChannelMetrics decode(Object result) {
+    result as List<Object?>;
+    return ChannelMetrics(
+      channel: result[0]! as String,
+      incoming: result[1]! as bool,
+      messageCount: result[2]! as int,
+      requestBytes: result[3]! as int,
+      responseBytes: result[4]! as int,
+      latencyHistogram: (result[5] as List<Object?>?)!.cast<int?>(),
+    );
+  }
+}
+
+class __MessengerMetricsCodec extends StandardMessageCodec {
+  const __MessengerMetricsCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ChannelMetrics) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ChannelMetrics.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+/// Opt-in instrumentation of the messages exchanged by a map instance.
+class _MessengerMetrics {
+  /// Constructor for [_MessengerMetrics].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  _MessengerMetrics({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = __MessengerMetricsCodec();
+
+  /// Starts or stops recording the traffic of every channel.
+  ///
+  /// @param enabled Whether the traffic should be recorded.
+  Future<void> setEnabled(bool arg_enabled) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._MessengerMetrics.setEnabled',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_enabled]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the traffic recorded so far, one entry per channel and direction.
+  ///
+  /// @param reset Whether the recorded traffic should be cleared.
+  Future<List<ChannelMetrics?>> getMetrics(bool arg_reset) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._MessengerMetrics.getMetrics',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_reset]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<ChannelMetrics?>();
+    }
+  }
+}
@@ -689,6 +689,174 @@ class PointAnnotationOptions {
   }
 }
 
+/// Columnar representation of a list of [PointAnnotationOptions], sent by
+/// `createMultiPacked` instead of a nested list per annotation.
+///
+/// Every property is written as one column holding a value per annotation.
+/// Coordinates and numeric properties (colors included) are packed into
+/// [Float64List]s with `NaN` marking a missing value, list properties use a
+/// fixed number of doubles per annotation, enums use one byte per annotation
+/// with 255 marking a missing value, and strings and images are dictionary
+/// encoded with -1 marking a missing value. Columns that no annotation of the
+/// batch sets are skipped.
+class _PointAnnotationOptionsBatch {
+  _PointAnnotationOptionsBatch(this.options);
+
+  static const int _noValue = 255;
+
+  final List<PointAnnotationOptions> options;
+
+  void write(StandardMessageCodec codec, WriteBuffer buffer) {
+    final int count = options.length;
+    codec.writeSize(buffer, count);
+    final Float64List coordinates = Float64List(count * 2);
+    for (int i = 0; i < count; i++) {
+      final List<Object?>? position =
+          options[i].geometry?['coordinates'] as List<Object?>?;
+      coordinates[i * 2] = (position?[0] as num?)?.toDouble() ?? double.nan;
+      coordinates[i * 2 + 1] =
+          (position?[1] as num?)?.toDouble() ?? double.nan;
+    }
+    buffer.putFloat64List(coordinates);
+    _writeDictionaryColumn<Uint8List>(
+        codec, buffer, (it) => it.image, (it) => it,
+        identity: true);
+    _writeEnumColumn(buffer, (it) => it.iconAnchor?.index);
+    _writeDictionaryColumn<String>(
+        codec, buffer, (it) => it.iconImage, (it) => utf8.encoder.convert(it));
+    _writeDoubleColumn(buffer, 2, (it) => it.iconOffset);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconRotate);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconSize);
+    _writeEnumColumn(buffer, (it) => it.iconTextFit?.index);
+    _writeDoubleColumn(buffer, 4, (it) => it.iconTextFitPadding);
+    _writeDoubleColumn(buffer, 1, (it) => it.symbolSortKey);
+    _writeEnumColumn(buffer, (it) => it.textAnchor?.index);
+    _writeDictionaryColumn<String>(
+        codec, buffer, (it) => it.textField, (it) => utf8.encoder.convert(it));
+    _writeEnumColumn(buffer, (it) => it.textJustify?.index);
+    _writeDoubleColumn(buffer, 1, (it) => it.textLetterSpacing);
+    _writeDoubleColumn(buffer, 1, (it) => it.textLineHeight);
+    _writeDoubleColumn(buffer, 1, (it) => it.textMaxWidth);
+    _writeDoubleColumn(buffer, 2, (it) => it.textOffset);
+    _writeDoubleColumn(buffer, 1, (it) => it.textRadialOffset);
+    _writeDoubleColumn(buffer, 1, (it) => it.textRotate);
+    _writeDoubleColumn(buffer, 1, (it) => it.textSize);
+    _writeEnumColumn(buffer, (it) => it.textTransform?.index);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconColor);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconEmissiveStrength);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconHaloBlur);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconHaloColor);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconHaloWidth);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconImageCrossFade);
+    _writeDoubleColumn(buffer, 1, (it) => it.iconOpacity);
+    _writeDoubleColumn(buffer, 1, (it) => it.textColor);
+    _writeDoubleColumn(buffer, 1, (it) => it.textEmissiveStrength);
+    _writeDoubleColumn(buffer, 1, (it) => it.textHaloBlur);
+    _writeDoubleColumn(buffer, 1, (it) => it.textHaloColor);
+    _writeDoubleColumn(buffer, 1, (it) => it.textHaloWidth);
+    _writeDoubleColumn(buffer, 1, (it) => it.textOpacity);
+  }
+
+  /// Writes a numeric column, [value] returns either a [num] or a list of
+  /// [arity] doubles.
+  void _writeDoubleColumn(WriteBuffer buffer, int arity,
+      Object? Function(PointAnnotationOptions) value) {
+    if (!options.any((it) => value(it) != null)) {
+      buffer.putUint8(0);
+      return;
+    }
+    buffer.putUint8(1);
+    final Float64List column = Float64List(options.length * arity)
+      ..fillRange(0, options.length * arity, double.nan);
+    for (int i = 0; i < options.length; i++) {
+      final Object? entry = value(options[i]);
+      if (entry is num) {
+        column[i] = entry.toDouble();
+      } else if (entry is List) {
+        for (int j = 0; j < arity && j < entry.length; j++) {
+          column[i * arity + j] =
+              (entry[j] as num?)?.toDouble() ?? double.nan;
+        }
+      }
+    }
+    buffer.putFloat64List(column);
+  }
+
+  void _writeEnumColumn(
+      WriteBuffer buffer, int? Function(PointAnnotationOptions) index) {
+    if (!options.any((it) => index(it) != null)) {
+      buffer.putUint8(0);
+      return;
+    }
+    buffer.putUint8(1);
+    final Uint8List column = Uint8List(options.length);
+    for (int i = 0; i < options.length; i++) {
+      column[i] = index(options[i]) ?? _noValue;
+    }
+    buffer.putUint8List(column);
+  }
+
+  void _writeDictionaryColumn<T extends Object>(
+      StandardMessageCodec codec,
+      WriteBuffer buffer,
+      T? Function(PointAnnotationOptions) value,
+      Uint8List Function(T) toBytes,
+      {bool identity = false}) {
+    if (!options.any((it) => value(it) != null)) {
+      buffer.putUint8(0);
+      return;
+    }
+    buffer.putUint8(1);
+    final Map<T, int> dictionary =
+        identity ? Map<T, int>.identity() : <T, int>{};
+    final Int32List column = Int32List(options.length);
+    for (int i = 0; i < options.length; i++) {
+      final T? entry = value(options[i]);
+      column[i] = entry == null
+          ? -1
+          : dictionary.putIfAbsent(entry, () => dictionary.length);
+    }
+    codec.writeSize(buffer, dictionary.length);
+    for (final T entry in dictionary.keys) {
+      final Uint8List bytes = toBytes(entry);
+      codec.writeSize(buffer, bytes.length);
+      buffer.putUint8List(bytes);
+    }
+    buffer.putInt32List(column);
+  }
+}
+
+/// Annotations created by `createMultiPacked`.
+class _PointAnnotationBatchResult {
+  _PointAnnotationBatchResult({
+    required this.ids,
+    required this.iconImages,
+  });
+
+  /// The ids of the created annotations, in the order of the options.
+  List<String?> ids;
+
+  /// The icon image of every annotation created from an image, as resolved by
+  /// the native annotation manager. Null for the annotations created without
+  /// an image.
+  List<String?> iconImages;
+
+  Object encode() {
+    return <Object?>[
+      ids,
+      iconImages,
+    ];
+  }
+
+  static _PointAnnotationBatchResult decode(Object result) {
+    result as List<Object?>;
+    return _PointAnnotationBatchResult(
+      ids: (result[0] as List<Object?>?)!.cast<String?>(),
+      iconImages: (result[1] as List<Object?>?)!.cast<String?>(),
+    );
+  }
+}
+
 class _OnPointAnnotationClickListenerCodec extends StandardMessageCodec {
   const _OnPointAnnotationClickListenerCodec();
   @override
@@ -753,6 +921,12 @@ class __PointAnnotationMessagerCodec extends StandardMessageCodec {
     } else if (value is PointAnnotationOptions) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
+    } else if (value is _PointAnnotationOptionsBatch) {
+      buffer.putUint8(130);
+      value.write(this, buffer);
+    } else if (value is _PointAnnotationBatchResult) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -765,6 +939,8 @@ class __PointAnnotationMessagerCodec extends StandardMessageCodec {
         return PointAnnotation.decode(readValue(buffer)!);
       case 129:
         return PointAnnotationOptions.decode(readValue(buffer)!);
+      case 131:
+        return _PointAnnotationBatchResult.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -840,6 +1016,36 @@ class _PointAnnotationMessager {
     }
   }
 
+  Future<_PointAnnotationBatchResult> createMultiPacked(String arg_managerId,
+      _PointAnnotationOptionsBatch arg_annotationOptions) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.createMultiPacked',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_managerId, arg_annotationOptions])
+            as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as _PointAnnotationBatchResult?)!;
+    }
+  }
+
   Future<void> update(
       String arg_managerId, PointAnnotation arg_annotation) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -888,6 +1094,164 @@ class _PointAnnotationMessager {
     }
   }
 
+  Future<void> updateMulti(
+      String arg_managerId, List<PointAnnotation?> arg_annotations) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.updateMulti',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_managerId, arg_annotations]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> deleteMulti(
+      String arg_managerId, List<PointAnnotation?> arg_annotations) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.deleteMulti',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_managerId, arg_annotations]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> updateGeometries(String arg_managerId, List<String?> arg_ids,
+      Float64List arg_coordinates) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.updateGeometries',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(
+        <Object?>[arg_managerId, arg_ids, arg_coordinates]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> animateGeometries(String arg_managerId, List<String?> arg_ids,
+      Float64List arg_coordinates, int arg_durationMillis) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.animateGeometries',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_managerId,
+      arg_ids,
+      arg_coordinates,
+      arg_durationMillis
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setVirtualDataset(
+      String arg_managerId,
+      Float64List arg_coordinates,
+      Int32List? arg_templateIndices,
+      List<PointAnnotationOptions?> arg_templates,
+      int arg_maxAnnotations,
+      double arg_margin) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setVirtualDataset',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_managerId,
+      arg_coordinates,
+      arg_templateIndices,
+      arg_templates,
+      arg_maxAnnotations,
+      arg_margin
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> clearVirtualDataset(String arg_managerId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.clearVirtualDataset',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_managerId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> deleteAll(String arg_managerId) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.deleteAll',
@@ -911,6 +1275,106 @@ class _PointAnnotationMessager {
     }
   }
 
+  Future<void> setProperties(
+      String arg_managerId, Map<String?, Object?> arg_properties) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.setProperties',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_managerId, arg_properties]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<Map<String?, Object?>> getProperties(String arg_managerId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.getProperties',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_managerId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as Map<Object?, Object?>?)!.cast<String?, Object?>();
+    }
+  }
+
+  Future<void> addIconImage(
+      String arg_managerId, String arg_imageId, Uint8List arg_image) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.addIconImage',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+            .send(<Object?>[arg_managerId, arg_imageId, arg_image])
+        as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removeIconImage(String arg_managerId, String arg_imageId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._PointAnnotationMessager.removeIconImage',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_managerId, arg_imageId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<void> setIconAllowOverlap(
       String arg_managerId, bool arg_iconAllowOverlap) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -0,0 +1,250 @@
+part of mapbox_maps_flutter;
+
+/// Resource requests aggregated per data source and resource type.
+///
+/// The latency percentiles are computed from the most recent requests.
+class ResourceRequestStats {
+  ResourceRequestStats({
+    required this.dataSource,
+    required this.kind,
+    required this.requestCount,
+    required this.cancelledCount,
+    required this.errorCount,
+    required this.bytes,
+    required this.cacheHits,
+    required this.latencyP50Millis,
+    required this.latencyP90Millis,
+    required this.latencyP99Millis,
+  });
+
+  /// The type of data source the resources were requested from.
+  DataSourceType dataSource;
+
+  /// The type of the requested resources.
+  RequestType kind;
+
+  /// The number of requests that completed, including the failed ones.
+  int requestCount;
+
+  /// The number of requests that were cancelled.
+  int cancelledCount;
+
+  /// The number of requests that completed with an error.
+  int errorCount;
+
+  /// The total size of the responses, in bytes.
+  int bytes;
+
+  /// The number of responses loaded from the cache.
+  int cacheHits;
+
+  /// The median time from the request until its completion, in milliseconds.
+  int latencyP50Millis;
+
+  /// The 90th percentile of the request latency, in milliseconds.
+  int latencyP90Millis;
+
+  /// The 99th percentile of the request latency, in milliseconds.
+  int latencyP99Millis;
+
+  Object encode() {
+    return <Object?>[
+      dataSource.index,
+      kind.index,
+      requestCount,
+      cancelledCount,
+      errorCount,
+      bytes,
+      cacheHits,
+      latencyP50Millis,
+      latencyP90Millis,
+      latencyP99Millis,
+    ];
+  }
+
+  static ResourceRequestStats decode(Object result) {
+    result as List<Object?>;
+    return ResourceRequestStats(
+      dataSource: DataSourceType.values[result[0]! as int],
+      kind: RequestType.values[result[1]! as int],
+      requestCount: result[2]! as int,
+      cancelledCount: result[3]! as int,
+      errorCount: result[4]! as int,
+      bytes: result[5]! as int,
+      cacheHits: result[6]! as int,
+      latencyP50Millis: result[7]! as int,
+      latencyP90Millis: result[8]! as int,
+      latencyP99Millis: result[9]! as int,
+    );
+  }
+}
+
+class __ResourceTelemetryCodec extends StandardMessageCodec {
+  const __ResourceTelemetryCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ResourceRequestStats) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ResourceRequestStats.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+/// Native aggregation of the resource requests made by a map instance.
+class _ResourceTelemetry {
+  /// Constructor for [_ResourceTelemetry].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  _ResourceTelemetry({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = __ResourceTelemetryCodec();
+
+  /// Starts aggregating the resource requests of the map.
+  ///
+  /// @param intervalMillis The interval at which summaries are sent to Flutter, 0 to only return them on demand.
+  Future<void> start(int arg_intervalMillis) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetry.start',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_intervalMillis]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Stops aggregating the resource requests and clears the aggregated values.
+  Future<void> stop() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetry.stop',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the requests aggregated so far, one entry per data source and resource type.
+  ///
+  /// @param reset Whether the aggregated values should be cleared.
+  Future<List<ResourceRequestStats?>> getSummary(bool arg_reset) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetry.getSummary',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_reset]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<ResourceRequestStats?>();
+    }
+  }
+}
+
+class __ResourceTelemetryListenerCodec extends StandardMessageCodec {
+  const __ResourceTelemetryListenerCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is ResourceRequestStats) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return ResourceRequestStats.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+/// Receives the periodic summaries of the resource requests.
+abstract class _ResourceTelemetryListener {
+  static const MessageCodec<Object?> codec = __ResourceTelemetryListenerCodec();
+
+  /// Called at the interval passed to `start` with the requests aggregated during the interval.
+  void onSummary(List<ResourceRequestStats?> stats);
+
+  static void setup(_ResourceTelemetryListener? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetryListener.onSummary', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetryListener.onSummary was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<ResourceRequestStats?>? arg_stats =
+              (args[0] as List<Object?>?)?.cast<ResourceRequestStats?>();
+          assert(arg_stats != null,
+              'Argument for dev.flutter.pigeon.mapbox_maps_flutter._ResourceTelemetryListener.onSummary was null, expected non-null List<ResourceRequestStats?>.');
+          api.onSummary(arg_stats!);
+          return;
+        });
+      }
+    }
+  }
+}